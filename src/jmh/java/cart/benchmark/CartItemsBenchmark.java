@@ -0,0 +1,67 @@
+package cart.benchmark;
+
+import cart.domain.CartItem;
+import cart.domain.CartItems;
+import cart.domain.Member;
+import cart.domain.Product;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CartItemsBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int itemCount;
+
+    private Member member;
+    private LocalDateTime orderTime;
+    private List<CartItem> cartItems;
+    private List<CartItem> purchases;
+    private OrderItems orderItems;
+
+    @Setup
+    public void setUp() {
+        member = new Member(1L, "a@a.com", "1234");
+        orderTime = LocalDateTime.now();
+        cartItems = new ArrayList<>(itemCount);
+        purchases = new ArrayList<>(itemCount);
+        final List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            final Product product = new Product((long) i + 1, "상품" + i, 1_000 * (i % 10 + 1),
+                "http://example.com/" + i + ".jpg");
+            cartItems.add(new CartItem((long) i + 1, 1, product, member));
+            purchases.add(new CartItem(member, product));
+            items.add(OrderItem.persisted((long) i + 1, product, i % 3 + 1));
+        }
+        orderItems = new OrderItems(items);
+    }
+
+    @Benchmark
+    public void buyAndOrder(final Blackhole blackhole) {
+        final CartItems items = new CartItems(cartItems);
+        for (CartItem purchase : purchases) {
+            items.buy(purchase);
+        }
+        blackhole.consume(items.order(member, orderTime));
+    }
+
+    @Benchmark
+    public long orderItemsTotalPrice() {
+        return orderItems.getTotalPrice();
+    }
+}
@@ -0,0 +1,62 @@
+package cart.benchmark;
+
+import cart.dao.MemberDao;
+import cart.domain.Member;
+import cart.ui.MemberArgumentResolver;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberArgumentResolverBenchmark {
+
+    private MemberArgumentResolver memberArgumentResolver;
+    private NativeWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        final Member member = new Member(1L, "a@a.com", "1234");
+        memberArgumentResolver = new MemberArgumentResolver(new FixedMemberDao(member));
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final String credentials = member.getEmail() + ":" + member.getPassword();
+        request.addHeader(HttpHeaders.AUTHORIZATION,
+            "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() throws Exception {
+        return memberArgumentResolver.resolveArgument(null, null, webRequest, null);
+    }
+
+    private static class FixedMemberDao extends MemberDao {
+
+        private final Member member;
+
+        private FixedMemberDao(final Member member) {
+            super(new JdbcTemplate());
+            this.member = member;
+        }
+
+        @Override
+        public Optional<Member> getMemberByEmail(final String email) {
+            return Optional.of(member);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package cart.benchmark;
+
+import cart.domain.Member;
+import cart.domain.Product;
+import cart.domain.delivery.AdvacedDeliveryPolicy;
+import cart.domain.delivery.DeliveryPolicy;
+import cart.domain.discount.AdvancedDiscountPolicy;
+import cart.domain.discount.DiscountPolicy;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.domain.order.OrderPrice;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderPriceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int orderCount;
+
+    private final DiscountPolicy discountPolicy = new AdvancedDiscountPolicy();
+    private final DeliveryPolicy deliveryPolicy = new AdvacedDeliveryPolicy();
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        final Member member = new Member(1L, "a@a.com", "1234");
+        final List<Product> products = List.of(
+            new Product(1L, "치킨", 10_000, "http://example.com/chicken.jpg"),
+            new Product(2L, "샐러드", 20_000, "http://example.com/salad.jpg"),
+            new Product(3L, "피자", 13_000, "http://example.com/pizza.jpg")
+        );
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            final List<OrderItem> orderItems = new ArrayList<>();
+            for (int j = 0; j <= i % products.size(); j++) {
+                orderItems.add(OrderItem.persisted((long) j + 1, products.get(j), i % 7 + 1));
+            }
+            orders.add(Order.persisted((long) i + 1, member, new OrderItems(orderItems), LocalDateTime.now()));
+        }
+    }
+
+    @Benchmark
+    public void boxedPolicies(final Blackhole blackhole) {
+        for (Order order : orders) {
+            final BoxedOrderPrice orderPrice = new BoxedOrderPrice(Long.valueOf(order.getProductPrice()),
+                discountPolicy, deliveryPolicy);
+            blackhole.consume(orderPrice.getProductPrice());
+            blackhole.consume(orderPrice.getDiscountPrice());
+            blackhole.consume(orderPrice.getDeliveryFee());
+            blackhole.consume(orderPrice.getTotalPrice());
+        }
+    }
+
+    @Benchmark
+    public void memoizedOrderPrice(final Blackhole blackhole) {
+        for (Order order : orders) {
+            final OrderPrice orderPrice = OrderPrice.of(order, discountPolicy, deliveryPolicy);
+            blackhole.consume(orderPrice.getProductPrice());
+            blackhole.consume(orderPrice.getDiscountPrice());
+            blackhole.consume(orderPrice.getDeliveryFee());
+            blackhole.consume(orderPrice.getTotalPrice());
+        }
+    }
+
+    private static class BoxedOrderPrice {
+
+        private final Long productPrice;
+        private final DiscountPolicy discountPolicy;
+        private final DeliveryPolicy deliveryPolicy;
+
+        private BoxedOrderPrice(final Long productPrice, final DiscountPolicy discountPolicy,
+            final DeliveryPolicy deliveryPolicy) {
+            this.productPrice = productPrice;
+            this.discountPolicy = discountPolicy;
+            this.deliveryPolicy = deliveryPolicy;
+        }
+
+        private Long getProductPrice() {
+            return productPrice;
+        }
+
+        private Long getDiscountPrice() {
+            return Long.valueOf(discountPolicy.discountOf(productPrice));
+        }
+
+        private Long getDeliveryFee() {
+            return Long.valueOf(deliveryPolicy.deliveryFeeOf(productPrice));
+        }
+
+        private Long getTotalPrice() {
+            return productPrice - getDiscountPrice() + getDeliveryFee();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package cart.benchmark;
+
+import cart.domain.delivery.AdvacedDeliveryPolicy;
+import cart.domain.delivery.BasicDeliveryPolicy;
+import cart.domain.delivery.DeliveryPolicy;
+import cart.domain.delivery.RuleBasedDeliveryPolicy;
+import cart.domain.discount.AdvancedDiscountPolicy;
+import cart.domain.discount.BasicDiscountPolicy;
+import cart.domain.discount.DiscountPolicy;
+import cart.domain.discount.RuleBasedDiscountPolicy;
+import cart.domain.order.OrderPrice;
+import cart.domain.pricing.PricingRuleBook;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PricingPolicyBenchmark {
+
+    private static final int PRICE_COUNT = 1024;
+
+    @Param({"BASIC", "ADVANCED", "RULE_BASED"})
+    private String policy;
+
+    private DiscountPolicy discountPolicy;
+    private DeliveryPolicy deliveryPolicy;
+    private long[] productPrices;
+
+    @Setup
+    public void setUp() {
+        if ("BASIC".equals(policy)) {
+            discountPolicy = new BasicDiscountPolicy();
+            deliveryPolicy = new BasicDeliveryPolicy();
+        } else if ("ADVANCED".equals(policy)) {
+            discountPolicy = new AdvancedDiscountPolicy();
+            deliveryPolicy = new AdvacedDeliveryPolicy();
+        } else {
+            final PricingRuleBook pricingRuleBook = new PricingRuleBook();
+            discountPolicy = new RuleBasedDiscountPolicy(pricingRuleBook);
+            deliveryPolicy = new RuleBasedDeliveryPolicy(pricingRuleBook);
+        }
+
+        final Random random = new Random(42L);
+        productPrices = new long[PRICE_COUNT];
+        for (int i = 0; i < PRICE_COUNT; i++) {
+            productPrices[i] = 1_000L * (1 + random.nextInt(200));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICE_COUNT)
+    public void orderPrice(final Blackhole blackhole) {
+        for (long productPrice : productPrices) {
+            blackhole.consume(OrderPrice.of(productPrice, discountPolicy, deliveryPolicy).getTotalPrice());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package cart.benchmark;
+
+import cart.config.json.ResponseJsonSerializers;
+import cart.domain.CartItem;
+import cart.domain.Member;
+import cart.domain.Product;
+import cart.domain.delivery.BasicDeliveryPolicy;
+import cart.domain.discount.BasicDiscountPolicy;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.domain.order.OrderPrice;
+import cart.dto.response.CartItemResponse;
+import cart.dto.response.OrderResponse;
+import cart.dto.response.OrdersResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"reflective", "blackbird", "handwritten"})
+    private String serializer;
+
+    @Param({"10", "100"})
+    private int orderCount;
+
+    private ObjectMapper objectMapper;
+    private OrdersResponse ordersResponse;
+    private List<CartItemResponse> cartItemResponses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = objectMapperOf(serializer);
+        final Member member = new Member(1L, "a@a.com", "1234");
+        final List<Product> products = List.of(
+            new Product(1L, "치킨", 10_000, "http://example.com/chicken.jpg"),
+            new Product(2L, "샐러드", 20_000, "http://example.com/salad.jpg"),
+            new Product(3L, "피자", 13_000, "http://example.com/pizza.jpg")
+        );
+        final List<OrderResponse> orders = new ArrayList<>(orderCount);
+        cartItemResponses = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            final List<OrderItem> orderItems = new ArrayList<>();
+            for (int j = 0; j <= i % products.size(); j++) {
+                orderItems.add(OrderItem.persisted((long) j + 1, products.get(j), i % 7 + 1));
+            }
+            final Order order = Order.persisted((long) i + 1, member, new OrderItems(orderItems),
+                LocalDateTime.now());
+            orders.add(OrderResponse.of(order,
+                OrderPrice.of(order, new BasicDiscountPolicy(), new BasicDeliveryPolicy())));
+            cartItemResponses.add(CartItemResponse.of(
+                new CartItem((long) i + 1, i % 5 + 1, products.get(i % products.size()), member)));
+        }
+        ordersResponse = new OrdersResponse(orders);
+    }
+
+    @Benchmark
+    public void ordersResponse(final ByteCounter counter) throws IOException {
+        objectMapper.writeValue(counter, ordersResponse);
+    }
+
+    @Benchmark
+    public void cartItemResponses(final ByteCounter counter) throws IOException {
+        objectMapper.writeValue(counter, cartItemResponses);
+    }
+
+    private static ObjectMapper objectMapperOf(final String serializer) {
+        switch (serializer) {
+            case "reflective":
+                return new ObjectMapper();
+            case "blackbird":
+                return new ObjectMapper().registerModule(new BlackbirdModule());
+            case "handwritten":
+                return new ObjectMapper()
+                    .registerModule(new BlackbirdModule())
+                    .registerModule(ResponseJsonSerializers.module());
+            default:
+                throw new IllegalArgumentException("unknown serializer: " + serializer);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ByteCounter extends OutputStream {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        @Override
+        public void write(final int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            bytes += len;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
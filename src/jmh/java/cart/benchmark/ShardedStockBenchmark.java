@@ -0,0 +1,40 @@
+package cart.benchmark;
+
+import cart.domain.stock.ShardedStock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class ShardedStockBenchmark {
+
+    private static final int STOCK = 1_000_000;
+
+    @Param({"1", "8"})
+    private int shards;
+
+    private ShardedStock stock;
+
+    @Setup
+    public void setUp() {
+        stock = ShardedStock.of(ShardedStock.split(STOCK, shards));
+    }
+
+    @Benchmark
+    public int[] reserveAndRelease() {
+        final int[] allocations = stock.reserve(1, ThreadLocalRandom.current().nextInt(shards));
+        stock.release(allocations);
+        return allocations;
+    }
+}
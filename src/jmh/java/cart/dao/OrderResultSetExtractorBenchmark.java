@@ -0,0 +1,64 @@
+package cart.dao;
+
+import cart.dao.OrderDao.OrderResultSetExtractor;
+import cart.domain.Member;
+import cart.domain.order.Order;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderResultSetExtractorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int orderCount;
+
+    @Param({"1", "5"})
+    private int itemsPerOrder;
+
+    private OrderResultSetExtractor extractor;
+    private SimpleResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        extractor = new OrderResultSetExtractor(new Member(1L, "a@a.com", "1234"));
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("order_id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("order_time", Types.TIMESTAMP, 26, 0);
+        resultSet.addColumn("order_item_id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("order_item_name", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("order_item_price", Types.INTEGER, 10, 0);
+        resultSet.addColumn("order_item_image_url", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("order_item_quantity", Types.INTEGER, 10, 0);
+
+        final Timestamp orderTime = Timestamp.valueOf(LocalDateTime.now());
+        long orderItemId = 1L;
+        for (long orderId = 1; orderId <= orderCount; orderId++) {
+            for (int i = 0; i < itemsPerOrder; i++) {
+                resultSet.addRow(orderId, orderTime, orderItemId++, "상품" + i, 10_000 + i,
+                    "http://example.com/" + i + ".jpg", i % 3 + 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Order> extractData() throws SQLException {
+        resultSet.beforeFirst();
+        return extractor.extractData(resultSet);
+    }
+}
@@ -0,0 +1,158 @@
+package cart.loadtest;
+
+import cart.JwpCartApplication;
+import cart.config.reactive.ReactiveCatalogServer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class CatalogConcurrencyBenchmark {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final String[] EMBEDDED_ARGS = {
+        "--server.port=0",
+        "--spring.profiles.active=loadtest",
+        "--spring.datasource.url=jdbc:h2:mem:catalog-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.sql.init.mode=always",
+        "--spring.sql.init.schema-locations=classpath:schema.sql",
+        "--spring.sql.init.data-locations=classpath:db/data.sql",
+        "--catalog.reactive.enabled=true",
+        "--catalog.reactive.port=0",
+        "--catalog.reactive.url=r2dbc:h2:mem:///catalog-benchmark;MODE=MySQL",
+        "--logging.level.root=WARN"
+    };
+
+    public static void main(final String[] args) throws Exception {
+        final int connections = Integer.parseInt(System.getProperty("loadtest.connections", "10000"));
+        final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        final Path reportDir = Paths.get(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(JwpCartApplication.class, EMBEDDED_ARGS)) {
+            final int mvcPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final int reactivePort = context.getBean(ReactiveCatalogServer.class).getPort();
+
+            final List<Run> runs = new ArrayList<>();
+            runs.add(new Run("mvc", mvcPort, connections).execute(warmup, duration));
+            runs.add(new Run("reactive", reactivePort, connections).execute(warmup, duration));
+
+            final String report = toText(runs, connections, duration);
+            Files.createDirectories(reportDir);
+            Files.writeString(reportDir.resolve("catalog-concurrency.txt"), report, StandardCharsets.UTF_8);
+            System.out.print(report);
+        }
+    }
+
+    private static String toText(final List<Run> runs, final int connections, final Duration duration) {
+        final StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "GET /products with %d concurrent connections, measured for %ds%n",
+            connections, duration.toSeconds()));
+        text.append(String.format(Locale.ROOT, "%-10s %9s %8s %10s %10s %10s %10s %10s %12s%n",
+            "stack", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "peak threads"));
+        for (Run run : runs) {
+            final Histogram histogram = run.histogram;
+            text.append(String.format(Locale.ROOT, "%-10s %9d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %12d%n",
+                run.label,
+                histogram.getTotalCount(),
+                run.errors.get(),
+                histogram.getTotalCount() / (double) Math.max(1L, duration.toSeconds()),
+                histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                run.peakThreads));
+        }
+        return text.toString();
+    }
+
+    private static class Run {
+
+        private final String label;
+        private final HttpRequest request;
+        private final int connections;
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final AtomicLong errors = new AtomicLong();
+        private int peakThreads;
+
+        private Run(final String label, final int port, final int connections) {
+            this.label = label;
+            this.request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+            this.connections = connections;
+        }
+
+        private Run execute(final Duration warmup, final Duration duration) throws InterruptedException {
+            final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            final long measureFromNanos = System.nanoTime() + warmup.toNanos();
+            final long endNanos = measureFromNanos + duration.toNanos();
+            final CountDownLatch finished = new CountDownLatch(connections);
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                final HttpClient httpClient = HttpClient.newBuilder().executor(clients).build();
+                for (int i = 0; i < connections; i++) {
+                    clients.execute(() -> {
+                        try {
+                            loop(httpClient, measureFromNanos, endNanos);
+                        } finally {
+                            finished.countDown();
+                        }
+                    });
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.max(0L, measureFromNanos - System.nanoTime()));
+                threads.resetPeakThreadCount();
+                finished.await();
+                peakThreads = threads.getPeakThreadCount();
+            }
+            return this;
+        }
+
+        private void loop(final HttpClient httpClient, final long measureFromNanos, final long endNanos) {
+            long now = System.nanoTime();
+            while (now < endNanos) {
+                final long startNanos = now;
+                boolean success;
+                try {
+                    success = httpClient.send(request, BodyHandlers.discarding()).statusCode() == 200;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    success = false;
+                }
+                now = System.nanoTime();
+                if (startNanos >= measureFromNanos && now < endNanos) {
+                    final long latencyMicros = TimeUnit.NANOSECONDS.toMicros(now - startNanos);
+                    histogram.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, latencyMicros));
+                    if (!success) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+}
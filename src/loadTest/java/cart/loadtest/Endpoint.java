@@ -0,0 +1,28 @@
+package cart.loadtest;
+
+public enum Endpoint {
+
+    GET_PRODUCTS("GET /products"),
+    GET_CART_ITEMS("GET /cart-items"),
+    POST_CART_ITEMS("POST /cart-items"),
+    POST_ORDERS("POST /orders");
+
+    private final String label;
+
+    Endpoint(final String label) {
+        this.label = label;
+    }
+
+    public static Endpoint fromLabel(final String label) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.label.equalsIgnoreCase(label.trim()) || endpoint.name().equalsIgnoreCase(label.trim())) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 엔드포인트입니다: " + label);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
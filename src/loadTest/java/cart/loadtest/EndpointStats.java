@@ -0,0 +1,54 @@
+package cart.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Endpoint endpoint;
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public EndpointStats(final Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void recordSuccess(final long latencyNanos) {
+        histogram.recordValue(toMicros(latencyNanos));
+    }
+
+    public void recordError(final long latencyNanos) {
+        histogram.recordValue(toMicros(latencyNanos));
+        errors.incrementAndGet();
+    }
+
+    public void recordDropped() {
+        dropped.incrementAndGet();
+    }
+
+    private long toMicros(final long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,196 @@
+package cart.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final List<LoadTestMember> members;
+    private final List<Long> productIds;
+    private final HttpClient httpClient;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Endpoint[] weightedEndpoints;
+    private final BlockingQueue<LoadTestMember> idleMembers;
+    private final Semaphore inFlight;
+
+    public LoadGenerator(final LoadTestConfig config, final String baseUrl, final List<LoadTestMember> members,
+        final List<Long> productIds) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.members = members;
+        this.productIds = productIds;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(config.getRequestTimeout())
+            .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+        this.weightedEndpoints = weightedEndpointsOf(config.getMix());
+        this.idleMembers = new LinkedBlockingQueue<>(members);
+        this.inFlight = new Semaphore(config.getMaxInFlight());
+    }
+
+    public LoadTestResult run(final String label) throws InterruptedException {
+        final long startNanos = System.nanoTime();
+        final long measureFromNanos = startNanos + config.getWarmup().toNanos();
+        final long endNanos = measureFromNanos + config.getDuration().toNanos();
+
+        long intendedNanos = startNanos;
+        while (intendedNanos < endNanos) {
+            sleepUntil(intendedNanos);
+            final Endpoint endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+            fire(endpoint, intendedNanos, intendedNanos >= measureFromNanos);
+            intendedNanos += nextIntervalNanos();
+        }
+
+        final long drainTimeoutMillis = config.getRequestTimeout().toMillis() * 2;
+        final boolean drained = inFlight.tryAcquire(config.getMaxInFlight(), drainTimeoutMillis, TimeUnit.MILLISECONDS);
+        return new LoadTestResult(label, new ArrayList<>(stats.values()), config.getDuration(),
+            config.getRatePerSecond(), drained);
+    }
+
+    private void fire(final Endpoint endpoint, final long intendedNanos, final boolean measured) {
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                stats.get(endpoint).recordDropped();
+            }
+            return;
+        }
+        final CompletableFuture<Boolean> request;
+        if (endpoint == Endpoint.POST_ORDERS) {
+            request = placeOrder(intendedNanos, measured);
+        } else {
+            request = send(endpoint, requestOf(endpoint, randomMember()), intendedNanos, measured);
+        }
+        request.whenComplete((ignored, e) -> inFlight.release());
+    }
+
+    private CompletableFuture<Boolean> placeOrder(final long intendedNanos, final boolean measured) {
+        final LoadTestMember member = idleMembers.poll();
+        if (member == null) {
+            if (measured) {
+                stats.get(Endpoint.POST_ORDERS).recordDropped();
+            }
+            return CompletableFuture.completedFuture(false);
+        }
+        final long productId = randomProductId();
+        return send(Endpoint.POST_CART_ITEMS, post("/cart-items", member, cartItemBody(productId)), intendedNanos,
+            measured)
+            .thenCompose(added -> {
+                if (!added) {
+                    if (measured) {
+                        stats.get(Endpoint.POST_ORDERS).recordError(System.nanoTime() - intendedNanos);
+                    }
+                    return CompletableFuture.completedFuture(false);
+                }
+                return send(Endpoint.POST_ORDERS, post("/orders", member, orderBody(productId)), intendedNanos,
+                    measured);
+            })
+            .whenComplete((ignored, e) -> idleMembers.add(member));
+    }
+
+    private CompletableFuture<Boolean> send(final Endpoint endpoint, final HttpRequest request,
+        final long startNanos, final boolean measured) {
+        return httpClient.sendAsync(request, BodyHandlers.discarding())
+            .handle((response, e) -> {
+                final long latencyNanos = System.nanoTime() - startNanos;
+                final boolean succeeded = e == null && response.statusCode() < 400;
+                if (measured && succeeded) {
+                    stats.get(endpoint).recordSuccess(latencyNanos);
+                } else if (measured) {
+                    stats.get(endpoint).recordError(latencyNanos);
+                }
+                return succeeded;
+            });
+    }
+
+    private HttpRequest requestOf(final Endpoint endpoint, final LoadTestMember member) {
+        switch (endpoint) {
+            case GET_PRODUCTS:
+                return get("/products", member);
+            case GET_CART_ITEMS:
+                return get("/cart-items", member);
+            case POST_CART_ITEMS:
+                return post("/cart-items", member, cartItemBody(randomProductId()));
+            default:
+                throw new IllegalArgumentException("지원하지 않는 엔드포인트입니다: " + endpoint.getLabel());
+        }
+    }
+
+    private HttpRequest get(final String path, final LoadTestMember member) {
+        return requestBuilder(path, member).GET().build();
+    }
+
+    private HttpRequest post(final String path, final LoadTestMember member, final String body) {
+        return requestBuilder(path, member)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest.Builder requestBuilder(final String path, final LoadTestMember member) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(config.getRequestTimeout())
+            .header("Authorization", member.getAuthorization());
+    }
+
+    private String cartItemBody(final long productId) {
+        return "{\"productId\":" + productId + "}";
+    }
+
+    private String orderBody(final long productId) {
+        return "{\"orderItems\":[{\"id\":" + productId + ",\"quantity\":1}],"
+            + "\"orderTime\":\"" + LocalDateTime.now() + "\"}";
+    }
+
+    private LoadTestMember randomMember() {
+        return members.get(ThreadLocalRandom.current().nextInt(members.size()));
+    }
+
+    private long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    private long nextIntervalNanos() {
+        final double meanNanos = TimeUnit.SECONDS.toNanos(1) / config.getRatePerSecond();
+        if (!config.isPoisson()) {
+            return Math.max(1L, (long) meanNanos);
+        }
+        final double uniform = ThreadLocalRandom.current().nextDouble();
+        return Math.max(1L, (long) (-Math.log(1.0 - uniform) * meanNanos));
+    }
+
+    private static void sleepUntil(final long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = deadlineNanos - System.nanoTime();
+        }
+    }
+
+    private static Endpoint[] weightedEndpointsOf(final Map<Endpoint, Integer> mix) {
+        final List<Endpoint> endpoints = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                endpoints.add(endpoint);
+            }
+        });
+        return endpoints.toArray(new Endpoint[0]);
+    }
+}
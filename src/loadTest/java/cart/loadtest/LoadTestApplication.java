@@ -0,0 +1,119 @@
+package cart.loadtest;
+
+import cart.JwpCartApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class LoadTestApplication {
+
+    private static final String MEMBER_PASSWORD = "loadtest";
+    private static final String[] EMBEDDED_ARGS = {
+        "--server.port=0",
+        "--spring.profiles.active=loadtest",
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.sql.init.mode=always",
+        "--spring.sql.init.schema-locations=classpath:schema.sql",
+        "--spring.sql.init.data-locations=classpath:db/data.sql",
+        "--logging.level.root=WARN"
+    };
+
+    public static void main(final String[] args) throws Exception {
+        final LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        if (config.hasExternalTarget()) {
+            final List<LoadTestMember> members =
+                parseCredentials(System.getProperty("loadtest.credentials", "a@a.com:1234,b@b.com:1234"));
+            report(run(config, config.getTargetUrl(), members, "external"), config.getReportDir());
+            return;
+        }
+
+        final List<LoadTestResult> results = new ArrayList<>();
+        for (ThreadMode threadMode : config.getThreadModes()) {
+            final LoadTestResult result = runEmbedded(config, threadMode);
+            report(result, config.getReportDir().resolve(threadMode.getLabel()));
+            results.add(result);
+        }
+        if (results.size() > 1) {
+            final String comparison = LoadTestReport.compare(results);
+            Files.writeString(config.getReportDir().resolve("comparison.txt"), comparison, StandardCharsets.UTF_8);
+            System.out.print(comparison);
+        }
+    }
+
+    private static LoadTestResult runEmbedded(final LoadTestConfig config, final ThreadMode threadMode)
+        throws Exception {
+        final List<String> args = new ArrayList<>(List.of(EMBEDDED_ARGS));
+        args.add("--spring.datasource.url=jdbc:h2:mem:loadtest-" + threadMode.getLabel()
+            + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        args.add("--spring.threads.virtual.enabled=" + threadMode.isVirtual());
+        args.add("--server.tomcat.threads.max=" + config.getPlatformThreads());
+        args.add("--spring.datasource.hikari.maximum-pool-size=" + config.getDbPoolSize());
+        try (ConfigurableApplicationContext context =
+            SpringApplication.run(JwpCartApplication.class, args.toArray(String[]::new))) {
+            final String baseUrl =
+                "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            final List<LoadTestMember> members =
+                seedMembers(context.getBean(JdbcTemplate.class), config.getMembers());
+            return run(config, baseUrl, members, threadMode.getLabel());
+        }
+    }
+
+    private static LoadTestResult run(final LoadTestConfig config, final String baseUrl,
+        final List<LoadTestMember> members, final String label) throws IOException, InterruptedException {
+        final List<Long> productIds = fetchProductIds(baseUrl);
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("부하 테스트에 사용할 상품이 없습니다.");
+        }
+        return new LoadGenerator(config, baseUrl, members, productIds).run(label);
+    }
+
+    private static void report(final LoadTestResult result, final Path reportDir) throws IOException {
+        final LoadTestReport report = new LoadTestReport(result);
+        report.writeTo(reportDir);
+        System.out.print(report.toText());
+    }
+
+    private static List<LoadTestMember> seedMembers(final JdbcTemplate jdbcTemplate, final int count) {
+        final List<Object[]> params = new ArrayList<>(count);
+        final List<LoadTestMember> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String email = "loadtest-" + i + "@example.com";
+            params.add(new Object[]{email, MEMBER_PASSWORD});
+            members.add(new LoadTestMember(email, MEMBER_PASSWORD));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (email, password) VALUES (?, ?)", params);
+        return members;
+    }
+
+    private static List<LoadTestMember> parseCredentials(final String credentials) {
+        final List<LoadTestMember> members = new ArrayList<>();
+        for (String credential : credentials.split(",")) {
+            final String[] pair = credential.trim().split(":", 2);
+            members.add(new LoadTestMember(pair[0], pair[1]));
+        }
+        return members;
+    }
+
+    private static List<Long> fetchProductIds(final String baseUrl) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/products")).GET().build();
+        final String body = HttpClient.newHttpClient().send(request, BodyHandlers.ofString()).body();
+        final List<Long> productIds = new ArrayList<>();
+        for (JsonNode product : new ObjectMapper().readTree(body)) {
+            productIds.add(product.get("id").asLong());
+        }
+        return productIds;
+    }
+}
@@ -0,0 +1,152 @@
+package cart.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class LoadTestConfig {
+
+    private static final String DEFAULT_MIX = "GET /products=6,GET /cart-items=3,POST /orders=1";
+
+    private final String targetUrl;
+    private final double ratePerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+    private final boolean poisson;
+    private final Map<Endpoint, Integer> mix;
+    private final int members;
+    private final int maxInFlight;
+    private final Duration requestTimeout;
+    private final Path reportDir;
+    private final List<ThreadMode> threadModes;
+    private final int platformThreads;
+    private final int dbPoolSize;
+
+    private LoadTestConfig(final String targetUrl, final double ratePerSecond, final Duration warmup,
+        final Duration duration, final boolean poisson, final Map<Endpoint, Integer> mix, final int members,
+        final int maxInFlight, final Duration requestTimeout, final Path reportDir,
+        final List<ThreadMode> threadModes, final int platformThreads, final int dbPoolSize) {
+        this.targetUrl = targetUrl;
+        this.ratePerSecond = ratePerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.poisson = poisson;
+        this.mix = mix;
+        this.members = members;
+        this.maxInFlight = maxInFlight;
+        this.requestTimeout = requestTimeout;
+        this.reportDir = reportDir;
+        this.threadModes = threadModes;
+        this.platformThreads = platformThreads;
+        this.dbPoolSize = dbPoolSize;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            System.getProperty("loadtest.target", ""),
+            Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+            Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+            Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+            "poisson".equalsIgnoreCase(System.getProperty("loadtest.arrival", "poisson")),
+            parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+            Integer.parseInt(System.getProperty("loadtest.members", "200")),
+            Integer.parseInt(System.getProperty("loadtest.max-in-flight", "2000")),
+            Duration.parse(System.getProperty("loadtest.request-timeout", "PT10S")),
+            Paths.get(System.getProperty("loadtest.report-dir", "build/reports/loadtest")),
+            parseThreadModes(System.getProperty("loadtest.thread-modes", "platform")),
+            Integer.parseInt(System.getProperty("loadtest.platform-threads", "200")),
+            Integer.parseInt(System.getProperty("loadtest.db-pool-size", "10"))
+        );
+    }
+
+    private static List<ThreadMode> parseThreadModes(final String modes) {
+        final List<ThreadMode> parsed = new ArrayList<>();
+        for (String mode : modes.split(",")) {
+            if (!mode.isBlank()) {
+                parsed.add(ThreadMode.fromLabel(mode));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("스레드 모드가 비어 있습니다.");
+        }
+        return parsed;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(final String mix) {
+        final Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final String[] pair = entry.split("=");
+            final int weight = pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1;
+            if (weight > 0) {
+                weights.merge(Endpoint.fromLabel(pair[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("부하 비율이 비어 있습니다.");
+        }
+        return weights;
+    }
+
+    public boolean hasExternalTarget() {
+        return !targetUrl.isBlank();
+    }
+
+    public String getTargetUrl() {
+        return targetUrl;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public boolean isPoisson() {
+        return poisson;
+    }
+
+    public Map<Endpoint, Integer> getMix() {
+        return mix;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public Path getReportDir() {
+        return reportDir;
+    }
+
+    public List<ThreadMode> getThreadModes() {
+        return threadModes;
+    }
+
+    public int getPlatformThreads() {
+        return platformThreads;
+    }
+
+    public int getDbPoolSize() {
+        return dbPoolSize;
+    }
+}
@@ -0,0 +1,25 @@
+package cart.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class LoadTestMember {
+
+    private final String email;
+    private final String authorization;
+
+    public LoadTestMember(final String email, final String password) {
+        this.email = email;
+        final String credentials = email + ":" + password;
+        this.authorization = "Basic " + Base64.getEncoder()
+            .encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAuthorization() {
+        return authorization;
+    }
+}
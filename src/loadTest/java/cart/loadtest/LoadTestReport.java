@@ -0,0 +1,127 @@
+package cart.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import org.HdrHistogram.Histogram;
+
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestResult result;
+
+    public LoadTestReport(final LoadTestResult result) {
+        this.result = result;
+    }
+
+    public void writeTo(final Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("report.txt"), toText(), StandardCharsets.UTF_8);
+        Files.writeString(reportDir.resolve("report.json"), toJson(), StandardCharsets.UTF_8);
+    }
+
+    public static String compare(final List<LoadTestResult> results) {
+        final StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-10s %10s %8s %8s %8s %10s %10s %10s%n",
+            "mode", "req/s", "errors", "dropped", "drop%", "p50(ms)", "p99(ms)", "p999(ms)"));
+        for (LoadTestResult result : results) {
+            final Histogram merged = new Histogram(3);
+            long errors = 0L;
+            long dropped = 0L;
+            for (EndpointStats stats : result.getEndpointStats()) {
+                merged.add(stats.getHistogram());
+                errors += stats.getErrors();
+                dropped += stats.getDropped();
+            }
+            text.append(String.format(Locale.ROOT, "%-10s %10.1f %8d %8d %8.2f %10.2f %10.2f %10.2f%n",
+                result.getLabel(),
+                new LoadTestReport(result).throughputOf(merged),
+                errors,
+                dropped,
+                dropPercentOf(merged.getTotalCount(), dropped),
+                percentileMillis(merged, 50.0),
+                percentileMillis(merged, 99.0),
+                percentileMillis(merged, 99.9)));
+        }
+        return text.toString();
+    }
+
+    public String toText() {
+        final StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "[%s] offered rate: %.1f req/s, measured for %ds%s%n",
+            result.getLabel(), result.getOfferedRate(), result.getMeasuredDuration().toSeconds(),
+            result.isDrained() ? "" : " (in-flight requests did not drain)"));
+        text.append(String.format(Locale.ROOT, "%-18s %9s %8s %8s %10s %8s %10s %10s %10s %10s%n",
+            "endpoint", "count", "errors", "dropped", "req/s", "drop%", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        for (EndpointStats stats : result.getEndpointStats()) {
+            final Histogram histogram = stats.getHistogram();
+            if (histogram.getTotalCount() == 0 && stats.getDropped() == 0) {
+                continue;
+            }
+            text.append(String.format(Locale.ROOT, "%-18s %9d %8d %8d %10.1f %8.2f %10.2f %10.2f %10.2f %10.2f%n",
+                stats.getEndpoint().getLabel(),
+                histogram.getTotalCount(),
+                stats.getErrors(),
+                stats.getDropped(),
+                throughputOf(histogram),
+                dropPercentOf(histogram.getTotalCount(), stats.getDropped()),
+                percentileMillis(histogram, 50.0),
+                percentileMillis(histogram, 99.0),
+                percentileMillis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI));
+        }
+        return text.toString();
+    }
+
+    public String toJson() {
+        final StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT,
+            "{\"label\":\"%s\",\"offeredRate\":%.1f,\"durationSeconds\":%d,\"drained\":%b,",
+            result.getLabel(), result.getOfferedRate(), result.getMeasuredDuration().toSeconds(), result.isDrained()));
+        json.append("\"endpoints\":[");
+        boolean first = true;
+        for (EndpointStats stats : result.getEndpointStats()) {
+            final Histogram histogram = stats.getHistogram();
+            if (histogram.getTotalCount() == 0 && stats.getDropped() == 0) {
+                continue;
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append(String.format(Locale.ROOT,
+                "{\"endpoint\":\"%s\",\"count\":%d,\"errors\":%d,\"dropped\":%d,\"throughput\":%.2f,"
+                    + "\"dropPercent\":%.3f,\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"p999Millis\":%.3f,\"maxMillis\":%.3f}",
+                stats.getEndpoint().getLabel(),
+                histogram.getTotalCount(),
+                stats.getErrors(),
+                stats.getDropped(),
+                throughputOf(histogram),
+                dropPercentOf(histogram.getTotalCount(), stats.getDropped()),
+                percentileMillis(histogram, 50.0),
+                percentileMillis(histogram, 99.0),
+                percentileMillis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI));
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    private double throughputOf(final Histogram histogram) {
+        final double seconds = result.getMeasuredDuration().toMillis() / 1000.0;
+        return seconds <= 0 ? 0.0 : histogram.getTotalCount() / seconds;
+    }
+
+    private static double dropPercentOf(final long completed, final long dropped) {
+        final long offered = completed + dropped;
+        return offered == 0 ? 0.0 : dropped * 100.0 / offered;
+    }
+
+    private static double percentileMillis(final Histogram histogram, final double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
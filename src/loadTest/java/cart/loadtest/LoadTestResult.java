@@ -0,0 +1,42 @@
+package cart.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+public class LoadTestResult {
+
+    private final String label;
+    private final List<EndpointStats> endpointStats;
+    private final Duration measuredDuration;
+    private final double offeredRate;
+    private final boolean drained;
+
+    public LoadTestResult(final String label, final List<EndpointStats> endpointStats, final Duration measuredDuration,
+        final double offeredRate, final boolean drained) {
+        this.label = label;
+        this.endpointStats = endpointStats;
+        this.measuredDuration = measuredDuration;
+        this.offeredRate = offeredRate;
+        this.drained = drained;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public List<EndpointStats> getEndpointStats() {
+        return endpointStats;
+    }
+
+    public Duration getMeasuredDuration() {
+        return measuredDuration;
+    }
+
+    public double getOfferedRate() {
+        return offeredRate;
+    }
+
+    public boolean isDrained() {
+        return drained;
+    }
+}
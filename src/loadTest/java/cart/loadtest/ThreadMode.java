@@ -0,0 +1,32 @@
+package cart.loadtest;
+
+public enum ThreadMode {
+
+    PLATFORM("platform", false),
+    VIRTUAL("virtual", true);
+
+    private final String label;
+    private final boolean virtual;
+
+    ThreadMode(final String label, final boolean virtual) {
+        this.label = label;
+        this.virtual = virtual;
+    }
+
+    public static ThreadMode fromLabel(final String label) {
+        for (ThreadMode threadMode : values()) {
+            if (threadMode.label.equalsIgnoreCase(label.trim())) {
+                return threadMode;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 스레드 모드입니다: " + label);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+}
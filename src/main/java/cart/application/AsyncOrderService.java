@@ -0,0 +1,206 @@
+package cart.application;
+
+import cart.domain.Member;
+import cart.domain.order.OrderSnapshot;
+import cart.domain.order.QueuedOrder;
+import cart.domain.respository.queuedorder.QueuedOrderRepository;
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.OrderRequest;
+import cart.dto.response.OrderQueueStatsResponse;
+import cart.dto.response.QueuedOrderResponse;
+import cart.exception.OrderException;
+import cart.exception.OrderException.OrderQueueFullException;
+import cart.exception.OrderException.QueuedOrderNotExistException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class AsyncOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncOrderService.class);
+    private static final int RECOVERY_CHUNK_SIZE = 100;
+    private static final long RESUBMIT_BACKOFF_MILLIS = 50L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final OrderService orderService;
+    private final QueuedOrderRepository queuedOrderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor workers;
+    private final int queueCapacity;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public AsyncOrderService(
+        final OrderService orderService,
+        final QueuedOrderRepository queuedOrderRepository,
+        final PlatformTransactionManager transactionManager,
+        final ObjectMapper objectMapper,
+        @Value("${order.async.worker-count:4}") final int workerCount,
+        @Value("${order.async.queue-capacity:1000}") final int queueCapacity
+    ) {
+        this.orderService = orderService;
+        this.queuedOrderRepository = queuedOrderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("order-worker-"));
+    }
+
+    public QueuedOrderResponse enqueue(final Member member, final OrderRequest orderRequest) {
+        validate(orderRequest);
+        if (workers.getQueue().remainingCapacity() == 0) {
+            rejectedCount.incrementAndGet();
+            throw new OrderQueueFullException("주문 대기열이 가득 찼습니다.");
+        }
+
+        final QueuedOrder queuedOrder = queuedOrderRepository.save(
+            QueuedOrder.pending(member.getId(), serialize(orderRequest), LocalDateTime.now()));
+        try {
+            workers.execute(() -> process(queuedOrder));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            queuedOrderRepository.markFailed(queuedOrder.getId(), "주문 대기열이 가득 찼습니다.");
+            throw new OrderQueueFullException("주문 대기열이 가득 찼습니다.");
+        }
+        return QueuedOrderResponse.of(queuedOrder);
+    }
+
+    public QueuedOrderResponse getQueuedOrder(final Member member, final Long requestId) {
+        final QueuedOrder queuedOrder = queuedOrderRepository.findById(member.getId(), requestId)
+            .orElseThrow(() -> new QueuedOrderNotExistException("주문 요청이 존재하지 않습니다."));
+        return QueuedOrderResponse.of(queuedOrder);
+    }
+
+    public OrderQueueStatsResponse getStats() {
+        return new OrderQueueStatsResponse(
+            workers.getQueue().size(),
+            queueCapacity,
+            workers.getActiveCount(),
+            rejectedCount.get(),
+            completedCount.get(),
+            failedCount.get()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        final int interrupted = queuedOrderRepository.resetProcessing();
+        if (interrupted > 0) {
+            log.info("requeued interrupted order requests; count={}", interrupted);
+        }
+        final Thread recovery = new Thread(this::resubmitPending, "order-queue-recovery");
+        recovery.setDaemon(true);
+        recovery.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.getQueue().clear();
+        workers.shutdown();
+        workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void validate(final OrderRequest orderRequest) {
+        final List<OrderItemRequest> orderItems = orderRequest.getOrderItems();
+        if (orderItems == null || orderItems.isEmpty()) {
+            throw new OrderException("주문할 상품이 존재하지 않습니다.");
+        }
+        for (OrderItemRequest orderItem : orderItems) {
+            if (orderItem.getId() == null || orderItem.getQuantity() == null || orderItem.getQuantity() <= 0) {
+                throw new OrderException("주문 상품 정보가 올바르지 않습니다.");
+            }
+        }
+    }
+
+    private void process(final QueuedOrder queuedOrder) {
+        if (!queuedOrderRepository.markProcessing(queuedOrder.getId())) {
+            return;
+        }
+        try {
+            final OrderRequest orderRequest = deserialize(queuedOrder.getPayload());
+            transactionTemplate.executeWithoutResult(status -> {
+                final OrderSnapshot orderSnapshot = orderService.createOrder(queuedOrder.getMemberId(), orderRequest);
+                queuedOrderRepository.markCompleted(queuedOrder.getId(), orderSnapshot.getOrderId());
+            });
+            completedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            queuedOrderRepository.markFailed(queuedOrder.getId(), failureMessageOf(e));
+            log.warn("queued order failed; requestId={}", queuedOrder.getId(), e);
+        }
+    }
+
+    private void resubmitPending() {
+        long lastId = 0L;
+        List<QueuedOrder> pending = queuedOrderRepository.findPending(lastId, RECOVERY_CHUNK_SIZE);
+        while (!pending.isEmpty()) {
+            for (QueuedOrder queuedOrder : pending) {
+                if (!submitBlocking(queuedOrder)) {
+                    return;
+                }
+                lastId = queuedOrder.getId();
+            }
+            pending = queuedOrderRepository.findPending(lastId, RECOVERY_CHUNK_SIZE);
+        }
+    }
+
+    private boolean submitBlocking(final QueuedOrder queuedOrder) {
+        while (!workers.isShutdown()) {
+            try {
+                workers.execute(() -> process(queuedOrder));
+                return true;
+            } catch (RejectedExecutionException e) {
+                try {
+                    Thread.sleep(RESUBMIT_BACKOFF_MILLIS);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String serialize(final OrderRequest orderRequest) {
+        try {
+            return objectMapper.writeValueAsString(orderRequest);
+        } catch (JsonProcessingException e) {
+            throw new OrderException("주문 요청을 직렬화할 수 없습니다.");
+        }
+    }
+
+    private OrderRequest deserialize(final String payload) {
+        try {
+            return objectMapper.readValue(payload, OrderRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new OrderException("주문 요청을 읽을 수 없습니다.");
+        }
+    }
+
+    private String failureMessageOf(final RuntimeException e) {
+        if (e.getMessage() == null) {
+            return e.getClass().getSimpleName();
+        }
+        return e.getMessage();
+    }
+}
@@ -12,6 +12,7 @@ import cart.exception.CartItemException;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CartItemService {
@@ -24,6 +25,7 @@ public class CartItemService {
         this.cartItemRepository = cartItemRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<CartItemResponse> findByMember(Member member) {
         final List<CartItem> cartItems = cartItemRepository.findByMemberId(member.getId());
         return cartItems.stream()
@@ -31,10 +33,10 @@ public class CartItemService {
             .collect(Collectors.toList());
     }
 
-    public CartItem add(Member member, CartItemRequest cartItemRequest) {
+    public CartItemResponse add(Member member, CartItemRequest cartItemRequest) {
         final Product productById = productRepository.getProductById(cartItemRequest.getProductId())
             .orElseThrow(() -> new CartItemException.CartItemNotExisctException("장바구니 상품이 존재하지 않습니다."));
-        return cartItemRepository.save(new CartItem(member, productById));
+        return CartItemResponse.of(cartItemRepository.save(new CartItem(member, productById)));
     }
 
     public void updateQuantity(Member member, Long id, CartItemQuantityUpdateRequest request) {
@@ -0,0 +1,127 @@
+package cart.application;
+
+import cart.domain.coupon.Coupon;
+import cart.domain.coupon.CouponCounter;
+import cart.domain.respository.coupon.CouponRepository;
+import cart.dto.request.CouponRequest;
+import cart.dto.response.CouponResponse;
+import cart.exception.CouponException.CouponExhaustedException;
+import cart.exception.CouponException.CouponNotApplicableException;
+import cart.exception.CouponException.CouponNotExistException;
+import cart.exception.CouponException.CouponUsageLimitExceededException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class CouponService {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponService.class);
+    private static final int DEFAULT_PER_MEMBER_LIMIT = 1;
+
+    private final CouponRepository couponRepository;
+    private final Map<Long, CouponCounter> counters = new ConcurrentHashMap<>();
+
+    public CouponService(final CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    @Transactional
+    public Coupon createCoupon(final CouponRequest couponRequest) {
+        final long minOrderPrice = couponRequest.getMinOrderPrice() == null ? 0L : couponRequest.getMinOrderPrice();
+        final int perMemberLimit = couponRequest.getPerMemberLimit() == null
+            ? DEFAULT_PER_MEMBER_LIMIT
+            : couponRequest.getPerMemberLimit();
+        return couponRepository.insert(Coupon.beforePersisted(couponRequest.getName(),
+            couponRequest.getDiscountAmount(), minOrderPrice, couponRequest.getTotalLimit(), perMemberLimit));
+    }
+
+    @Transactional(readOnly = true)
+    public CouponResponse getCoupon(final Long couponId) {
+        final Coupon coupon = findExistCoupon(couponId);
+        return CouponResponse.of(coupon, getCounter(coupon));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long redeem(final Long memberId, final Long couponId, final long productPrice) {
+        final Coupon coupon = findExistCoupon(couponId);
+        if (!coupon.isApplicableTo(productPrice)) {
+            throw new CouponNotApplicableException("쿠폰을 적용할 수 없는 주문 금액입니다.");
+        }
+
+        final CouponCounter counter = getCounter(coupon);
+        if (!counter.tryAcquire()) {
+            throw new CouponExhaustedException("쿠폰이 모두 소진되었습니다.");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    counter.confirm();
+                    return;
+                }
+                counter.cancel();
+            }
+        });
+
+        if (!couponRepository.increaseMemberUsage(couponId, memberId, coupon.getPerMemberLimit())) {
+            throw new CouponUsageLimitExceededException("쿠폰 사용 횟수를 초과했습니다.");
+        }
+        return coupon.discountOf(productPrice);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.reconcile-interval:PT1S}")
+    public void reconcile() {
+        final Map<Long, Integer> usedCounts = new HashMap<>();
+        counters.forEach((couponId, counter) -> {
+            final int used = counter.drainUnreconciled();
+            if (used > 0) {
+                usedCounts.put(couponId, used);
+            }
+        });
+        if (usedCounts.isEmpty()) {
+            return;
+        }
+        try {
+            couponRepository.addUsedCounts(usedCounts);
+        } catch (RuntimeException e) {
+            usedCounts.forEach((couponId, used) -> counters.get(couponId).restoreUnreconciled(used));
+            log.warn("coupon usage reconciliation failed; coupons={}", usedCounts.size(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncUsedCounts() {
+        couponRepository.syncUsedCounts();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconcile();
+    }
+
+    private CouponCounter getCounter(final Coupon coupon) {
+        return counters.computeIfAbsent(coupon.getId(), couponId -> {
+            if (!coupon.isLimited()) {
+                return CouponCounter.unlimited();
+            }
+            return CouponCounter.limited(coupon.getTotalLimit() - couponRepository.countUsages(couponId));
+        });
+    }
+
+    private Coupon findExistCoupon(final Long couponId) {
+        return couponRepository.findById(couponId)
+            .orElseThrow(() -> new CouponNotExistException("쿠폰이 존재하지 않습니다."));
+    }
+}
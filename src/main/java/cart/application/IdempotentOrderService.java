@@ -0,0 +1,200 @@
+package cart.application;
+
+import cart.domain.Member;
+import cart.domain.order.OrderSnapshot;
+import cart.domain.respository.idempotency.OrderIdempotencyKeyRepository;
+import cart.dto.request.OrderRequest;
+import cart.exception.OrderException;
+import cart.exception.OrderException.IdempotencyKeyReusedException;
+import cart.exception.OrderException.OrderInProgressException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class IdempotentOrderService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final Duration window;
+    private final Duration waitTimeout;
+    private final Map<String, InFlightOrder> inFlightOrders = new ConcurrentHashMap<>();
+    private final Map<String, CachedOrderSnapshot> completedOrders;
+
+    public IdempotentOrderService(
+        final OrderService orderService,
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        @Value("${order.idempotency.window:PT24H}") final Duration window,
+        @Value("${order.idempotency.wait-timeout:PT10S}") final Duration waitTimeout,
+        @Value("${order.idempotency.cache-size:10000}") final int cacheSize
+    ) {
+        this.orderService = orderService;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.window = window;
+        this.waitTimeout = waitTimeout;
+        this.completedOrders = Collections.synchronizedMap(new LinkedHashMap<String, CachedOrderSnapshot>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedOrderSnapshot> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public OrderSnapshot createOrder(final Member member, final String idempotencyKey,
+        final OrderRequest orderRequest) {
+        validate(idempotencyKey);
+        final String cacheKey = member.getId() + ":" + idempotencyKey;
+        final String requestHash = hash(orderRequest);
+
+        final CachedOrderSnapshot cached = completedOrders.get(cacheKey);
+        if (cached != null && cached.isValidAt(LocalDateTime.now())) {
+            validateSameRequest(cached.getRequestHash(), requestHash);
+            return cached.getOrderSnapshot();
+        }
+
+        final InFlightOrder placing = new InFlightOrder(requestHash);
+        final InFlightOrder inFlight = inFlightOrders.putIfAbsent(cacheKey, placing);
+        if (inFlight != null) {
+            validateSameRequest(inFlight.getRequestHash(), requestHash);
+            return await(inFlight.getResult());
+        }
+
+        try {
+            final LocalDateTime now = LocalDateTime.now();
+            final OrderSnapshot orderSnapshot = findStoredOrder(member, idempotencyKey, requestHash, now)
+                .orElseGet(() -> placeOrder(member, idempotencyKey, requestHash, orderRequest, now));
+            completedOrders.put(cacheKey, new CachedOrderSnapshot(orderSnapshot, requestHash, now.plus(window)));
+            placing.getResult().complete(orderSnapshot);
+            return orderSnapshot;
+        } catch (RuntimeException e) {
+            placing.getResult().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightOrders.remove(cacheKey, placing);
+        }
+    }
+
+    private void validate(final String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new OrderException("Idempotency-Key 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private void validateSameRequest(final String storedHash, final String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyKeyReusedException("같은 Idempotency-Key로 다른 주문 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private Optional<OrderSnapshot> findStoredOrder(final Member member, final String idempotencyKey,
+        final String requestHash, final LocalDateTime now) {
+        return orderIdempotencyKeyRepository.find(member.getId(), idempotencyKey, now.minus(window))
+            .map(record -> {
+                validateSameRequest(record.getRequestHash(), requestHash);
+                return orderService.getOrderById(member, record.getOrderId());
+            });
+    }
+
+    private OrderSnapshot placeOrder(final Member member, final String idempotencyKey, final String requestHash,
+        final OrderRequest orderRequest, final LocalDateTime now) {
+        orderIdempotencyKeyRepository.deleteExpired(member.getId(), idempotencyKey, now.minus(window));
+        try {
+            return orderService.createOrder(member.getId(), orderRequest, idempotencyKey, requestHash);
+        } catch (DuplicateKeyException e) {
+            return findStoredOrder(member, idempotencyKey, requestHash, now).orElseThrow(() -> e);
+        }
+    }
+
+    private static String hash(final OrderRequest orderRequest) {
+        final String items = orderRequest.getOrderItems()
+            .stream()
+            .map(item -> item.getId() + "x" + item.getQuantity())
+            .collect(Collectors.joining(","));
+        final String canonical = String.join("|", items, String.valueOf(orderRequest.getOrderTime()),
+            String.valueOf(orderRequest.getHoldId()), String.valueOf(orderRequest.getCouponId()));
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OrderSnapshot await(final CompletableFuture<OrderSnapshot> inFlight) {
+        try {
+            return inFlight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OrderException("주문을 처리하지 못했습니다.");
+        } catch (TimeoutException e) {
+            throw new OrderInProgressException("동일한 주문 요청이 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderInProgressException("동일한 주문 요청이 처리 중입니다.");
+        }
+    }
+
+    private static class InFlightOrder {
+
+        private final String requestHash;
+        private final CompletableFuture<OrderSnapshot> result = new CompletableFuture<>();
+
+        private InFlightOrder(final String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private String getRequestHash() {
+            return requestHash;
+        }
+
+        private CompletableFuture<OrderSnapshot> getResult() {
+            return result;
+        }
+    }
+
+    private static class CachedOrderSnapshot {
+
+        private final OrderSnapshot orderSnapshot;
+        private final String requestHash;
+        private final LocalDateTime expiresAt;
+
+        private CachedOrderSnapshot(final OrderSnapshot orderSnapshot, final String requestHash,
+            final LocalDateTime expiresAt) {
+            this.orderSnapshot = orderSnapshot;
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isValidAt(final LocalDateTime time) {
+            return time.isBefore(expiresAt);
+        }
+
+        private OrderSnapshot getOrderSnapshot() {
+            return orderSnapshot;
+        }
+
+        private String getRequestHash() {
+            return requestHash;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package cart.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "order.stats.rebuild.enabled", havingValue = "true")
+public class MemberOrderStatsRebuildJob implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberOrderStatsRebuildJob.class);
+
+    private final MemberOrderStatsService memberOrderStatsService;
+
+    public MemberOrderStatsRebuildJob(final MemberOrderStatsService memberOrderStatsService) {
+        this.memberOrderStatsService = memberOrderStatsService;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final int rebuilt = memberOrderStatsService.rebuild();
+        log.info("member order stats rebuilt; members={}", rebuilt);
+    }
+}
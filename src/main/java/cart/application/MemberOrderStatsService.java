@@ -0,0 +1,38 @@
+package cart.application;
+
+import cart.domain.Member;
+import cart.domain.MemberOrderStats;
+import cart.domain.respository.memberorderstats.MemberOrderStatsRepository;
+import cart.dto.response.MemberOrderStatsResponse;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class MemberOrderStatsService {
+
+    private final MemberOrderStatsRepository memberOrderStatsRepository;
+
+    public MemberOrderStatsService(final MemberOrderStatsRepository memberOrderStatsRepository) {
+        this.memberOrderStatsRepository = memberOrderStatsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public MemberOrderStatsResponse getStats(final Member member) {
+        final MemberOrderStats memberOrderStats = memberOrderStatsRepository.findByMemberId(member.getId())
+            .orElseGet(() -> MemberOrderStats.empty(member.getId()));
+        return MemberOrderStatsResponse.of(memberOrderStats);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, MemberOrderStatsResponse> getAllStats() {
+        return memberOrderStatsRepository.findAll().stream()
+            .collect(Collectors.toMap(MemberOrderStats::getMemberId, MemberOrderStatsResponse::of));
+    }
+
+    public int rebuild() {
+        return memberOrderStatsRepository.rebuild();
+    }
+}
@@ -0,0 +1,58 @@
+package cart.application;
+
+import cart.domain.respository.orderarchive.OrderArchiveRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "order.archive.enabled", havingValue = "true")
+public class OrderArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveJob.class);
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public OrderArchiveJob(
+        final OrderArchiveRepository orderArchiveRepository,
+        final PlatformTransactionManager transactionManager,
+        @Value("${order.archive.retention:P180D}") final Duration retention,
+        @Value("${order.archive.chunk-size:500}") final int chunkSize
+    ) {
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.archive.interval:PT1H}")
+    public void archive() {
+        final LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long lastOrderId = 0L;
+        int archived = 0;
+
+        List<Long> orderIds = orderArchiveRepository.findArchivableOrderIds(lastOrderId, cutoff, chunkSize);
+        while (!orderIds.isEmpty()) {
+            final List<Long> chunk = orderIds;
+            final Integer archivedInChunk = transactionTemplate.execute(
+                status -> orderArchiveRepository.archive(chunk));
+            archived += archivedInChunk == null ? 0 : archivedInChunk;
+            lastOrderId = chunk.get(chunk.size() - 1);
+            orderIds = orderArchiveRepository.findArchivableOrderIds(lastOrderId, cutoff, chunkSize);
+        }
+        if (archived > 0) {
+            log.info("orders archived; cutoff={}, archived={}", cutoff, archived);
+        }
+    }
+}
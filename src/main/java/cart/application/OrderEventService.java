@@ -0,0 +1,173 @@
+package cart.application;
+
+import cart.domain.order.OrderEvent;
+import cart.domain.order.OrderEventDurability;
+import cart.domain.order.OrderEventType;
+import cart.domain.respository.orderevent.OrderEventRepository;
+import cart.dto.response.OrderEventResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * SYNC 이벤트는 호출한 트랜잭션 안에서 바로 저장되므로 주문과 함께 커밋되거나 롤백되고, 저장에 실패하면 예외가 전파된다.
+ * ASYNC 이벤트는 커밋 뒤 메모리 버퍼를 거쳐 별도 스레드가 배치로 저장한다. 버퍼가 가득 차거나 저장에 실패하면 버려지고
+ * (cart.order.events.dropped), 프로세스가 종료되면 버퍼에 남은 이벤트는 유실된다.
+ * seq는 커밋이 아니라 저장 순서로 매겨지므로, 조회는 저장된 지 read-delay가 지난 이벤트만 돌려준다. 트랜잭션이 이보다 길면
+ * 늦게 커밋된 이벤트를 구독자가 건너뛸 수 있다.
+ */
+@Service
+public class OrderEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderEventService.class);
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final long IDLE_POLL_MILLIS = 100L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000L;
+
+    private final OrderEventRepository orderEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<OrderEventType> syncTypes;
+    private final int batchSize;
+    private final Duration readDelay;
+    private final BlockingQueue<OrderEvent> ringBuffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public OrderEventService(
+        final OrderEventRepository orderEventRepository,
+        final PlatformTransactionManager transactionManager,
+        @Value("${order.events.sync-types:}") final String syncTypes,
+        @Value("${order.events.buffer-size:8192}") final int bufferSize,
+        @Value("${order.events.batch-size:256}") final int batchSize,
+        @Value("${order.events.read-delay:PT5S}") final Duration readDelay
+    ) {
+        this.orderEventRepository = orderEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.syncTypes = parseTypes(syncTypes);
+        this.batchSize = batchSize;
+        this.readDelay = readDelay;
+        this.ringBuffer = new ArrayBlockingQueue<>(bufferSize);
+        this.writer = new Thread(this::write, "order-event-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void publish(final OrderEvent orderEvent) {
+        if (durabilityOf(orderEvent.getType()) == OrderEventDurability.SYNC) {
+            writeSync(orderEvent);
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(orderEvent);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(orderEvent);
+            }
+        });
+    }
+
+    public List<OrderEventResponse> findEvents(final long afterSeq, final int size) {
+        final int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return orderEventRepository.findAfter(afterSeq, pageSize, readDelay)
+            .stream()
+            .map(OrderEventResponse::of)
+            .collect(Collectors.toList());
+    }
+
+    public OrderEventDurability durabilityOf(final OrderEventType type) {
+        if (syncTypes.contains(type)) {
+            return OrderEventDurability.SYNC;
+        }
+        return OrderEventDurability.ASYNC;
+    }
+
+    public int getBufferedCount() {
+        return ringBuffer.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    private void writeSync(final OrderEvent orderEvent) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            orderEventRepository.insertAll(List.of(orderEvent));
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> orderEventRepository.insertAll(List.of(orderEvent)));
+    }
+
+    private void append(final OrderEvent orderEvent) {
+        if (!ringBuffer.offer(orderEvent)) {
+            droppedCount.incrementAndGet();
+            log.error("order event buffer is full, event dropped; orderId={}, type={}",
+                orderEvent.getOrderId(), orderEvent.getType());
+        }
+    }
+
+    private void write() {
+        final List<OrderEvent> batch = new ArrayList<>(batchSize);
+        while (running || !ringBuffer.isEmpty()) {
+            try {
+                final OrderEvent first = ringBuffer.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                ringBuffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(final List<OrderEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> orderEventRepository.insertAll(batch));
+        } catch (RuntimeException e) {
+            droppedCount.addAndGet(batch.size());
+            log.error("failed to write order events; size={}", batch.size(), e);
+        }
+    }
+
+    private static Set<OrderEventType> parseTypes(final String types) {
+        final Set<OrderEventType> parsed = EnumSet.noneOf(OrderEventType.class);
+        Arrays.stream(types.split(","))
+            .map(String::trim)
+            .filter(type -> !type.isEmpty())
+            .map(OrderEventType::valueOf)
+            .forEach(parsed::add);
+        return parsed;
+    }
+}
@@ -0,0 +1,39 @@
+package cart.application;
+
+import cart.application.export.OrderExportFormat;
+import cart.application.export.OrderExportWriter;
+import cart.domain.respository.orderexport.OrderExportRepository;
+import cart.dto.ExportedOrder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OrderExportService {
+
+    private final OrderExportRepository orderExportRepository;
+
+    public OrderExportService(final OrderExportRepository orderExportRepository) {
+        this.orderExportRepository = orderExportRepository;
+    }
+
+    public void export(final LocalDate from, final LocalDate to, final OrderExportFormat format,
+        final OutputStream outputStream) throws IOException {
+        try (OrderExportWriter writer = format.createWriter(outputStream)) {
+            orderExportRepository.streamByOrderTime(from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                exportedOrder -> write(writer, exportedOrder));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void write(final OrderExportWriter writer, final ExportedOrder exportedOrder) {
+        try {
+            writer.write(exportedOrder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package cart.application;
 
+import cart.config.metrics.PricingMetrics;
 import cart.domain.CartItem;
 import cart.domain.CartItems;
 import cart.domain.Member;
@@ -7,20 +8,37 @@ import cart.domain.Product;
 import cart.domain.delivery.DeliveryPolicy;
 import cart.domain.discount.DiscountPolicy;
 import cart.domain.order.Order;
+import cart.domain.order.OrderEvent;
+import cart.domain.order.OrderEventType;
+import cart.domain.order.OrderIdempotencyRecord;
 import cart.domain.order.OrderItem;
 import cart.domain.order.OrderItems;
 import cart.domain.order.OrderPrice;
+import cart.domain.order.OrderSnapshot;
+import cart.domain.outbox.OutboxMessage;
 import cart.domain.respository.cartitem.CartItemRepository;
+import cart.domain.respository.idempotency.OrderIdempotencyKeyRepository;
 import cart.domain.respository.member.MemberRepository;
+import cart.domain.respository.memberorderstats.MemberOrderStatsRepository;
 import cart.domain.respository.order.OrderRepository;
 import cart.domain.respository.orderitem.OrderItemRepository;
+import cart.domain.respository.ordersnapshot.OrderSnapshotRepository;
+import cart.domain.respository.outbox.OutboxRepository;
 import cart.domain.respository.product.ProductRepository;
+import cart.dto.OrderCreatedNotification;
+import cart.dto.request.OrderItemRequest;
 import cart.dto.request.OrderRequest;
 import cart.dto.response.OrderResponse;
 import cart.dto.response.OrdersResponse;
 import cart.exception.MemberNotExistException;
+import cart.exception.OrderException;
 import cart.exception.ProductException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,8 +52,18 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final CartItemRepository cartItemRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderSnapshotRepository orderSnapshotRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final MemberOrderStatsRepository memberOrderStatsRepository;
+    private final ProductStockService productStockService;
+    private final StockHoldService stockHoldService;
+    private final OrderEventService orderEventService;
+    private final OutboxRepository outboxRepository;
+    private final CouponService couponService;
+    private final PricingMetrics pricingMetrics;
     private final DiscountPolicy discountPolicy;
     private final DeliveryPolicy deliveryPolicy;
+    private final ObjectMapper objectMapper;
 
     public OrderService(
         final OrderRepository orderRepository,
@@ -43,41 +71,90 @@ public class OrderService {
         final ProductRepository productRepository,
         final CartItemRepository cartItemRepository,
         final OrderItemRepository orderItemRepository,
+        final OrderSnapshotRepository orderSnapshotRepository,
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        final MemberOrderStatsRepository memberOrderStatsRepository,
+        final ProductStockService productStockService,
+        final StockHoldService stockHoldService,
+        final OrderEventService orderEventService,
+        final OutboxRepository outboxRepository,
+        final CouponService couponService,
+        final PricingMetrics pricingMetrics,
         final DiscountPolicy discountPolicy,
-        final DeliveryPolicy deliveryPolicy
+        final DeliveryPolicy deliveryPolicy,
+        final ObjectMapper objectMapper
     ) {
         this.orderRepository = orderRepository;
         this.memberRepository = memberRepository;
         this.productRepository = productRepository;
         this.cartItemRepository = cartItemRepository;
         this.orderItemRepository = orderItemRepository;
+        this.orderSnapshotRepository = orderSnapshotRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.memberOrderStatsRepository = memberOrderStatsRepository;
+        this.productStockService = productStockService;
+        this.stockHoldService = stockHoldService;
+        this.orderEventService = orderEventService;
+        this.outboxRepository = outboxRepository;
+        this.couponService = couponService;
+        this.pricingMetrics = pricingMetrics;
         this.discountPolicy = discountPolicy;
         this.deliveryPolicy = deliveryPolicy;
+        this.objectMapper = objectMapper;
     }
 
-    public OrderResponse createOrder(final Long memberId, final OrderRequest orderRequest) {
+    public OrderSnapshot createOrder(final Long memberId, final OrderRequest orderRequest,
+        final String idempotencyKey, final String requestHash) {
+        final OrderSnapshot orderSnapshot = createOrder(memberId, orderRequest);
+        orderIdempotencyKeyRepository.save(memberId, idempotencyKey,
+            new OrderIdempotencyRecord(orderSnapshot.getOrderId(), requestHash), LocalDateTime.now());
+        return orderSnapshot;
+    }
+
+    public OrderSnapshot createOrder(final Long memberId, final OrderRequest orderRequest) {
         final Member member = findExistMemberById(memberId);
         final OrderItems orderItems = generateOrderItems(orderRequest);
         final CartItems cartItems = new CartItems(cartItemRepository.findByMemberId(memberId));
 
         orderItems.getItems().forEach(orderItem -> cartItems.buy(new CartItem(member, orderItem.getProduct())));
 
+        reserveStock(memberId, orderRequest.getHoldId(), orderItems);
+
         final Order order = cartItems.order(member, orderRequest.getOrderTime());
-        final OrderPrice orderPrice = OrderPrice.of(order, discountPolicy, deliveryPolicy);
-        final Order persistOrder = orderRepository.insert(order, orderPrice);
+        final OrderPrice orderPrice = applyCoupon(memberId, orderRequest.getCouponId(),
+            OrderPrice.of(order, discountPolicy, deliveryPolicy));
+        final Order persistOrder = insertOrder(order, orderPrice);
 
-        saveOrderItems(persistOrder);
         deleteCartItems(persistOrder);
-
-        return OrderResponse.of(persistOrder, OrderPrice.of(persistOrder, discountPolicy, deliveryPolicy));
+        pricingMetrics.record(orderPrice);
+        memberOrderStatsRepository.increment(memberId, orderPrice.getTotalPrice(), persistOrder.getOrderTime());
+        outboxRepository.save(toOrderCreatedMessage(persistOrder, orderPrice));
+        orderEventService.publish(OrderEvent.of(persistOrder.getId(), memberId, OrderEventType.PLACED,
+            LocalDateTime.now()));
+
+        final OrderSnapshot orderSnapshot = toSnapshot(persistOrder.getMemberId(),
+            OrderResponse.of(persistOrder, orderPrice));
+        orderSnapshotRepository.save(orderSnapshot);
+        return orderSnapshot;
     }
 
     private OrderItems generateOrderItems(final OrderRequest orderRequest) {
+        final List<Long> productIds = orderRequest.getOrderItems()
+            .stream()
+            .map(OrderItemRequest::getId)
+            .distinct()
+            .collect(Collectors.toList());
+        final Map<Long, Product> products = productRepository.getProductsByIds(productIds)
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
         final List<OrderItem> orderItems = orderRequest.getOrderItems()
             .stream()
             .map((orderItem) -> {
-                final Product pesistedProduct = productRepository.getProductById(orderItem.getId())
-                    .orElseThrow(() -> new ProductException.ProductNotExistException("상품이 존재하지 않습니다."));
+                final Product pesistedProduct = products.get(orderItem.getId());
+                if (pesistedProduct == null) {
+                    throw new ProductException.ProductNotExistException("상품이 존재하지 않습니다.");
+                }
                 return OrderItem.notPersisted(pesistedProduct, orderItem.getQuantity());
             })
             .collect(Collectors.toList());
@@ -85,10 +162,31 @@ public class OrderService {
         return new OrderItems(orderItems);
     }
 
-    private void saveOrderItems(final Order order) {
-        for (OrderItem item : order.getOrderItems()) {
-            orderItemRepository.insert(order.getId(), OrderItem.notPersisted(item.getProduct(), item.getQuantity()));
+    private void reserveStock(final Long memberId, final String holdId, final OrderItems orderItems) {
+        final Map<Long, Integer> quantities = productStockService.quantitiesOf(orderItems);
+        if (holdId == null) {
+            productStockService.reserve(quantities);
+            return;
+        }
+        productStockService.reserve(stockHoldService.consume(memberId, holdId, quantities));
+    }
+
+    private OrderPrice applyCoupon(final Long memberId, final Long couponId, final OrderPrice orderPrice) {
+        if (couponId == null) {
+            return orderPrice;
         }
+        return orderPrice.withAdditionalDiscount(
+            couponService.redeem(memberId, couponId, orderPrice.getProductPrice()));
+    }
+
+    private Order insertOrder(final Order order, final OrderPrice orderPrice) {
+        final Order persistOrder = orderRepository.insert(order, orderPrice);
+        saveOrderItems(persistOrder);
+        return persistOrder;
+    }
+
+    private void saveOrderItems(final Order order) {
+        orderItemRepository.insertAll(List.of(order));
     }
 
     private void deleteCartItems(final Order order) {
@@ -99,20 +197,48 @@ public class OrderService {
         cartItemRepository.deleteByMemberIdAndProductIds(order.getMemberId(), productIds);
     }
 
-    public OrderResponse getOrderById(final Long orderId) {
-        final Order persistedOrder = orderRepository.findByOrderId(orderId);
+    @Transactional(readOnly = true)
+    public OrderSnapshot getOrderById(final Member member, final Long orderId) {
+        return orderSnapshotRepository.findByOrderId(member.getId(), orderId)
+            .orElseGet(() -> toSnapshot(member.getId(), getLiveOrderById(member, orderId)));
+    }
+
+    public void backfillSnapshot(final Member member, final Long orderId) {
+        orderSnapshotRepository.save(toSnapshot(member.getId(), getLiveOrderById(member, orderId)));
+    }
+
+    private OrderResponse getLiveOrderById(final Member member, final Long orderId) {
+        final Order persistedOrder = orderRepository.findByOrderId(member, orderId);
+
+        return OrderResponse.of(persistedOrder, persistedOrder.getOrderPrice());
+    }
+
+    private OutboxMessage toOrderCreatedMessage(final Order order, final OrderPrice orderPrice) {
+        final OrderCreatedNotification notification = new OrderCreatedNotification(order.getId(),
+            order.getMemberId(), orderPrice.getTotalPrice(), order.getOrderTime());
+        try {
+            return OutboxMessage.of("ORDER", order.getId(), "ORDER_CREATED",
+                objectMapper.writeValueAsString(notification), LocalDateTime.now());
+        } catch (JsonProcessingException e) {
+            throw new OrderException("주문 알림을 직렬화할 수 없습니다.");
+        }
+    }
 
-        return OrderResponse.of(persistedOrder, OrderPrice.of(persistedOrder, discountPolicy, deliveryPolicy));
+    private OrderSnapshot toSnapshot(final Long memberId, final OrderResponse orderResponse) {
+        try {
+            return new OrderSnapshot(orderResponse.getOrderId(), memberId,
+                objectMapper.writeValueAsBytes(orderResponse));
+        } catch (JsonProcessingException e) {
+            throw new OrderException("주문 내역을 직렬화할 수 없습니다.");
+        }
     }
 
-    public OrdersResponse getOrderByMemberId(final Long memberId) {
-        final List<Order> persistedOrders = orderRepository.findAllByMemberId(memberId);
+    @Transactional(readOnly = true)
+    public OrdersResponse getOrderByMember(final Member member) {
+        final List<Order> persistedOrders = orderRepository.findAllByMemberId(member);
 
         final List<OrderResponse> orderResponses = persistedOrders.stream()
-            .map(order -> {
-                final OrderPrice orderPrice = OrderPrice.of(order, discountPolicy, deliveryPolicy);
-                return OrderResponse.of(order, orderPrice);
-            })
+            .map(order -> OrderResponse.of(order, order.getOrderPrice()))
             .collect(Collectors.toList());
 
         return new OrdersResponse(orderResponses);
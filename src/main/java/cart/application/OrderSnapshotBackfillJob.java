@@ -0,0 +1,70 @@
+package cart.application;
+
+import cart.domain.Member;
+import cart.domain.respository.member.MemberRepository;
+import cart.domain.respository.ordersnapshot.OrderSnapshotRepository;
+import cart.exception.MemberNotExistException;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "order.snapshot.backfill.enabled", havingValue = "true")
+public class OrderSnapshotBackfillJob implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSnapshotBackfillJob.class);
+
+    private final OrderService orderService;
+    private final OrderSnapshotRepository orderSnapshotRepository;
+    private final MemberRepository memberRepository;
+    private final int chunkSize;
+
+    public OrderSnapshotBackfillJob(
+        final OrderService orderService,
+        final OrderSnapshotRepository orderSnapshotRepository,
+        final MemberRepository memberRepository,
+        @Value("${order.snapshot.backfill.chunk-size:500}") final int chunkSize
+    ) {
+        this.orderService = orderService;
+        this.orderSnapshotRepository = orderSnapshotRepository;
+        this.memberRepository = memberRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final Map<Long, Member> members = new HashMap<>();
+        long lastOrderId = 0L;
+        int backfilled = 0;
+        int skipped = 0;
+
+        Map<Long, Long> targets = orderSnapshotRepository.findOrdersWithoutSnapshot(lastOrderId, chunkSize);
+        while (!targets.isEmpty()) {
+            for (Map.Entry<Long, Long> target : targets.entrySet()) {
+                lastOrderId = target.getKey();
+                try {
+                    final Member member = members.computeIfAbsent(target.getValue(), this::findExistMemberById);
+                    orderService.backfillSnapshot(member, target.getKey());
+                    backfilled++;
+                } catch (RuntimeException e) {
+                    skipped++;
+                    log.warn("order snapshot backfill skipped; orderId={}, memberId={}, reason={}",
+                        target.getKey(), target.getValue(), e.getMessage());
+                }
+            }
+            targets = orderSnapshotRepository.findOrdersWithoutSnapshot(lastOrderId, chunkSize);
+        }
+        log.info("order snapshot backfill finished; backfilled={}, skipped={}", backfilled, skipped);
+    }
+
+    private Member findExistMemberById(final Long memberId) {
+        return memberRepository.getMemberById(memberId)
+            .orElseThrow(() -> new MemberNotExistException("해당 멤버가 존재하지 않습니다."));
+    }
+}
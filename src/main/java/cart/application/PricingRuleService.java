@@ -0,0 +1,94 @@
+package cart.application;
+
+import cart.domain.pricing.PricingRule;
+import cart.domain.pricing.PricingRuleBook;
+import cart.domain.pricing.PricingRuleType;
+import cart.domain.pricing.PricingRules;
+import cart.domain.respository.pricingrule.PricingRuleRepository;
+import cart.dto.response.PricingRuleReloadResponse;
+import cart.exception.PricingRuleException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "pricing.rules.enabled", havingValue = "true")
+public class PricingRuleService {
+
+    private static final Logger log = LoggerFactory.getLogger(PricingRuleService.class);
+    private static final String COMMENT_PREFIX = "#";
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final PricingRuleBook pricingRuleBook;
+    private final String file;
+
+    public PricingRuleService(
+        final PricingRuleRepository pricingRuleRepository,
+        final PricingRuleBook pricingRuleBook,
+        @Value("${pricing.rules.file:}") final String file
+    ) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        this.pricingRuleBook = pricingRuleBook;
+        this.file = file;
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            reload();
+        } catch (PricingRuleException e) {
+            log.error("pricing rules are invalid, keeping the current rules", e);
+        }
+    }
+
+    public PricingRuleReloadResponse reload() {
+        final String source = file.isEmpty() ? "db" : file;
+        final PricingRules pricingRules;
+        try {
+            pricingRules = PricingRules.compile(file.isEmpty() ? pricingRuleRepository.findAll() : readFile());
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            throw new PricingRuleException("가격 규칙을 불러올 수 없습니다. : " + source, e);
+        }
+        pricingRuleBook.replace(pricingRules);
+
+        log.info("pricing rules loaded; source={}, discountTiers={}, deliveryTiers={}", source,
+            pricingRules.getDiscountRules().size(), pricingRules.getDeliveryRules().size());
+        return PricingRuleReloadResponse.of(source, pricingRules);
+    }
+
+    private List<PricingRule> readFile() {
+        try {
+            return Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)
+                .stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                .map(this::parse)
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PricingRule parse(final String line) {
+        final String[] columns = line.split(",");
+        if (columns.length != 4) {
+            throw new IllegalArgumentException("가격 규칙 형식이 올바르지 않습니다. : " + line);
+        }
+        return new PricingRule(
+            PricingRuleType.valueOf(columns[0].trim()),
+            Long.parseLong(columns[1].trim()),
+            Long.parseLong(columns[2].trim()),
+            Integer.parseInt(columns[3].trim())
+        );
+    }
+}
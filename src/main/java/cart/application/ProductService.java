@@ -8,6 +8,7 @@ import cart.exception.ProductException.ProductNotExistException;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ProductService {
@@ -18,11 +19,13 @@ public class ProductService {
         this.productRepository = productRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<ProductResponse> getAllProducts() {
         final List<Product> products = productRepository.getAllProducts();
         return products.stream().map(ProductResponse::of).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ProductResponse getProductById(Long productId) {
         final Product product = productRepository.getProductById(productId)
             .orElseThrow(() -> new ProductNotExistException("상품이 존재하지 않습니다."));
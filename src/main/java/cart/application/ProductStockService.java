@@ -0,0 +1,177 @@
+package cart.application;
+
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.domain.respository.product.ProductRepository;
+import cart.domain.respository.productstock.ProductStockRepository;
+import cart.domain.stock.ShardedStock;
+import cart.domain.stock.StockReservation;
+import cart.dto.request.ProductStockRequest;
+import cart.dto.response.ProductStockResponse;
+import cart.exception.ProductException.InvalidStockException;
+import cart.exception.ProductException.OutOfStockException;
+import cart.exception.ProductException.ProductNotExistException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class ProductStockService {
+
+    private static final int DEFAULT_SHARD_COUNT = 1;
+
+    private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final Map<Long, ShardedStock> ledger = new ConcurrentHashMap<>();
+    private final Set<Long> staleProductIds = ConcurrentHashMap.newKeySet();
+
+    public ProductStockService(
+        final ProductRepository productRepository,
+        final ProductStockRepository productStockRepository
+    ) {
+        this.productRepository = productRepository;
+        this.productStockRepository = productStockRepository;
+    }
+
+    @Transactional
+    public void setStock(final Long productId, final ProductStockRequest productStockRequest) {
+        findExistProduct(productId);
+        final int shardCount = productStockRequest.getShards() == null
+            ? DEFAULT_SHARD_COUNT
+            : productStockRequest.getShards();
+        if (productStockRequest.getQuantity() < 0 || shardCount <= 0) {
+            throw new InvalidStockException("재고 수량이 올바르지 않습니다.");
+        }
+        final int[] previousQuantities = productStockRepository.findShardQuantitiesForUpdate(productId);
+        final int[] shardQuantities = ShardedStock.split(productStockRequest.getQuantity(), shardCount);
+        productStockRepository.replace(productId, shardQuantities);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ledger.computeIfPresent(productId, (id, stock) -> {
+                    if (stock.isUnlimited()) {
+                        return ShardedStock.of(shardQuantities);
+                    }
+                    stock.rebase(previousQuantities, shardQuantities);
+                    return stock;
+                });
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public ProductStockResponse getStock(final Long productId) {
+        findExistProduct(productId);
+        return ProductStockResponse.of(productId, ShardedStock.of(productStockRepository.findShardQuantities(productId)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(final OrderItems orderItems) {
+        reserve(quantitiesOf(orderItems));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(final Map<Long, Integer> quantities) {
+        final List<StockReservation> reservations = reserveInMemory(quantities);
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED) {
+                    reservations.forEach(StockReservation::release);
+                }
+            }
+        });
+        decrease(reservations);
+    }
+
+    public Map<Long, Integer> quantitiesOf(final OrderItems orderItems) {
+        final Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem orderItem : orderItems.getItems()) {
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    public List<StockReservation> reserveInMemory(final Map<Long, Integer> quantities) {
+        final List<StockReservation> reservations = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            final ShardedStock stock = getLedger(entry.getKey());
+            if (stock.isUnlimited()) {
+                continue;
+            }
+            final int[] allocations = stock.reserve(entry.getValue(),
+                ThreadLocalRandom.current().nextInt(stock.getShardCount()));
+            if (allocations == null) {
+                reservations.forEach(StockReservation::release);
+                throw new OutOfStockException("상품의 재고가 부족합니다.");
+            }
+            reservations.add(new StockReservation(entry.getKey(), stock, allocations));
+        }
+        return reservations;
+    }
+
+    public void decrease(final List<StockReservation> reservations) {
+        for (StockReservation reservation : reservations) {
+            final int[] allocations = reservation.getAllocations();
+            for (int shardNo = 0; shardNo < allocations.length; shardNo++) {
+                if (allocations[shardNo] > 0
+                    && !productStockRepository.decrease(reservation.getProductId(), shardNo, allocations[shardNo])) {
+                    markStale(reservation.getProductId());
+                    throw new OutOfStockException("상품의 재고가 부족합니다.");
+                }
+            }
+        }
+    }
+
+    public void increase(final List<StockReservation> reservations) {
+        for (StockReservation reservation : reservations) {
+            final int[] allocations = reservation.getAllocations();
+            for (int shardNo = 0; shardNo < allocations.length; shardNo++) {
+                if (allocations[shardNo] > 0) {
+                    productStockRepository.increase(reservation.getProductId(), shardNo, allocations[shardNo]);
+                }
+            }
+        }
+    }
+
+    public ShardedStock getLedger(final Long productId) {
+        final ShardedStock stock = ledger.computeIfAbsent(productId,
+            id -> ShardedStock.of(productStockRepository.findShardQuantities(id)));
+        if (staleProductIds.remove(productId) && !stock.isUnlimited()) {
+            stock.reset(productStockRepository.findShardQuantities(productId));
+        }
+        return stock;
+    }
+
+    private void markStale(final Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            staleProductIds.add(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                staleProductIds.add(productId);
+            }
+        });
+    }
+
+    private void findExistProduct(final Long productId) {
+        productRepository.getProductById(productId)
+            .orElseThrow(() -> new ProductNotExistException("상품이 존재하지 않습니다."));
+    }
+}
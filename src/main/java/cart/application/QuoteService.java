@@ -0,0 +1,119 @@
+package cart.application;
+
+import cart.domain.Product;
+import cart.domain.delivery.DeliveryPolicy;
+import cart.domain.discount.DiscountPolicy;
+import cart.domain.respository.product.ProductRepository;
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.QuoteBasketRequest;
+import cart.dto.request.QuoteRequest;
+import cart.exception.ProductException.ProductNotExistException;
+import cart.exception.QuoteException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class QuoteService {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ProductRepository productRepository;
+    private final DiscountPolicy discountPolicy;
+    private final DeliveryPolicy deliveryPolicy;
+    private final int maxBaskets;
+
+    public QuoteService(
+        final ProductRepository productRepository,
+        final DiscountPolicy discountPolicy,
+        final DeliveryPolicy deliveryPolicy,
+        @Value("${quote.max-baskets:1000}") final int maxBaskets
+    ) {
+        this.productRepository = productRepository;
+        this.discountPolicy = discountPolicy;
+        this.deliveryPolicy = deliveryPolicy;
+        this.maxBaskets = maxBaskets;
+    }
+
+    @Transactional(readOnly = true)
+    public long[] productPricesOf(final QuoteRequest quoteRequest) {
+        final List<QuoteBasketRequest> baskets = quoteRequest.getBaskets() == null
+            ? List.of()
+            : quoteRequest.getBaskets();
+        if (baskets.size() > maxBaskets) {
+            throw new QuoteException("한 번에 견적을 낼 수 있는 장바구니 수를 초과했습니다.");
+        }
+
+        final Map<Long, Integer> prices = findPrices(baskets);
+        final long[] productPrices = new long[baskets.size()];
+        for (int i = 0; i < productPrices.length; i++) {
+            productPrices[i] = productPriceOf(baskets.get(i), prices);
+        }
+        return productPrices;
+    }
+
+    public void writeQuotes(final long[] productPrices, final OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            for (long productPrice : productPrices) {
+                final long discountPrice = discountPolicy.discountOf(productPrice);
+                final long deliveryFee = deliveryPolicy.deliveryFeeOf(productPrice);
+                generator.writeStartObject();
+                generator.writeNumberField("productPrice", productPrice);
+                generator.writeNumberField("discountPrice", discountPrice);
+                generator.writeNumberField("deliveryFee", deliveryFee);
+                generator.writeNumberField("totalPrice", productPrice - discountPrice + deliveryFee);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private Map<Long, Integer> findPrices(final List<QuoteBasketRequest> baskets) {
+        final Set<Long> productIds = new LinkedHashSet<>();
+        for (QuoteBasketRequest basket : baskets) {
+            for (OrderItemRequest item : itemsOf(basket)) {
+                productIds.add(item.getId());
+            }
+        }
+
+        final Map<Long, Integer> prices = new HashMap<>();
+        for (Product product : productRepository.getProductsByIds(new ArrayList<>(productIds))) {
+            prices.put(product.getId(), product.getPrice());
+        }
+        return prices;
+    }
+
+    private long productPriceOf(final QuoteBasketRequest basket, final Map<Long, Integer> prices) {
+        long productPrice = 0L;
+        for (OrderItemRequest item : itemsOf(basket)) {
+            final Integer price = prices.get(item.getId());
+            if (price == null) {
+                throw new ProductNotExistException("상품이 존재하지 않습니다.");
+            }
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new QuoteException("상품 수량이 올바르지 않습니다.");
+            }
+            productPrice += (long) price * item.getQuantity();
+        }
+        return productPrice;
+    }
+
+    private List<OrderItemRequest> itemsOf(final QuoteBasketRequest basket) {
+        if (basket == null || basket.getItems() == null) {
+            return List.of();
+        }
+        return basket.getItems();
+    }
+}
@@ -0,0 +1,250 @@
+package cart.application;
+
+import cart.domain.CartItem;
+import cart.domain.Member;
+import cart.domain.respository.cartitem.CartItemRepository;
+import cart.domain.respository.stockhold.StockHoldRepository;
+import cart.domain.stock.HashedTimingWheel;
+import cart.domain.stock.ShardedStock;
+import cart.domain.stock.StockHold;
+import cart.domain.stock.StockReservation;
+import cart.dto.StockHoldRecord;
+import cart.dto.request.StockHoldRequest;
+import cart.dto.response.StockHoldResponse;
+import cart.exception.CartItemException.CartItemNotExistException;
+import cart.exception.ProductException.StockHoldNotExistException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class StockHoldService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockHoldService.class);
+
+    private final CartItemRepository cartItemRepository;
+    private final StockHoldRepository stockHoldRepository;
+    private final ProductStockService productStockService;
+    private final StockHoldWriter stockHoldWriter;
+    private final Duration holdDuration;
+    private final Duration persistTimeout;
+    private final Map<String, StockHold> holds = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<StockHold> timingWheel;
+
+    public StockHoldService(
+        final CartItemRepository cartItemRepository,
+        final StockHoldRepository stockHoldRepository,
+        final ProductStockService productStockService,
+        final StockHoldWriter stockHoldWriter,
+        @Value("${stock.hold.duration:PT5M}") final Duration holdDuration,
+        @Value("${stock.hold.persist-timeout:PT5S}") final Duration persistTimeout,
+        @Value("${stock.hold.tick:PT1S}") final Duration tick,
+        @Value("${stock.hold.wheel-size:512}") final int wheelSize
+    ) {
+        this.cartItemRepository = cartItemRepository;
+        this.stockHoldRepository = stockHoldRepository;
+        this.productStockService = productStockService;
+        this.stockHoldWriter = stockHoldWriter;
+        this.holdDuration = holdDuration;
+        this.persistTimeout = persistTimeout;
+        this.timingWheel = new HashedTimingWheel<>(System.currentTimeMillis(), tick.toMillis(), wheelSize);
+    }
+
+    public StockHoldResponse hold(final Member member, final StockHoldRequest stockHoldRequest) {
+        final List<CartItem> cartItems = findCartItems(member, stockHoldRequest.getCartItemIds());
+        final Map<Long, Integer> quantities = new TreeMap<>();
+        for (CartItem cartItem : cartItems) {
+            quantities.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
+        }
+
+        final List<StockReservation> reservations = productStockService.reserveInMemory(quantities);
+        final StockHold stockHold = StockHold.create(member.getId(), reservations,
+            LocalDateTime.now().plus(holdDuration));
+        register(stockHold);
+        stockHoldWriter.create(stockHold);
+        stockHold.getPersisted().whenComplete((ignored, e) -> {
+            if (e != null && holds.remove(stockHold.getId(), stockHold)) {
+                stockHold.cancelTimeout();
+                stockHold.release();
+                log.warn("stock hold could not be persisted; holdId={}", stockHold.getId(), e);
+            }
+        });
+        return StockHoldResponse.of(stockHold);
+    }
+
+    public void release(final Member member, final String holdId) {
+        final StockHold stockHold = findOwnedHold(member.getId(), holdId);
+        if (holds.remove(holdId, stockHold)) {
+            stockHold.cancelTimeout();
+            stockHold.release();
+            stockHoldWriter.release(stockHold);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Integer> consume(final Long memberId, final String holdId, final Map<Long, Integer> quantities) {
+        final StockHold stockHold = findOwnedHold(memberId, holdId);
+        if (!holds.remove(holdId, stockHold)) {
+            throw new StockHoldNotExistException("재고 선점 정보가 존재하지 않습니다.");
+        }
+        stockHold.cancelTimeout();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED) {
+                    restore(stockHold);
+                }
+            }
+        });
+
+        awaitPersisted(stockHold);
+        if (!stockHoldRepository.deleteById(holdId)) {
+            throw new StockHoldNotExistException("재고 선점 정보가 존재하지 않습니다.");
+        }
+
+        final Map<Long, Integer> remaining = new TreeMap<>(quantities);
+        final List<StockReservation> excesses = new ArrayList<>();
+        for (StockReservation reservation : stockHold.getReservations()) {
+            final int ordered = remaining.getOrDefault(reservation.getProductId(), 0);
+            final int held = reservation.getQuantity();
+            if (ordered > held) {
+                remaining.put(reservation.getProductId(), ordered - held);
+                continue;
+            }
+            remaining.remove(reservation.getProductId());
+            if (ordered < held) {
+                excesses.add(reservation.excess(ordered));
+            }
+        }
+        releaseExcesses(excesses);
+        return remaining;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.hold.tick:PT1S}")
+    public void expire() {
+        final List<StockHold> expired = timingWheel.advance(System.currentTimeMillis())
+            .stream()
+            .filter(stockHold -> holds.remove(stockHold.getId(), stockHold))
+            .collect(Collectors.toList());
+        for (StockHold stockHold : expired) {
+            stockHold.release();
+            stockHoldWriter.release(stockHold);
+        }
+        if (!expired.isEmpty()) {
+            log.debug("stock holds expired; count={}", expired.size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        final LocalDateTime now = LocalDateTime.now();
+        int restored = 0;
+        for (StockHoldRecord record : stockHoldRepository.findAll()) {
+            final StockHold stockHold = StockHold.persisted(record.getId(), record.getMemberId(),
+                reservationsOf(record), record.getExpiresAt());
+            if (stockHold.isExpired(now)) {
+                stockHold.release();
+                stockHoldWriter.release(stockHold);
+                continue;
+            }
+            register(stockHold);
+            restored++;
+        }
+        if (restored > 0) {
+            log.info("stock holds restored; count={}", restored);
+        }
+    }
+
+    private List<CartItem> findCartItems(final Member member, final List<Long> cartItemIds) {
+        final List<CartItem> cartItems = cartItemRepository.findByMemberId(member.getId())
+            .stream()
+            .filter(cartItem -> cartItemIds == null || cartItemIds.isEmpty() || cartItemIds.contains(cartItem.getId()))
+            .collect(Collectors.toList());
+        if (cartItems.isEmpty()) {
+            throw new CartItemNotExistException("해당 상품이 장바구니에 없습니다.");
+        }
+        return cartItems;
+    }
+
+    private StockHold findOwnedHold(final Long memberId, final String holdId) {
+        final StockHold stockHold = holds.get(holdId);
+        if (stockHold == null || !Objects.equals(stockHold.getMemberId(), memberId)) {
+            throw new StockHoldNotExistException("재고 선점 정보가 존재하지 않습니다.");
+        }
+        return stockHold;
+    }
+
+    private void register(final StockHold stockHold) {
+        holds.put(stockHold.getId(), stockHold);
+        final long deadline = stockHold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        stockHold.setTimeout(timingWheel.schedule(stockHold, deadline));
+    }
+
+    private void restore(final StockHold stockHold) {
+        if (stockHold.isExpired(LocalDateTime.now())) {
+            stockHold.release();
+            stockHoldWriter.release(stockHold);
+            return;
+        }
+        register(stockHold);
+    }
+
+    private void awaitPersisted(final StockHold stockHold) {
+        try {
+            stockHold.getPersisted().get(persistTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new StockHoldNotExistException("재고 선점 정보가 존재하지 않습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StockHoldNotExistException("재고 선점 정보가 존재하지 않습니다.");
+        }
+    }
+
+    private void releaseExcesses(final List<StockReservation> excesses) {
+        if (excesses.isEmpty()) {
+            return;
+        }
+        productStockService.increase(excesses);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    excesses.forEach(StockReservation::release);
+                }
+            }
+        });
+    }
+
+    private List<StockReservation> reservationsOf(final StockHoldRecord record) {
+        final List<StockReservation> reservations = new ArrayList<>();
+        for (Map.Entry<Long, Map<Integer, Integer>> entry : record.getAllocations().entrySet()) {
+            final ShardedStock stock = productStockService.getLedger(entry.getKey());
+            final int maxShardNo = entry.getValue().keySet().stream().max(Integer::compare).orElse(0);
+            final int[] allocations = new int[Math.max(stock.getShardCount(), maxShardNo + 1)];
+            entry.getValue().forEach((shardNo, quantity) -> allocations[shardNo] = quantity);
+            reservations.add(new StockReservation(entry.getKey(), stock, allocations));
+        }
+        return reservations;
+    }
+}
@@ -0,0 +1,190 @@
+package cart.application;
+
+import cart.domain.respository.stockhold.StockHoldRepository;
+import cart.domain.stock.StockHold;
+import cart.domain.stock.StockReservation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class StockHoldWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(StockHoldWriter.class);
+    private static final long IDLE_POLL_MILLIS = 100L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000L;
+
+    private final StockHoldRepository stockHoldRepository;
+    private final ProductStockService productStockService;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushIntervalNanos;
+    private final int batchSize;
+    private final BlockingQueue<Operation> operations = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public StockHoldWriter(
+        final StockHoldRepository stockHoldRepository,
+        final ProductStockService productStockService,
+        final PlatformTransactionManager transactionManager,
+        @Value("${stock.hold.flush-interval:PT0.05S}") final Duration flushInterval,
+        @Value("${stock.hold.batch-size:500}") final int batchSize
+    ) {
+        this.stockHoldRepository = stockHoldRepository;
+        this.productStockService = productStockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::write, "stock-hold-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void create(final StockHold stockHold) {
+        operations.add(new Operation(stockHold, true));
+    }
+
+    public void release(final StockHold stockHold) {
+        operations.add(new Operation(stockHold, false));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    private void write() {
+        final List<Operation> batch = new ArrayList<>(batchSize);
+        while (running || !operations.isEmpty()) {
+            try {
+                final Operation first = operations.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("stock hold write failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(final List<Operation> batch) throws InterruptedException {
+        final long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            operations.drainTo(batch, batchSize - batch.size());
+            final long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            final Operation next = operations.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(final List<Operation> batch) {
+        final Map<String, StockHold> creates = new LinkedHashMap<>();
+        final Map<String, StockHold> releases = new LinkedHashMap<>();
+        for (Operation operation : batch) {
+            final String id = operation.stockHold.getId();
+            if (operation.create) {
+                creates.put(id, operation.stockHold);
+            } else if (creates.remove(id) == null) {
+                releases.put(id, operation.stockHold);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                persist(new ArrayList<>(creates.values()));
+                delete(new ArrayList<>(releases.values()));
+            });
+            creates.values().forEach(stockHold -> stockHold.getPersisted().complete(null));
+        } catch (RuntimeException e) {
+            log.warn("stock hold batch failed, retrying individually; size={}", batch.size(), e);
+            creates.values().forEach(this::persistAlone);
+            releases.values().forEach(this::deleteAlone);
+        }
+    }
+
+    private void persistAlone(final StockHold stockHold) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(List.of(stockHold)));
+            stockHold.getPersisted().complete(null);
+        } catch (RuntimeException e) {
+            stockHold.getPersisted().completeExceptionally(e);
+        }
+    }
+
+    private void deleteAlone(final StockHold stockHold) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> delete(List.of(stockHold)));
+        } catch (RuntimeException e) {
+            log.error("failed to release stock hold; holdId={}", stockHold.getId(), e);
+        }
+    }
+
+    private void persist(final List<StockHold> stockHolds) {
+        if (stockHolds.isEmpty()) {
+            return;
+        }
+        stockHoldRepository.insertAll(stockHolds);
+        productStockService.decrease(reservationsOf(stockHolds));
+    }
+
+    private void delete(final List<StockHold> stockHolds) {
+        if (stockHolds.isEmpty()) {
+            return;
+        }
+        final int[] deleted = stockHoldRepository.deleteAll(stockHolds.stream()
+            .map(StockHold::getId)
+            .collect(Collectors.toList()));
+        final List<StockHold> released = new ArrayList<>();
+        for (int i = 0; i < stockHolds.size(); i++) {
+            if (deleted[i] > 0) {
+                released.add(stockHolds.get(i));
+            }
+        }
+        productStockService.increase(reservationsOf(released));
+    }
+
+    private List<StockReservation> reservationsOf(final List<StockHold> stockHolds) {
+        return stockHolds.stream()
+            .flatMap(stockHold -> stockHold.getReservations().stream())
+            .collect(Collectors.toList());
+    }
+
+    private static class Operation {
+
+        private final StockHold stockHold;
+        private final boolean create;
+
+        private Operation(final StockHold stockHold, final boolean create) {
+            this.stockHold = stockHold;
+            this.create = create;
+        }
+    }
+}
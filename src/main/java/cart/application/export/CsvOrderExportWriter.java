@@ -0,0 +1,67 @@
+package cart.application.export;
+
+import cart.domain.Product;
+import cart.domain.order.OrderItem;
+import cart.dto.ExportedOrder;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvOrderExportWriter implements OrderExportWriter {
+
+    private static final String HEADER = "order_id,member_id,order_time,product_price,discount_price,delivery_fee,"
+        + "total_price,item_name,item_price,item_quantity,item_image_url";
+
+    private final Writer writer;
+
+    public CsvOrderExportWriter(final OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write('\n');
+    }
+
+    @Override
+    public void write(final ExportedOrder exportedOrder) throws IOException {
+        for (OrderItem orderItem : exportedOrder.getOrderItems()) {
+            final Product product = orderItem.getProduct();
+            writer.write(String.valueOf(exportedOrder.getOrderId()));
+            writer.write(',');
+            writer.write(String.valueOf(exportedOrder.getMemberId()));
+            writer.write(',');
+            writer.write(exportedOrder.getOrderTime().toString());
+            writer.write(',');
+            writer.write(String.valueOf(exportedOrder.getProductPrice()));
+            writer.write(',');
+            writer.write(String.valueOf(exportedOrder.getDiscountPrice()));
+            writer.write(',');
+            writer.write(String.valueOf(exportedOrder.getDeliveryFee()));
+            writer.write(',');
+            writer.write(String.valueOf(exportedOrder.getTotalPrice()));
+            writer.write(',');
+            writer.write(escape(product.getName()));
+            writer.write(',');
+            writer.write(String.valueOf(product.getPrice()));
+            writer.write(',');
+            writer.write(String.valueOf(orderItem.getQuantity()));
+            writer.write(',');
+            writer.write(escape(product.getImageUrl()));
+            writer.write('\n');
+        }
+    }
+
+    private String escape(final String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,52 @@
+package cart.application.export;
+
+import cart.domain.Product;
+import cart.domain.order.OrderItem;
+import cart.dto.ExportedOrder;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonOrderExportWriter implements OrderExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    public NdjsonOrderExportWriter(final OutputStream outputStream) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(outputStream);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(final ExportedOrder exportedOrder) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("orderId", exportedOrder.getOrderId());
+        generator.writeNumberField("memberId", exportedOrder.getMemberId());
+        generator.writeStringField("orderTime", exportedOrder.getOrderTime().toString());
+        generator.writeNumberField("productPrice", exportedOrder.getProductPrice());
+        generator.writeNumberField("discountPrice", exportedOrder.getDiscountPrice());
+        generator.writeNumberField("deliveryFee", exportedOrder.getDeliveryFee());
+        generator.writeNumberField("totalPrice", exportedOrder.getTotalPrice());
+        generator.writeArrayFieldStart("items");
+        for (OrderItem orderItem : exportedOrder.getOrderItems()) {
+            final Product product = orderItem.getProduct();
+            generator.writeStartObject();
+            generator.writeStringField("name", product.getName());
+            generator.writeNumberField("price", product.getPrice());
+            generator.writeNumberField("quantity", orderItem.getQuantity());
+            generator.writeStringField("imageUrl", product.getImageUrl());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,41 @@
+package cart.application.export;
+
+import cart.exception.OrderException.InvalidOrderExportException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+public enum OrderExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    OrderExportFormat(final String mediaType, final String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static OrderExportFormat from(final String format) {
+        return Arrays.stream(values())
+            .filter(value -> value.extension.equalsIgnoreCase(format))
+            .findFirst()
+            .orElseThrow(() -> new InvalidOrderExportException("지원하지 않는 내보내기 형식입니다."));
+    }
+
+    public OrderExportWriter createWriter(final OutputStream outputStream) throws IOException {
+        if (this == CSV) {
+            return new CsvOrderExportWriter(outputStream);
+        }
+        return new NdjsonOrderExportWriter(outputStream);
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,10 @@
+package cart.application.export;
+
+import cart.dto.ExportedOrder;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface OrderExportWriter extends Closeable {
+
+    void write(final ExportedOrder exportedOrder) throws IOException;
+}
@@ -0,0 +1,53 @@
+package cart.application.outbox;
+
+import cart.domain.outbox.OutboxMessage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Path path;
+
+    public FileOutboxSink(@Value("${outbox.sink.file.path:outbox.ndjson}") final String path) {
+        this.path = Paths.get(path);
+    }
+
+    @Override
+    public void publish(final List<OutboxMessage> outboxMessages) {
+        try (OutputStream outputStream = Files.newOutputStream(path, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+            JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            for (OutboxMessage outboxMessage : outboxMessages) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", outboxMessage.getId());
+                generator.writeStringField("aggregateType", outboxMessage.getAggregateType());
+                generator.writeNumberField("aggregateId", outboxMessage.getAggregateId());
+                generator.writeStringField("eventType", outboxMessage.getEventType());
+                generator.writeFieldName("payload");
+                generator.writeRawValue(outboxMessage.getPayload());
+                generator.writeStringField("createdAt", outboxMessage.getCreatedAt().toString());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package cart.application.outbox;
+
+import cart.domain.outbox.OutboxMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final List<OutboxMessage> outboxMessages) {
+        published.addAll(outboxMessages);
+    }
+
+    public List<OutboxMessage> getPublished() {
+        return new ArrayList<>(published);
+    }
+}
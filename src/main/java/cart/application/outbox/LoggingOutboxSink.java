@@ -0,0 +1,23 @@
+package cart.application.outbox;
+
+import cart.domain.outbox.OutboxMessage;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "logging", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void publish(final List<OutboxMessage> outboxMessages) {
+        for (OutboxMessage outboxMessage : outboxMessages) {
+            log.info("outbox message; id={}, type={}, aggregateId={}, payload={}", outboxMessage.getId(),
+                outboxMessage.getEventType(), outboxMessage.getAggregateId(), outboxMessage.getPayload());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package cart.application.outbox;
+
+import cart.domain.outbox.OutboxMessage;
+import cart.domain.respository.outbox.OutboxRepository;
+import cart.dto.response.OutboxStatsResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000L;
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink outboxSink;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final Thread relay;
+    private volatile long currentIntervalMillis;
+    private volatile LocalDateTime lastRelayedAt;
+    private volatile boolean running = true;
+
+    public OutboxRelay(
+        final OutboxRepository outboxRepository,
+        final OutboxSink outboxSink,
+        @Value("${outbox.relay.enabled:true}") final boolean enabled,
+        @Value("${outbox.relay.batch-size:200}") final int batchSize,
+        @Value("${outbox.relay.min-interval:PT0.01S}") final Duration minInterval,
+        @Value("${outbox.relay.max-interval:PT1S}") final Duration maxInterval
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.outboxSink = outboxSink;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.minIntervalMillis = Math.max(1L, minInterval.toMillis());
+        this.maxIntervalMillis = Math.max(minIntervalMillis, maxInterval.toMillis());
+        this.currentIntervalMillis = minIntervalMillis;
+        this.relay = new Thread(this::relayLoop, "outbox-relay");
+        this.relay.setDaemon(true);
+        if (enabled) {
+            relay.start();
+        }
+    }
+
+    public OutboxStatsResponse getStats() {
+        final LocalDateTime now = LocalDateTime.now();
+        final long oldestAgeMillis = outboxRepository.findOldestCreatedAt()
+            .map(oldest -> Math.max(0L, Duration.between(oldest, now).toMillis()))
+            .orElse(0L);
+        return new OutboxStatsResponse(
+            enabled,
+            outboxRepository.count(),
+            oldestAgeMillis,
+            relayedCount.get(),
+            failedCount.get(),
+            currentIntervalMillis,
+            lastRelayedAt
+        );
+    }
+
+    public long getRelayedCount() {
+        return relayedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int relayOnce() {
+        long lastId = 0L;
+        int relayed = 0;
+        List<OutboxMessage> batch = outboxRepository.findAfter(lastId, batchSize);
+        while (!batch.isEmpty()) {
+            outboxSink.publish(batch);
+            outboxRepository.deleteByIds(batch.stream().map(OutboxMessage::getId).collect(Collectors.toList()));
+            relayed += batch.size();
+            relayedCount.addAndGet(batch.size());
+            lastRelayedAt = LocalDateTime.now();
+            if (batch.size() < batchSize) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            batch = outboxRepository.findAfter(lastId, batchSize);
+        }
+        return relayed;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (enabled) {
+            relay.interrupt();
+            relay.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                final int relayed = relayOnce();
+                currentIntervalMillis = relayed > 0
+                    ? minIntervalMillis
+                    : Math.min(maxIntervalMillis, currentIntervalMillis * 2);
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                currentIntervalMillis = maxIntervalMillis;
+                log.warn("outbox relay failed", e);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(currentIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package cart.application.outbox;
+
+import cart.domain.outbox.OutboxMessage;
+import java.util.List;
+
+public interface OutboxSink {
+
+    void publish(final List<OutboxMessage> outboxMessages);
+}
@@ -0,0 +1,133 @@
+package cart.application.shard;
+
+import cart.dao.MemberShardDao;
+import cart.domain.shard.ConsistentHashRing;
+import cart.domain.shard.MemberShard;
+import cart.exception.OrderException;
+import cart.exception.OrderException.OrderInProgressException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class MemberShardDirectory {
+
+    private final MemberShardDao memberShardDao;
+    private final ConsistentHashRing ring;
+    private final long cacheTtlNanos;
+    private final Duration moveTimeout;
+    private final Map<Long, CachedShard> assigned = new ConcurrentHashMap<>();
+
+    public MemberShardDirectory(final MemberShardDao memberShardDao, final ConsistentHashRing ring,
+        final Duration cacheTtl, final Duration moveTimeout) {
+        this.memberShardDao = memberShardDao;
+        this.ring = ring;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.moveTimeout = moveTimeout;
+    }
+
+    public int shardOf(final Long memberId) {
+        final CachedShard cached = assigned.get(memberId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.shardNo;
+        }
+        return refreshShardOf(memberId);
+    }
+
+    public int refreshShardOf(final Long memberId) {
+        return memberShardDao.findShardNo(memberId)
+            .map(shardNo -> cache(memberId, shardNo))
+            .orElseGet(() -> ring.shardOf(memberId));
+    }
+
+    public int assignForWrite(final Long memberId) {
+        final MemberShard locked = memberShardDao.findByMemberIdForUpdate(memberId).orElse(null);
+        if (locked != null) {
+            return writableShardOf(locked);
+        }
+
+        final int shardNo = ring.shardOf(memberId);
+        try {
+            memberShardDao.insert(memberId, shardNo);
+        } catch (DuplicateKeyException e) {
+            return writableShardOf(memberShardDao.findByMemberIdForUpdate(memberId).orElseThrow());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache(memberId, shardNo);
+                }
+            });
+            return shardNo;
+        }
+        return cache(memberId, shardNo);
+    }
+
+    private int writableShardOf(final MemberShard memberShard) {
+        if (memberShard.isMoving()) {
+            throw new OrderInProgressException("주문 내역을 다른 샤드로 옮기는 중입니다.");
+        }
+        return cache(memberShard.getMemberId(), memberShard.getShardNo());
+    }
+
+    public Map<Long, Integer> findMisplaced() {
+        return memberShardDao.findAll().entrySet()
+            .stream()
+            .filter(entry -> ring.shardOf(entry.getKey()) != entry.getValue())
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> ring.shardOf(entry.getKey())));
+    }
+
+    MemberShard beginMove(final Long memberId) {
+        final LocalDateTime now = LocalDateTime.now();
+        final MemberShard current = memberShardDao.findByMemberId(memberId).orElse(null);
+        if (current == null) {
+            final int shardNo = ring.shardOf(memberId);
+            try {
+                memberShardDao.insertMoving(memberId, shardNo, now);
+            } catch (DuplicateKeyException e) {
+                throw new OrderInProgressException("주문 내역을 다른 샤드로 옮기는 중입니다.");
+            }
+            return new MemberShard(memberId, shardNo, now, 1L);
+        }
+        if (!memberShardDao.markMoving(current, now, now.minus(moveTimeout))) {
+            throw new OrderInProgressException("주문 내역을 다른 샤드로 옮기는 중입니다.");
+        }
+        return new MemberShard(memberId, current.getShardNo(), now, current.getVersion() + 1);
+    }
+
+    void finishMove(final MemberShard moving, final int shardNo) {
+        if (!memberShardDao.finishMoving(moving, shardNo)) {
+            throw new OrderException("샤드 이동 상태가 바뀌어 이동을 마칠 수 없습니다; memberId=" + moving.getMemberId());
+        }
+        cache(moving.getMemberId(), shardNo);
+    }
+
+    void abortMove(final MemberShard moving) {
+        memberShardDao.finishMoving(moving, moving.getShardNo());
+    }
+
+    private int cache(final Long memberId, final int shardNo) {
+        assigned.put(memberId, new CachedShard(shardNo, System.nanoTime() + cacheTtlNanos));
+        return shardNo;
+    }
+
+    private static class CachedShard {
+
+        private final int shardNo;
+        private final long expiresAtNanos;
+
+        private CachedShard(final int shardNo, final long expiresAtNanos) {
+            this.shardNo = shardNo;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
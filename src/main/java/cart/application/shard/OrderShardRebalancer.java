@@ -0,0 +1,69 @@
+package cart.application.shard;
+
+import cart.config.shard.OrderShard;
+import cart.config.shard.OrderShards;
+import cart.dao.ShardOrderDao.MemberOrderRows;
+import cart.domain.shard.MemberShard;
+import cart.exception.OrderException;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class OrderShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderShardRebalancer.class);
+
+    private final OrderShards orderShards;
+    private final MemberShardDirectory memberShardDirectory;
+
+    public OrderShardRebalancer(final OrderShards orderShards, final MemberShardDirectory memberShardDirectory) {
+        this.orderShards = orderShards;
+        this.memberShardDirectory = memberShardDirectory;
+    }
+
+    public int rebalance() {
+        int moved = 0;
+        for (Map.Entry<Long, Integer> entry : memberShardDirectory.findMisplaced().entrySet()) {
+            if (move(entry.getKey(), entry.getValue())) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    public boolean move(final Long memberId, final int targetShardNo) {
+        if (!orderShards.contains(targetShardNo)) {
+            throw new OrderException("존재하지 않는 샤드입니다: " + targetShardNo);
+        }
+
+        final MemberShard moving = memberShardDirectory.beginMove(memberId);
+        final int sourceShardNo = moving.getShardNo();
+        if (sourceShardNo == targetShardNo) {
+            memberShardDirectory.abortMove(moving);
+            return false;
+        }
+
+        final OrderShard source = orderShards.get(sourceShardNo);
+        final OrderShard target = orderShards.get(targetShardNo);
+        final MemberOrderRows rows;
+        try {
+            rows = source.executeInOwnTransaction(dao -> dao.findRowsByMemberId(memberId));
+            target.executeInOwnTransaction(dao -> {
+                dao.deleteByIds(rows.getOrderIds());
+                dao.insertRows(rows);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            memberShardDirectory.abortMove(moving);
+            throw e;
+        }
+        memberShardDirectory.finishMove(moving, targetShardNo);
+        source.executeInOwnTransaction(dao -> {
+            dao.deleteByIds(rows.getOrderIds());
+            return null;
+        });
+        log.info("member orders moved; memberId={}, from={}, to={}, orders={}",
+            memberId, sourceShardNo, targetShardNo, rows.getOrderCount());
+        return true;
+    }
+}
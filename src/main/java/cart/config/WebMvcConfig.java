@@ -1,38 +1,53 @@
 package cart.config;
 
 import cart.dao.MemberDao;
+import cart.ui.AdminAuthInterceptor;
 import cart.ui.MemberArgumentResolver;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    public static final String[] ALLOWED_ORIGINS = {
+        "http://localhost:3000",
+        "http://218.39.176.142:3000",
+        "https://woowasplit.shop/",
+        "https://react-shopping-cart-woowa.netlify.app/",
+        "https://react-shopping-cart-prod-6izahtdpl-shackstack.vercel.app/",
+        "https://shackstack-tiffany.vercel.app/"
+    };
+    public static final String[] ALLOWED_METHODS = {"GET", "POST", "PATCH", "PUT", "DELETE", "OPTION"};
+
     private final MemberDao memberDao;
+    private final String adminApiToken;
 
-    public WebMvcConfig(MemberDao memberDao) {
+    public WebMvcConfig(MemberDao memberDao, @Value("${admin.api-token:}") final String adminApiToken) {
         this.memberDao = memberDao;
+        this.adminApiToken = adminApiToken;
     }
 
     @Override
     public void addCorsMappings(final CorsRegistry registry) {
         registry.addMapping("/**")
-            .allowedOrigins(
-                "http://localhost:3000",
-                "http://218.39.176.142:3000",
-                "https://woowasplit.shop/",
-                "https://react-shopping-cart-woowa.netlify.app/",
-                "https://react-shopping-cart-prod-6izahtdpl-shackstack.vercel.app/",
-                "https://shackstack-tiffany.vercel.app/"
-            )
-            .allowedMethods("GET", "POST", "PATCH", "PUT", "DELETE", "OPTION")
+            .allowedOrigins(ALLOWED_ORIGINS)
+            .allowedMethods(ALLOWED_METHODS)
             .allowedHeaders("*")
             .allowCredentials(true);
     }
 
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new AdminAuthInterceptor(adminApiToken))
+            .addPathPatterns("/admin/**", "/order-events/**")
+            .excludePathPatterns("/admin");
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new MemberArgumentResolver(memberDao));
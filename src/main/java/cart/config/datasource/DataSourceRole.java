@@ -0,0 +1,7 @@
+package cart.config.datasource;
+
+public enum DataSourceRole {
+
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,69 @@
+package cart.config.datasource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class ReadOnlyRequestFilter extends OncePerRequestFilter {
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    public ReadOnlyRequestFilter(final ReadYourWritesWindow readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        final String memberKey = memberKeyOf(request);
+        if (!isReadOnly(request)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (memberKey != null) {
+                    readYourWritesWindow.pin(memberKey);
+                }
+            }
+            return;
+        }
+        if (memberKey != null && readYourWritesWindow.isPinned(memberKey)) {
+            ReplicaRoutingDataSource.beginPrimaryRequest();
+        } else {
+            ReplicaRoutingDataSource.beginReadOnlyRequest();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.endRequest();
+        }
+    }
+
+    private boolean isReadOnly(final HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private String memberKeyOf(final HttpServletRequest request) {
+        final String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return null;
+        }
+        try {
+            final String credentials = new String(
+                Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim()),
+                StandardCharsets.UTF_8);
+            final int separator = credentials.indexOf(':');
+            return separator < 0 ? credentials : credentials.substring(0, separator);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
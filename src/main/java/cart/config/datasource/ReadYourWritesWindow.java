@@ -0,0 +1,38 @@
+package cart.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReadYourWritesWindow {
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntilNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesWindow(final Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void pin(final String memberKey) {
+        pinnedUntilNanos.put(memberKey, System.nanoTime() + windowNanos);
+    }
+
+    public boolean isPinned(final String memberKey) {
+        final Long pinnedUntil = pinnedUntilNanos.get(memberKey);
+        if (pinnedUntil == null) {
+            return false;
+        }
+        if (pinnedUntil - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntilNanos.remove(memberKey, pinnedUntil);
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.read-your-writes-window:PT5S}")
+    public void evictExpired() {
+        final long now = System.nanoTime();
+        pinnedUntilNanos.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+}
@@ -0,0 +1,94 @@
+package cart.config.datasource;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaDataSources implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSources.class);
+    private static final String LIVENESS_QUERY = "SELECT 1";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private volatile boolean replicaUsable = true;
+    private volatile long lagSeconds;
+
+    public ReplicaDataSources(final DataSource primary, final DataSource replica, final String lagQuery,
+        final String lagColumn, final Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT1S}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            final Long measured = measureLagSeconds();
+            usable = measured != null && measured <= maxLagSeconds;
+            lagSeconds = measured == null ? -1L : measured;
+        } catch (DataAccessException e) {
+            usable = false;
+            lagSeconds = -1L;
+            log.debug("replica lag check failed", e);
+        }
+        if (usable != replicaUsable) {
+            log.warn("replica {}; lagSeconds={}, maxLagSeconds={}",
+                usable ? "is back in rotation" : "is out of rotation, reads fall back to primary",
+                lagSeconds, maxLagSeconds);
+        }
+        replicaUsable = usable;
+    }
+
+    private Long measureLagSeconds() {
+        if (lagQuery.isBlank()) {
+            replicaJdbcTemplate.queryForObject(LIVENESS_QUERY, Integer.class);
+            return 0L;
+        }
+        return replicaJdbcTemplate.query(lagQuery, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            final Object lag = rs.getObject(lagColumn);
+            return lag instanceof Number ? ((Number) lag).longValue() : null;
+        });
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable) {
+            ((AutoCloseable) replica).close();
+        }
+        if (primary instanceof AutoCloseable) {
+            ((AutoCloseable) primary).close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package cart.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSources replicaDataSources(
+        final DataSourceProperties dataSourceProperties,
+        final Environment environment,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${datasource.replica.url}") final String replicaUrl,
+        @Value("${datasource.replica.username:${spring.datasource.username:}}") final String replicaUsername,
+        @Value("${datasource.replica.password:${spring.datasource.password:}}") final String replicaPassword,
+        @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") final String lagQuery,
+        @Value("${datasource.replica.lag-column:Seconds_Behind_Source}") final String lagColumn,
+        @Value("${datasource.replica.max-lag:PT2S}") final Duration maxLag
+    ) {
+        final Binder binder = Binder.get(environment);
+        final HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        final HikariDataSource replica = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(dataSourceProperties.determineDriverClassName())
+            .url(replicaUrl)
+            .username(replicaUsername)
+            .password(replicaPassword)
+            .build();
+        binder.bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        meterRegistry.ifAvailable(registry -> {
+            primary.setMetricRegistry(registry);
+            replica.setMetricRegistry(registry);
+        });
+
+        return new ReplicaDataSources(primary, replica, lagQuery, lagColumn, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicaDataSources replicaDataSources) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaDataSources));
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(
+        @Value("${datasource.replica.read-your-writes-window:PT5S}") final Duration window
+    ) {
+        return new ReadYourWritesWindow(window);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadOnlyRequestFilter> readOnlyRequestFilter(
+        final ReadYourWritesWindow readYourWritesWindow
+    ) {
+        final FilterRegistrationBean<ReadOnlyRequestFilter> registration =
+            new FilterRegistrationBean<>(new ReadOnlyRequestFilter(readYourWritesWindow));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,53 @@
+package cart.config.datasource;
+
+import java.util.Map;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<DataSourceRole> REQUEST_ROLE = new ThreadLocal<>();
+
+    private final ReplicaDataSources replicaDataSources;
+
+    public ReplicaRoutingDataSource(final ReplicaDataSources replicaDataSources) {
+        this.replicaDataSources = replicaDataSources;
+        setTargetDataSources(Map.of(
+            DataSourceRole.PRIMARY, replicaDataSources.getPrimary(),
+            DataSourceRole.REPLICA, replicaDataSources.getReplica()
+        ));
+        setDefaultTargetDataSource(replicaDataSources.getPrimary());
+        afterPropertiesSet();
+    }
+
+    public static void beginReadOnlyRequest() {
+        REQUEST_ROLE.set(DataSourceRole.REPLICA);
+    }
+
+    public static void beginPrimaryRequest() {
+        REQUEST_ROLE.set(DataSourceRole.PRIMARY);
+    }
+
+    public static void endRequest() {
+        REQUEST_ROLE.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (isReadOnly() && replicaDataSources.isReplicaUsable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+
+    private boolean isReadOnly() {
+        final DataSourceRole requestRole = REQUEST_ROLE.get();
+        if (requestRole == DataSourceRole.PRIMARY) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return requestRole == DataSourceRole.REPLICA;
+    }
+}
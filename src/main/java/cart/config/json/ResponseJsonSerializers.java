@@ -0,0 +1,193 @@
+package cart.config.json;
+
+import cart.dto.response.CartItemResponse;
+import cart.dto.response.OrderItemResponse;
+import cart.dto.response.OrderResponse;
+import cart.dto.response.OrdersResponse;
+import cart.dto.response.ProductResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.boot.jackson.JsonComponent;
+
+@JsonComponent
+public class ResponseJsonSerializers {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString IMAGE_URL = new SerializedString("imageUrl");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString PRODUCT = new SerializedString("product");
+    private static final SerializedString ORDER_ID = new SerializedString("orderId");
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString PRODUCT_PRICE = new SerializedString("productPrice");
+    private static final SerializedString DISCOUNT_PRICE = new SerializedString("discountPrice");
+    private static final SerializedString DELIVERY_FEE = new SerializedString("deliveryFee");
+    private static final SerializedString TOTAL_PRICE = new SerializedString("totalPrice");
+    private static final SerializedString ORDERS = new SerializedString("orders");
+
+    public static SimpleModule module() {
+        return new SimpleModule("ResponseJsonSerializers")
+            .addSerializer(new ProductResponseSerializer())
+            .addSerializer(new CartItemResponseSerializer())
+            .addSerializer(new OrderItemResponseSerializer())
+            .addSerializer(new OrderResponseSerializer())
+            .addSerializer(new OrdersResponseSerializer());
+    }
+
+    public static class ProductResponseSerializer extends StdSerializer<ProductResponse> {
+
+        public ProductResponseSerializer() {
+            super(ProductResponse.class);
+        }
+
+        @Override
+        public void serialize(final ProductResponse value, final JsonGenerator gen,
+            final SerializerProvider provider) throws IOException {
+            writeProduct(value, gen);
+        }
+    }
+
+    public static class CartItemResponseSerializer extends StdSerializer<CartItemResponse> {
+
+        public CartItemResponseSerializer() {
+            super(CartItemResponse.class);
+        }
+
+        @Override
+        public void serialize(final CartItemResponse value, final JsonGenerator gen,
+            final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeLong(gen, ID, value.getId());
+            gen.writeFieldName(QUANTITY);
+            gen.writeNumber(value.getQuantity());
+            gen.writeFieldName(PRODUCT);
+            writeProduct(value.getProduct(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    public static class OrderItemResponseSerializer extends StdSerializer<OrderItemResponse> {
+
+        public OrderItemResponseSerializer() {
+            super(OrderItemResponse.class);
+        }
+
+        @Override
+        public void serialize(final OrderItemResponse value, final JsonGenerator gen,
+            final SerializerProvider provider) throws IOException {
+            writeOrderItem(value, gen);
+        }
+    }
+
+    public static class OrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+        public OrderResponseSerializer() {
+            super(OrderResponse.class);
+        }
+
+        @Override
+        public void serialize(final OrderResponse value, final JsonGenerator gen,
+            final SerializerProvider provider) throws IOException {
+            writeOrder(value, gen);
+        }
+    }
+
+    public static class OrdersResponseSerializer extends StdSerializer<OrdersResponse> {
+
+        public OrdersResponseSerializer() {
+            super(OrdersResponse.class);
+        }
+
+        @Override
+        public void serialize(final OrdersResponse value, final JsonGenerator gen,
+            final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(ORDERS);
+            final List<OrderResponse> orders = value.getOrders();
+            if (orders == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(orders, orders.size());
+                for (OrderResponse order : orders) {
+                    writeOrder(order, gen);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeOrder(final OrderResponse order, final JsonGenerator gen) throws IOException {
+        if (order == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(order);
+        writeLong(gen, ORDER_ID, order.getOrderId());
+        gen.writeFieldName(ITEMS);
+        final List<OrderItemResponse> items = order.getItems();
+        if (items == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(items, items.size());
+            for (OrderItemResponse item : items) {
+                writeOrderItem(item, gen);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeFieldName(PRODUCT_PRICE);
+        gen.writeNumber(order.getProductPrice());
+        gen.writeFieldName(DISCOUNT_PRICE);
+        gen.writeNumber(order.getDiscountPrice());
+        gen.writeFieldName(DELIVERY_FEE);
+        gen.writeNumber(order.getDeliveryFee());
+        gen.writeFieldName(TOTAL_PRICE);
+        gen.writeNumber(order.getTotalPrice());
+        gen.writeEndObject();
+    }
+
+    private static void writeOrderItem(final OrderItemResponse item, final JsonGenerator gen) throws IOException {
+        if (item == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(item);
+        gen.writeFieldName(PRODUCT);
+        writeProduct(item.getProduct(), gen);
+        gen.writeFieldName(QUANTITY);
+        gen.writeNumber(item.getQuantity());
+        gen.writeEndObject();
+    }
+
+    private static void writeProduct(final ProductResponse product, final JsonGenerator gen) throws IOException {
+        if (product == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(product);
+        writeLong(gen, ID, product.getId());
+        gen.writeFieldName(NAME);
+        gen.writeString(product.getName());
+        gen.writeFieldName(PRICE);
+        gen.writeNumber(product.getPrice());
+        gen.writeFieldName(IMAGE_URL);
+        gen.writeString(product.getImageUrl());
+        gen.writeEndObject();
+    }
+
+    private static void writeLong(final JsonGenerator gen, final SerializedString name, final Long value)
+        throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeNumber(value);
+    }
+}
@@ -0,0 +1,56 @@
+package cart.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CheckoutMetricsAspect {
+
+    private static final String METRIC_NAME = "cart.checkout";
+    private static final String DOMAIN_EXCEPTION_PACKAGE = "cart.exception";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer success;
+
+    public CheckoutMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.success = timerOf("success", "none");
+    }
+
+    @Around("execution(* cart.application.OrderService.createOrder(..))")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final long start = System.nanoTime();
+        try {
+            final Object result = joinPoint.proceed();
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timerOf(outcomeOf(e), e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private String outcomeOf(final Throwable e) {
+        if (e.getClass().getName().startsWith(DOMAIN_EXCEPTION_PACKAGE)) {
+            return "rejected";
+        }
+        return "error";
+    }
+
+    private Timer timerOf(final String outcome, final String exception) {
+        return Timer.builder(METRIC_NAME)
+            .description("Checkout latency by outcome")
+            .tag("outcome", outcome)
+            .tag("exception", exception)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,66 @@
+package cart.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class DaoMetricsAspect {
+
+    private static final String METRIC_NAME = "cart.dao";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+
+    public DaoMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(cart.dao..*) && execution(public * *(..))")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final Timers methodTimers = timers.computeIfAbsent(method, this::timersOf);
+        final long start = System.nanoTime();
+        try {
+            final Object result = joinPoint.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timers timersOf(final Method method) {
+        return new Timers(timerOf(method, "success"), timerOf(method, "error"));
+    }
+
+    private Timer timerOf(final Method method, final String outcome) {
+        return Timer.builder(METRIC_NAME)
+            .description("DAO method latency")
+            .tag("dao", method.getDeclaringClass().getSimpleName())
+            .tag("method", method.getName())
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static class Timers {
+
+        private final Timer success;
+        private final Timer error;
+
+        private Timers(final Timer success, final Timer error) {
+            this.success = success;
+            this.error = error;
+        }
+    }
+}
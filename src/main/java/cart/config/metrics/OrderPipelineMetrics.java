@@ -0,0 +1,37 @@
+package cart.config.metrics;
+
+import cart.application.OrderEventService;
+import cart.application.outbox.OutboxRelay;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderPipelineMetrics implements MeterBinder {
+
+    private final OrderEventService orderEventService;
+    private final OutboxRelay outboxRelay;
+
+    public OrderPipelineMetrics(final OrderEventService orderEventService, final OutboxRelay outboxRelay) {
+        this.orderEventService = orderEventService;
+        this.outboxRelay = outboxRelay;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("cart.order.events.buffered", orderEventService, OrderEventService::getBufferedCount)
+            .description("Order events waiting in the ring buffer")
+            .register(registry);
+        FunctionCounter.builder("cart.order.events.dropped", orderEventService, OrderEventService::getDroppedCount)
+            .description("Order events dropped because the buffer was full or the write failed")
+            .register(registry);
+        FunctionCounter.builder("cart.outbox.relayed", outboxRelay, OutboxRelay::getRelayedCount)
+            .description("Outbox messages published to the sink")
+            .register(registry);
+        FunctionCounter.builder("cart.outbox.relay.failures", outboxRelay, OutboxRelay::getFailedCount)
+            .description("Failed outbox relay rounds")
+            .register(registry);
+    }
+}
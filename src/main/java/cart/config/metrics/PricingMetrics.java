@@ -0,0 +1,35 @@
+package cart.config.metrics;
+
+import cart.domain.delivery.DeliveryPolicy;
+import cart.domain.discount.DiscountPolicy;
+import cart.domain.order.OrderPrice;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Component
+public class PricingMetrics {
+
+    private final DistributionSummary discounts;
+    private final DistributionSummary deliveryFees;
+
+    public PricingMetrics(final MeterRegistry meterRegistry, final DiscountPolicy discountPolicy,
+        final DeliveryPolicy deliveryPolicy) {
+        this.discounts = DistributionSummary.builder("cart.pricing.discount")
+            .description("Discount granted per order")
+            .baseUnit("won")
+            .tag("policy", ClassUtils.getUserClass(discountPolicy).getSimpleName())
+            .register(meterRegistry);
+        this.deliveryFees = DistributionSummary.builder("cart.pricing.delivery.fee")
+            .description("Delivery fee charged per order")
+            .baseUnit("won")
+            .tag("policy", ClassUtils.getUserClass(deliveryPolicy).getSimpleName())
+            .register(meterRegistry);
+    }
+
+    public void record(final OrderPrice orderPrice) {
+        discounts.record(orderPrice.getDiscountPrice());
+        deliveryFees.record(orderPrice.getDeliveryFee());
+    }
+}
@@ -0,0 +1,110 @@
+package cart.config.profiling;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    public ProfilingDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection proxyConnection(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static boolean isExecute(final Method method) {
+        return method.getName().startsWith("execute");
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("equals".equals(method.getName())) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(method.getName())) {
+                return System.identityHashCode(proxy);
+            }
+            final Object result = ProfilingDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement) {
+                return proxyStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement) {
+                return proxyStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+            }
+            if (result instanceof Statement) {
+                return proxyStatement(Statement.class, (Statement) result, null);
+            }
+            return result;
+        }
+
+        private static Object proxyStatement(final Class<? extends Statement> type, final Statement statement,
+            final String sql) {
+            return Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                new StatementHandler(statement, sql));
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+
+        private StatementHandler(final Statement target, final String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (!isExecute(method) || !SqlProfiler.isActive()) {
+                return ProfilingDataSource.invoke(target, method, args);
+            }
+            final String sql = args != null && args.length > 0 && args[0] instanceof String
+                ? (String) args[0]
+                : preparedSql;
+            final long start = System.nanoTime();
+            try {
+                return ProfilingDataSource.invoke(target, method, args);
+            } finally {
+                SqlProfiler.record(sql, System.nanoTime() - start);
+            }
+        }
+    }
+}
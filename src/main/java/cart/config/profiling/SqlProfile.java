@@ -0,0 +1,67 @@
+package cart.config.profiling;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class SqlProfile {
+
+    private final Map<String, ShapeStats> shapes = new LinkedHashMap<>();
+    private int statementCount;
+    private long totalNanos;
+
+    public void record(final String sql, final long elapsedNanos) {
+        shapes.computeIfAbsent(SqlProfiler.normalize(sql), ShapeStats::new).add(elapsedNanos);
+        statementCount++;
+        totalNanos += elapsedNanos;
+    }
+
+    public List<ShapeStats> findRepeatedShapes(final int threshold) {
+        return shapes.values()
+            .stream()
+            .filter(shape -> shape.getCount() >= threshold)
+            .collect(Collectors.toList());
+    }
+
+    public List<ShapeStats> getShapes() {
+        return List.copyOf(shapes.values());
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public static class ShapeStats {
+
+        private final String shape;
+        private int count;
+        private long totalNanos;
+
+        private ShapeStats(final String shape) {
+            this.shape = shape;
+        }
+
+        private void add(final long elapsedNanos) {
+            count++;
+            totalNanos += elapsedNanos;
+        }
+
+        public String getShape() {
+            return shape;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getTotalMillis() {
+            return totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package cart.config.profiling;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+public final class SqlProfiler {
+
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("(\\(\\?\\))(?:\\s*,\\s*\\(\\?\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlProfiler() {
+    }
+
+    public static SqlProfile start() {
+        final SqlProfile profile = new SqlProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    public static SqlProfile profile(final Runnable action) {
+        return profile(() -> {
+            action.run();
+            return null;
+        }).profile;
+    }
+
+    public static <T> Profiled<T> profile(final Supplier<T> action) {
+        final SqlProfile outer = CURRENT.get();
+        final SqlProfile profile = start();
+        try {
+            return new Profiled<>(action.get(), profile);
+        } finally {
+            if (outer == null) {
+                stop();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    static void record(final String sql, final long elapsedNanos) {
+        final SqlProfile profile = CURRENT.get();
+        if (profile != null && sql != null) {
+            profile.record(sql, elapsedNanos);
+        }
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static String normalize(final String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        shape = ROW_LIST.matcher(shape).replaceAll("$1");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static class Profiled<T> {
+
+        private final T result;
+        private final SqlProfile profile;
+
+        private Profiled(final T result, final SqlProfile profile) {
+            this.result = result;
+            this.profile = profile;
+        }
+
+        public T getResult() {
+            return result;
+        }
+
+        public SqlProfile getProfile() {
+            return profile;
+        }
+    }
+}
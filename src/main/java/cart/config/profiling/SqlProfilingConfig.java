@@ -0,0 +1,39 @@
+package cart.config.profiling;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(name = "sql.profiler.enabled", havingValue = "true")
+public class SqlProfilingConfig {
+
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProfilingDataSource)) {
+                    return new ProfilingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlProfilingFilter> sqlProfilingFilter(
+        @Value("${sql.profiler.n-plus-one-threshold:5}") final int nPlusOneThreshold
+    ) {
+        final FilterRegistrationBean<SqlProfilingFilter> registration =
+            new FilterRegistrationBean<>(new SqlProfilingFilter(nPlusOneThreshold));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,110 @@
+package cart.config.profiling;
+
+import cart.config.profiling.SqlProfile.ShapeStats;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingFilter.class);
+
+    private final int nPlusOneThreshold;
+
+    public SqlProfilingFilter(final int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        final SqlProfile profile = SqlProfiler.start();
+        final ServerTimingResponse serverTimingResponse = new ServerTimingResponse(response, profile);
+        try {
+            filterChain.doFilter(request, serverTimingResponse);
+        } finally {
+            SqlProfiler.stop();
+            serverTimingResponse.writeServerTiming();
+            warnRepeatedShapes(request, profile);
+        }
+    }
+
+    private void warnRepeatedShapes(final HttpServletRequest request, final SqlProfile profile) {
+        for (ShapeStats shape : profile.findRepeatedShapes(nPlusOneThreshold)) {
+            log.warn("N+1 쿼리가 의심됩니다; request={} {}, count={}, totalMillis={}, sql={}",
+                request.getMethod(), request.getRequestURI(), shape.getCount(),
+                String.format(Locale.ROOT, "%.3f", shape.getTotalMillis()), shape.getShape());
+        }
+    }
+
+    private static String serverTimingOf(final SqlProfile profile) {
+        return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements\"", profile.getTotalMillis(),
+            profile.getStatementCount());
+    }
+
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final SqlProfile profile;
+        private boolean written;
+
+        private ServerTimingResponse(final HttpServletResponse response, final SqlProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        private void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            addHeader(SERVER_TIMING_HEADER, serverTimingOf(profile));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
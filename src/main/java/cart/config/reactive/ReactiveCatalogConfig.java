@@ -0,0 +1,100 @@
+package cart.config.reactive;
+
+import cart.config.WebMvcConfig;
+import cart.dao.ReactiveProductDao;
+import cart.ui.ReactiveCatalogHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+@ConditionalOnProperty(name = "catalog.reactive.enabled", havingValue = "true")
+public class ReactiveCatalogConfig {
+
+    // 커넥션 팩토리를 빈으로 노출하면 DataSourceAutoConfiguration 이 물러나므로 풀을 감싸서 등록한다.
+    @Bean(destroyMethod = "close")
+    public ReactiveCatalogDatabase reactiveCatalogDatabase(
+        @Value("${catalog.reactive.url}") final String url,
+        @Value("${catalog.reactive.username:${spring.datasource.username:sa}}") final String username,
+        @Value("${catalog.reactive.password:${spring.datasource.password:}}") final String password,
+        @Value("${catalog.reactive.pool.max-size:10}") final int maxSize,
+        @Value("${catalog.reactive.pool.max-acquire-time:PT3S}") final Duration maxAcquireTime
+    ) {
+        final ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+        return new ReactiveCatalogDatabase(new ConnectionPool(
+            ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(maxSize, 2))
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build()));
+    }
+
+    @Bean
+    public ReactiveProductDao reactiveProductDao(final ReactiveCatalogDatabase reactiveCatalogDatabase) {
+        return new ReactiveProductDao(reactiveCatalogDatabase.getDatabaseClient());
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> catalogRoutes(final ReactiveProductDao reactiveProductDao) {
+        final ReactiveCatalogHandler handler = new ReactiveCatalogHandler(reactiveProductDao);
+        return RouterFunctions.route()
+            .GET("/products", handler::getAllProducts)
+            .GET("/products/{id}", handler::getProductById)
+            .onError(NumberFormatException.class,
+                (e, request) -> ServerResponse.status(HttpStatus.BAD_REQUEST).build())
+            .onError(Exception.class,
+                (e, request) -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
+            .build();
+    }
+
+    @Bean
+    public ReactiveCatalogServer reactiveCatalogServer(
+        final RouterFunction<ServerResponse> catalogRoutes,
+        final ObjectMapper objectMapper,
+        @Value("${catalog.reactive.port:8081}") final int port
+    ) {
+        final HandlerStrategies strategies = HandlerStrategies.builder()
+            .codecs(configurer -> {
+                configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+            })
+            .webFilter(new CorsWebFilter(corsConfigurationSource()))
+            .build();
+        final HttpHandler httpHandler = RouterFunctions.toHttpHandler(catalogRoutes, strategies);
+        return new ReactiveCatalogServer(httpHandler, port);
+    }
+
+    private static UrlBasedCorsConfigurationSource corsConfigurationSource() {
+        final CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of(WebMvcConfig.ALLOWED_ORIGINS));
+        configuration.setAllowedMethods(List.of(WebMvcConfig.ALLOWED_METHODS));
+        configuration.addAllowedHeader("*");
+        configuration.setAllowCredentials(true);
+        final UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
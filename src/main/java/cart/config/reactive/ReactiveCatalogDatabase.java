@@ -0,0 +1,24 @@
+package cart.config.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+public class ReactiveCatalogDatabase implements AutoCloseable {
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveCatalogDatabase(final ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    public DatabaseClient getDatabaseClient() {
+        return databaseClient;
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+    }
+}
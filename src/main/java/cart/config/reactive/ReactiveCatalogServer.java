@@ -0,0 +1,37 @@
+package cart.config.reactive;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+
+public class ReactiveCatalogServer implements SmartLifecycle {
+
+    private final WebServer webServer;
+    private volatile boolean running;
+
+    public ReactiveCatalogServer(final HttpHandler httpHandler, final int port) {
+        this.webServer = new NettyReactiveWebServerFactory(port).getWebServer(httpHandler);
+    }
+
+    @Override
+    public void start() {
+        webServer.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        webServer.stop();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getPort() {
+        return webServer.getPort();
+    }
+}
@@ -0,0 +1,171 @@
+package cart.config.shard;
+
+import cart.dao.ShardOrderDao;
+import cart.domain.shard.ShardedOrderId;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * join()으로 참여한 샤드 트랜잭션은 주 트랜잭션보다 먼저, beforeCommit에서 커밋된다. 두 커밋은 원자적이지 않으므로
+ * 샤드에 쓰는 쪽이 주 트랜잭션 롤백 뒤의 보상을 맡는다(ShardedOrderRepository).
+ */
+public class OrderShard implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderShard.class);
+
+    private final int shardNo;
+    private final DataSource dataSource;
+    private final TransactionTemplate ownTransaction;
+    private final ShardOrderDao shardOrderDao;
+    private final int idBlockSize;
+    private final ReentrantLock idLock = new ReentrantLock();
+    private long nextSequence;
+    private long sequenceLimit;
+
+    public OrderShard(final int shardNo, final DataSource dataSource, final int idBlockSize) {
+        this.shardNo = shardNo;
+        this.dataSource = dataSource;
+        this.ownTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardOrderDao = new ShardOrderDao(new JdbcTemplate(dataSource));
+        this.idBlockSize = idBlockSize;
+    }
+
+    public List<Long> allocateOrderIds(final int count) {
+        final List<Long> orderIds = new ArrayList<>(count);
+        idLock.lock();
+        try {
+            while (orderIds.size() < count) {
+                if (nextSequence >= sequenceLimit) {
+                    nextSequence = ownTransaction.execute(status -> shardOrderDao.allocateIds(idBlockSize));
+                    sequenceLimit = nextSequence + idBlockSize;
+                }
+                orderIds.add(ShardedOrderId.of(nextSequence++, shardNo));
+            }
+        } finally {
+            idLock.unlock();
+        }
+        return orderIds;
+    }
+
+    public ShardOrderDao join() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.hasResource(dataSource)) {
+            return shardOrderDao;
+        }
+        final boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        final Connection connection = beginShardTransaction(readOnly);
+        final ConnectionHolder holder = new ConnectionHolder(connection);
+        holder.setSynchronizedWithTransaction(true);
+        TransactionSynchronizationManager.bindResource(dataSource, holder);
+        TransactionSynchronizationManager.registerSynchronization(
+            new ShardTransactionSynchronization(holder, readOnly));
+        return shardOrderDao;
+    }
+
+    private Connection beginShardTransaction(final boolean readOnly) {
+        final Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("샤드 커넥션을 얻을 수 없습니다: " + shardNo, e);
+        }
+        try {
+            if (readOnly) {
+                connection.setReadOnly(true);
+            }
+            connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, null);
+            throw new CannotCreateTransactionException("샤드 트랜잭션을 시작할 수 없습니다: " + shardNo, e);
+        }
+    }
+
+    public <T> T executeInOwnTransaction(final Function<ShardOrderDao, T> action) {
+        return ownTransaction.execute(status -> action.apply(shardOrderDao));
+    }
+
+    public int getShardNo() {
+        return shardNo;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable) {
+            ((AutoCloseable) dataSource).close();
+        }
+    }
+
+    private class ShardTransactionSynchronization implements TransactionSynchronization {
+
+        private final ConnectionHolder holder;
+        private final boolean readOnly;
+        private boolean committed;
+
+        private ShardTransactionSynchronization(final ConnectionHolder holder, final boolean readOnly) {
+            this.holder = holder;
+            this.readOnly = readOnly;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(dataSource, holder);
+        }
+
+        @Override
+        public void beforeCommit(final boolean readOnlyTransaction) {
+            try {
+                holder.getConnection().commit();
+                committed = true;
+            } catch (SQLException e) {
+                throw new TransactionSystemException("샤드 트랜잭션을 커밋할 수 없습니다: " + shardNo, e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            final Connection connection = holder.getConnection();
+            try {
+                if (!committed) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("failed to finish shard transaction; shardNo={}", shardNo, e);
+            } finally {
+                TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+                DataSourceUtils.resetConnectionAfterTransaction(connection, null, readOnly);
+                holder.clear();
+                DataSourceUtils.releaseConnection(connection, null);
+            }
+        }
+    }
+}
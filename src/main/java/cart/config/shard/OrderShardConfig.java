@@ -0,0 +1,123 @@
+package cart.config.shard;
+
+import cart.application.shard.MemberShardDirectory;
+import cart.application.shard.OrderShardRebalancer;
+import cart.dao.MemberShardDao;
+import cart.dao.OrderArchiveDao;
+import cart.dao.OrderExportDao;
+import cart.domain.respository.order.OrderRepository;
+import cart.domain.respository.order.ShardedOrderRepository;
+import cart.domain.respository.orderexport.OrderExportRepository;
+import cart.domain.respository.orderexport.ShardedOrderExportRepository;
+import cart.domain.respository.orderitem.OrderItemRepository;
+import cart.domain.respository.orderitem.ShardedOrderItemRepository;
+import cart.domain.shard.ShardedOrderId;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+@Configuration
+@ConditionalOnProperty(name = "order.sharding.enabled", havingValue = "true")
+public class OrderShardConfig {
+
+    private static final List<String> UNSHARDED_JOBS = List.of(
+        "order.stats.rebuild.enabled",
+        "order.archive.enabled",
+        "order.snapshot.backfill.enabled"
+    );
+
+    @Bean(destroyMethod = "close")
+    public OrderShards orderShards(
+        final Environment environment,
+        @Value("${order.sharding.virtual-nodes:128}") final int virtualNodes,
+        @Value("${order.sharding.id-block-size:100}") final int idBlockSize,
+        @Value("${order.sharding.initialize-schema:true}") final boolean initializeSchema
+    ) {
+        rejectUnshardedJobs(environment);
+        final Binder binder = Binder.get(environment);
+        final List<OrderShard> shards = new ArrayList<>();
+        for (int shardNo = 0; environment.containsProperty(prefixOf(shardNo) + ".url"); shardNo++) {
+            if (shardNo >= ShardedOrderId.MAX_SHARDS) {
+                throw new IllegalStateException("샤드는 최대 " + ShardedOrderId.MAX_SHARDS + "개까지 둘 수 있습니다.");
+            }
+            final HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(environment.getProperty(prefixOf(shardNo) + ".url"))
+                .username(environment.getProperty(prefixOf(shardNo) + ".username"))
+                .password(environment.getProperty(prefixOf(shardNo) + ".password"))
+                .build();
+            binder.bind("order.sharding.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("order-shard-" + shardNo);
+            if (initializeSchema) {
+                new ResourceDatabasePopulator(new ClassPathResource("shard-schema.sql")).execute(dataSource);
+            }
+            shards.add(new OrderShard(shardNo, dataSource, idBlockSize));
+        }
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("order.sharding.shards 설정이 비어 있습니다.");
+        }
+        return new OrderShards(shards, virtualNodes);
+    }
+
+    @Bean
+    public MemberShardDirectory memberShardDirectory(
+        final MemberShardDao memberShardDao,
+        final OrderShards orderShards,
+        @Value("${order.sharding.directory-cache-ttl:PT30S}") final Duration directoryCacheTtl,
+        @Value("${order.sharding.move-timeout:PT10M}") final Duration moveTimeout
+    ) {
+        return new MemberShardDirectory(memberShardDao, orderShards.getRing(), directoryCacheTtl, moveTimeout);
+    }
+
+    @Bean
+    public OrderRepository shardedOrderRepository(final OrderShards orderShards,
+        final MemberShardDirectory memberShardDirectory, final OrderArchiveDao orderArchiveDao) {
+        return new ShardedOrderRepository(orderShards, memberShardDirectory, orderArchiveDao);
+    }
+
+    @Bean
+    public OrderItemRepository shardedOrderItemRepository(final OrderShards orderShards) {
+        return new ShardedOrderItemRepository(orderShards);
+    }
+
+    @Bean
+    public OrderExportRepository shardedOrderExportRepository(final OrderShards orderShards,
+        final OrderExportDao orderExportDao, @Value("${order.export.fetch-size:500}") final int fetchSize) {
+        final List<OrderExportDao> shardOrderExportDaos = new ArrayList<>();
+        for (int shardNo = 0; shardNo < orderShards.size(); shardNo++) {
+            shardOrderExportDaos.add(
+                new OrderExportDao(new JdbcTemplate(orderShards.get(shardNo).getDataSource()), fetchSize));
+        }
+        return new ShardedOrderExportRepository(orderExportDao, shardOrderExportDaos);
+    }
+
+    @Bean
+    public OrderShardRebalancer orderShardRebalancer(final OrderShards orderShards,
+        final MemberShardDirectory memberShardDirectory) {
+        return new OrderShardRebalancer(orderShards, memberShardDirectory);
+    }
+
+    private static void rejectUnshardedJobs(final Environment environment) {
+        for (String job : UNSHARDED_JOBS) {
+            if (environment.getProperty(job, Boolean.class, false)) {
+                throw new IllegalStateException(job + "는 주문 테이블을 샤드가 아닌 기본 DB에서 읽으므로 샤딩과 함께 켤 수 없습니다.");
+            }
+        }
+    }
+
+    private static String prefixOf(final int shardNo) {
+        return "order.sharding.shards[" + shardNo + "]";
+    }
+}
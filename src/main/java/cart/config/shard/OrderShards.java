@@ -0,0 +1,41 @@
+package cart.config.shard;
+
+import cart.domain.shard.ConsistentHashRing;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OrderShards implements AutoCloseable {
+
+    private final List<OrderShard> shards;
+    private final ConsistentHashRing ring;
+
+    public OrderShards(final List<OrderShard> shards, final int virtualNodes) {
+        this.shards = shards;
+        this.ring = new ConsistentHashRing(shards.stream()
+            .map(OrderShard::getShardNo)
+            .collect(Collectors.toList()), virtualNodes);
+    }
+
+    public OrderShard get(final int shardNo) {
+        return shards.get(shardNo);
+    }
+
+    public boolean contains(final int shardNo) {
+        return shardNo >= 0 && shardNo < shards.size();
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (OrderShard shard : shards) {
+            shard.close();
+        }
+    }
+}
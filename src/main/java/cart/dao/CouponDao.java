@@ -0,0 +1,106 @@
+package cart.dao;
+
+import cart.domain.coupon.Coupon;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CouponDao {
+
+    private static final RowMapper<Coupon> COUPON_ROW_MAPPER = (rs, rowNum) -> new Coupon(
+        rs.getLong("id"),
+        rs.getString("name"),
+        rs.getLong("discount_amount"),
+        rs.getLong("min_order_price"),
+        rs.getObject("total_limit", Integer.class),
+        rs.getInt("per_member_limit")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CouponDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Coupon insert(final Coupon coupon) {
+        final String sql = "INSERT INTO coupon (name, discount_amount, min_order_price, total_limit, per_member_limit) "
+            + "VALUES (?, ?, ?, ?, ?)";
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, coupon.getName());
+            ps.setLong(2, coupon.getDiscountAmount());
+            ps.setLong(3, coupon.getMinOrderPrice());
+            if (coupon.isLimited()) {
+                ps.setInt(4, coupon.getTotalLimit());
+            } else {
+                ps.setNull(4, Types.INTEGER);
+            }
+            ps.setInt(5, coupon.getPerMemberLimit());
+            return ps;
+        }, keyHolder);
+        final long id = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        return new Coupon(id, coupon.getName(), coupon.getDiscountAmount(), coupon.getMinOrderPrice(),
+            coupon.getTotalLimit(), coupon.getPerMemberLimit());
+    }
+
+    public Optional<Coupon> findById(final Long id) {
+        final String sql = "SELECT id, name, discount_amount, min_order_price, total_limit, per_member_limit "
+            + "FROM coupon WHERE id = ?";
+        return jdbcTemplate.query(sql, COUPON_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public int countUsages(final Long couponId) {
+        final String sql = "SELECT COALESCE(SUM(used_count), 0) FROM coupon_member_usage WHERE coupon_id = ?";
+        return jdbcTemplate.queryForObject(sql, Integer.class, couponId);
+    }
+
+    public boolean increaseMemberUsage(final Long couponId, final Long memberId, final int perMemberLimit) {
+        if (increaseExistingMemberUsage(couponId, memberId, perMemberLimit)) {
+            return true;
+        }
+        if (perMemberLimit < 1) {
+            return false;
+        }
+        try {
+            final String sql = "INSERT INTO coupon_member_usage (coupon_id, member_id, used_count) VALUES (?, ?, 1)";
+            return jdbcTemplate.update(sql, couponId, memberId) == 1;
+        } catch (DuplicateKeyException e) {
+            return increaseExistingMemberUsage(couponId, memberId, perMemberLimit);
+        }
+    }
+
+    public void addUsedCounts(final Map<Long, Integer> usedCounts) {
+        final String sql = "UPDATE coupon SET used_count = used_count + ? WHERE id = ?";
+        final List<Object[]> params = usedCounts.entrySet()
+            .stream()
+            .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(sql, params);
+    }
+
+    public int syncUsedCounts() {
+        final String sql = "UPDATE coupon SET used_count = ("
+            + "SELECT COALESCE(SUM(u.used_count), 0) FROM coupon_member_usage u WHERE u.coupon_id = coupon.id"
+            + ")";
+        return jdbcTemplate.update(sql);
+    }
+
+    private boolean increaseExistingMemberUsage(final Long couponId, final Long memberId, final int perMemberLimit) {
+        final String sql = "UPDATE coupon_member_usage SET used_count = used_count + 1 "
+            + "WHERE coupon_id = ? AND member_id = ? AND used_count < ?";
+        return jdbcTemplate.update(sql, couponId, memberId, perMemberLimit) == 1;
+    }
+}
@@ -0,0 +1,73 @@
+package cart.dao;
+
+import cart.domain.MemberOrderStats;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MemberOrderStatsDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberOrderStatsDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void increment(final Long memberId, final long totalPrice, final LocalDateTime orderedAt) {
+        final String sql = "INSERT INTO member_order_stats (member_id, order_count, total_spend, last_ordered_at) "
+            + "VALUES (?, 1, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "order_count = order_count + 1, "
+            + "total_spend = total_spend + ?, "
+            + "last_ordered_at = GREATEST(last_ordered_at, ?)";
+        jdbcTemplate.update(sql, memberId, totalPrice, orderedAt, totalPrice, orderedAt);
+    }
+
+    public Optional<MemberOrderStats> findByMemberId(final Long memberId) {
+        final String sql = "SELECT * FROM member_order_stats WHERE member_id = ?";
+        final List<MemberOrderStats> stats = jdbcTemplate.query(sql, new MemberOrderStatsRowMapper(), memberId);
+
+        if (stats.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(stats.get(0));
+    }
+
+    public List<MemberOrderStats> findAll() {
+        final String sql = "SELECT * FROM member_order_stats";
+        return jdbcTemplate.query(sql, new MemberOrderStatsRowMapper());
+    }
+
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM member_order_stats");
+
+        final String sql = "INSERT INTO member_order_stats (member_id, order_count, total_spend, last_ordered_at) "
+            + "SELECT member_id, COUNT(*), SUM(total_price), MAX(created_at) "
+            + "FROM ("
+            + "SELECT member_id, total_price, created_at FROM orders "
+            + "UNION ALL "
+            + "SELECT member_id, total_price, created_at FROM orders_archive"
+            + ") AS ALL_ORDERS "
+            + "GROUP BY member_id";
+        return jdbcTemplate.update(sql);
+    }
+
+    private static class MemberOrderStatsRowMapper implements RowMapper<MemberOrderStats> {
+
+        @Override
+        public MemberOrderStats mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+            return new MemberOrderStats(
+                rs.getLong("member_id"),
+                rs.getLong("order_count"),
+                rs.getLong("total_spend"),
+                rs.getTimestamp("last_ordered_at").toLocalDateTime()
+            );
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cart.dao;
+
+import cart.domain.shard.MemberShard;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MemberShardDao {
+
+    private static final RowMapper<MemberShard> MEMBER_SHARD_ROW_MAPPER = (rs, rowNum) -> {
+        final Timestamp movingSince = rs.getTimestamp("moving_since");
+        return new MemberShard(rs.getLong("member_id"), rs.getInt("shard_no"),
+            movingSince == null ? null : movingSince.toLocalDateTime(), rs.getLong("version"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberShardDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<Integer> findShardNo(final Long memberId) {
+        final String sql = "SELECT shard_no FROM member_shard WHERE member_id = ?";
+        final List<Integer> shardNos = jdbcTemplate.queryForList(sql, Integer.class, memberId);
+        return shardNos.stream().findFirst();
+    }
+
+    public Optional<MemberShard> findByMemberId(final Long memberId) {
+        final String sql = "SELECT member_id, shard_no, moving_since, version FROM member_shard WHERE member_id = ?";
+        return jdbcTemplate.query(sql, MEMBER_SHARD_ROW_MAPPER, memberId).stream().findFirst();
+    }
+
+    public Optional<MemberShard> findByMemberIdForUpdate(final Long memberId) {
+        final String sql = "SELECT member_id, shard_no, moving_since, version FROM member_shard "
+            + "WHERE member_id = ? FOR UPDATE";
+        return jdbcTemplate.query(sql, MEMBER_SHARD_ROW_MAPPER, memberId).stream().findFirst();
+    }
+
+    public Map<Long, Integer> findAll() {
+        final Map<Long, Integer> shardNos = new HashMap<>();
+        jdbcTemplate.query("SELECT member_id, shard_no FROM member_shard",
+            rs -> {
+                shardNos.put(rs.getLong("member_id"), rs.getInt("shard_no"));
+            });
+        return shardNos;
+    }
+
+    public void insert(final Long memberId, final int shardNo) {
+        jdbcTemplate.update("INSERT INTO member_shard (member_id, shard_no) VALUES (?, ?)", memberId, shardNo);
+    }
+
+    public void insertMoving(final Long memberId, final int shardNo, final LocalDateTime movingSince) {
+        jdbcTemplate.update("INSERT INTO member_shard (member_id, shard_no, moving_since, version) VALUES (?, ?, ?, 1)",
+            memberId, shardNo, Timestamp.valueOf(movingSince));
+    }
+
+    public boolean markMoving(final MemberShard memberShard, final LocalDateTime movingSince,
+        final LocalDateTime staleBefore) {
+        final String sql = "UPDATE member_shard SET moving_since = ?, version = version + 1 "
+            + "WHERE member_id = ? AND version = ? AND (moving_since IS NULL OR moving_since < ?)";
+        return jdbcTemplate.update(sql, Timestamp.valueOf(movingSince), memberShard.getMemberId(),
+            memberShard.getVersion(), Timestamp.valueOf(staleBefore)) == 1;
+    }
+
+    public boolean finishMoving(final MemberShard memberShard, final int shardNo) {
+        final String sql = "UPDATE member_shard SET shard_no = ?, moving_since = NULL, version = version + 1 "
+            + "WHERE member_id = ? AND version = ?";
+        return jdbcTemplate.update(sql, shardNo, memberShard.getMemberId(), memberShard.getVersion()) == 1;
+    }
+}
@@ -0,0 +1,114 @@
+package cart.dao;
+
+import cart.domain.Member;
+import cart.domain.Product;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.domain.order.OrderPrice;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderArchiveDao {
+
+    private static final String ARCHIVE_COLUMNS =
+        "id, product_price, discount_price, delivery_fee, total_price, created_at, items";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderArchiveDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> findArchivableOrderIds(final Long afterOrderId, final LocalDateTime cutoff, final int limit) {
+        final String sql = "SELECT id FROM orders WHERE id > ? AND created_at < ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, afterOrderId, cutoff, limit);
+    }
+
+    public int archive(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final String inSql = toInSql(orderIds.size());
+        final Object[] params = orderIds.toArray();
+        final Map<Long, List<OrderItem>> orderItems = findOrderItems(inSql, params);
+
+        final String selectSql = "SELECT id, member_id, product_price, discount_price, delivery_fee, total_price, "
+            + "created_at FROM orders WHERE id IN " + inSql;
+        final List<Object[]> archiveRows = jdbcTemplate.query(selectSql, (rs, rowNum) -> new Object[]{
+            rs.getLong("id"),
+            rs.getLong("member_id"),
+            rs.getLong("product_price"),
+            rs.getLong("discount_price"),
+            rs.getLong("delivery_fee"),
+            rs.getLong("total_price"),
+            rs.getTimestamp("created_at"),
+            OrderItemsCodec.encode(orderItems.getOrDefault(rs.getLong("id"), List.of()))
+        }, params);
+
+        final String insertSql = "INSERT INTO orders_archive "
+            + "(id, member_id, product_price, discount_price, delivery_fee, total_price, created_at, items) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(insertSql, archiveRows);
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN " + inSql, params);
+        jdbcTemplate.update("DELETE FROM orders WHERE id IN " + inSql, params);
+        return archiveRows.size();
+    }
+
+    public Optional<Order> findByOrderId(final Member member, final Long orderId) {
+        final String sql = "SELECT " + ARCHIVE_COLUMNS + " FROM orders_archive WHERE id = ? AND member_id = ?";
+        final List<Order> orders = jdbcTemplate.query(sql, (rs, rowNum) -> toOrder(member, rs), orderId,
+            member.getId());
+
+        if (orders.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(orders.get(0));
+    }
+
+    public List<Order> findAllByMemberId(final Member member) {
+        final String sql = "SELECT " + ARCHIVE_COLUMNS + " FROM orders_archive WHERE member_id = ? ORDER BY id";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toOrder(member, rs), member.getId());
+    }
+
+    private Map<Long, List<OrderItem>> findOrderItems(final String inSql, final Object[] orderIds) {
+        final String sql = "SELECT id, order_id, product_name, product_price, product_image_url, product_quantity "
+            + "FROM order_items WHERE order_id IN " + inSql + " ORDER BY order_id, id";
+
+        final Map<Long, List<OrderItem>> orderItems = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            final Product product = new Product(
+                rs.getString("product_name"),
+                rs.getInt("product_price"),
+                rs.getString("product_image_url")
+            );
+            orderItems.computeIfAbsent(rs.getLong("order_id"), id -> new ArrayList<>())
+                .add(OrderItem.persisted(rs.getLong("id"), product, rs.getInt("product_quantity")));
+        }, orderIds);
+        return orderItems;
+    }
+
+    private Order toOrder(final Member member, final ResultSet rs) throws SQLException {
+        final OrderPrice orderPrice = OrderPrice.persisted(rs.getLong("product_price"), rs.getLong("discount_price"),
+            rs.getLong("delivery_fee"), rs.getLong("total_price"));
+        return Order.persisted(rs.getLong("id"), member, new OrderItems(OrderItemsCodec.decode(rs.getString("items"))),
+            rs.getTimestamp("created_at").toLocalDateTime(), orderPrice);
+    }
+
+    private String toInSql(final int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> "?")
+            .collect(Collectors.joining(", ", "(", ")"));
+    }
+}
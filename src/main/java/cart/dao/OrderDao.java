@@ -1,14 +1,19 @@
 package cart.dao;
 
+import cart.domain.Member;
+import cart.domain.Product;
 import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
 import cart.domain.order.OrderItems;
 import cart.domain.order.OrderPrice;
-import cart.dto.OrderDto;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Component;
@@ -16,6 +21,21 @@ import org.springframework.stereotype.Component;
 @Component
 public class OrderDao {
 
+    static final String ORDER_SELECT_SQL = "SELECT "
+        + "ORD.id AS order_id, "
+        + "ORD.created_at AS order_time, "
+        + "ORD.product_price AS order_product_price, "
+        + "ORD.discount_price AS order_discount_price, "
+        + "ORD.delivery_fee AS order_delivery_fee, "
+        + "ORD.total_price AS order_total_price, "
+        + "IT.id AS order_item_id, "
+        + "IT.product_name AS order_item_name, "
+        + "IT.product_price AS order_item_price, "
+        + "IT.product_image_url AS order_item_image_url, "
+        + "IT.product_quantity AS order_item_quantity "
+        + "FROM orders AS ORD "
+        + "INNER JOIN order_items AS IT ON IT.order_id = ORD.id ";
+
     private final JdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert simpleJdbcInsert;
 
@@ -37,77 +57,73 @@ public class OrderDao {
 
         final long orderId = simpleJdbcInsert.executeAndReturnKey(params).longValue();
         return Order.persisted(orderId, order.getMember(),
-            new OrderItems(order.getOrderItems()), order.getOrderTime());
+            new OrderItems(order.getOrderItems()), order.getOrderTime(), orderPrice);
     }
 
-    public List<OrderDto> findByOrderId(final Long orderId) {
-        final String sql = "SELECT "
-            + "ORD.id AS order_id, "
-            + "ORD.created_at AS order_time, "
-            + "MEM.id AS member_id, "
-            + "MEM.email AS member_email, "
-            + "MEM.password AS member_password, "
-            + "ORD.product_price AS order_product_price, "
-            + "ORD.discount_price AS order_discount_price, "
-            + "ORD.delivery_fee AS order_delivery_fee, "
-            + "ORD.total_price AS order_total_price, "
-            + "IT.id AS order_item_id, "
-            + "IT.product_name AS order_item_name, "
-            + "IT.product_price AS order_item_price, "
-            + "IT.product_image_url AS order_item_image_url, "
-            + "IT.product_quantity AS order_item_quantity "
-            + "FROM orders AS ORD "
-            + "INNER JOIN member AS MEM ON MEM.id = ORD.member_id "
-            + "INNER JOIN order_items AS IT ON IT.order_id = ORD.id "
-            + "WHERE ORD.id = ?";
-
-        return jdbcTemplate.query(sql, new OrderDtoRowMapper(), orderId);
+    public Optional<Order> findByOrderId(final Member member, final Long orderId) {
+        final String sql = ORDER_SELECT_SQL
+            + "WHERE ORD.id = ? AND ORD.member_id = ? "
+            + "ORDER BY IT.id";
+
+        final List<Order> orders = jdbcTemplate.query(sql, new OrderResultSetExtractor(member), orderId,
+            member.getId());
+        if (orders.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(orders.get(0));
     }
 
-    public List<OrderDto> findAllByMemberId(final Long memberId) {
-        final String sql = "SELECT "
-            + "ORD.id AS order_id, "
-            + "ORD.created_at AS order_time, "
-            + "MEM.id AS member_id, "
-            + "MEM.email AS member_email, "
-            + "MEM.password AS member_password, "
-            + "ORD.product_price AS order_product_price, "
-            + "ORD.discount_price AS order_discount_price, "
-            + "ORD.delivery_fee AS order_delivery_fee, "
-            + "ORD.total_price AS order_total_price, "
-            + "IT.id AS order_item_id, "
-            + "IT.product_name AS order_item_name, "
-            + "IT.product_price AS order_item_price, "
-            + "IT.product_image_url AS order_item_image_url, "
-            + "IT.product_quantity AS order_item_quantity "
-            + "FROM orders AS ORD "
-            + "INNER JOIN member AS MEM ON MEM.id = ORD.member_id "
-            + "INNER JOIN order_items AS IT ON IT.order_id = ORD.id "
-            + "WHERE ORD.member_id = ?";
-
-        return jdbcTemplate.query(sql, new OrderDtoRowMapper(), memberId);
+    public List<Order> findAllByMemberId(final Member member) {
+        final String sql = ORDER_SELECT_SQL
+            + "WHERE ORD.member_id = ? "
+            + "ORDER BY ORD.id, IT.id";
+
+        return jdbcTemplate.query(sql, new OrderResultSetExtractor(member), member.getId());
     }
 
-    private static class OrderDtoRowMapper implements RowMapper<OrderDto> {
+    static class OrderResultSetExtractor implements ResultSetExtractor<List<Order>> {
+
+        private final Member member;
+
+        OrderResultSetExtractor(final Member member) {
+            this.member = member;
+        }
 
         @Override
-        public OrderDto mapRow(final ResultSet rs, final int rowNum) throws SQLException {
-            return new OrderDto(
-                rs.getLong("order_id"),
-                rs.getTimestamp("order_time").toLocalDateTime(),
-                rs.getLong("member_id"),
-                rs.getString("member_email"),
-                rs.getString("member_password"),
-                rs.getLong("order_product_price"),
-                rs.getLong("order_discount_price"),
-                rs.getLong("order_delivery_fee"),
-                rs.getLong("order_total_price"),
-                rs.getLong("order_item_id"),
-                rs.getString("order_item_name"),
-                rs.getInt("order_item_price"),
-                rs.getString("order_item_image_url"),
-                rs.getInt("order_item_quantity")
-            );
+        public List<Order> extractData(final ResultSet rs) throws SQLException {
+            final List<Order> orders = new ArrayList<>();
+            long orderId = 0L;
+            LocalDateTime orderTime = null;
+            OrderPrice orderPrice = null;
+            List<OrderItem> orderItems = null;
+
+            while (rs.next()) {
+                final long rowOrderId = rs.getLong("order_id");
+                if (orderItems == null || rowOrderId != orderId) {
+                    if (orderItems != null) {
+                        orders.add(Order.persisted(orderId, member, new OrderItems(orderItems), orderTime,
+                            orderPrice));
+                    }
+                    orderId = rowOrderId;
+                    orderTime = rs.getTimestamp("order_time").toLocalDateTime();
+                    orderPrice = OrderPrice.persisted(rs.getLong("order_product_price"),
+                        rs.getLong("order_discount_price"), rs.getLong("order_delivery_fee"),
+                        rs.getLong("order_total_price"));
+                    orderItems = new ArrayList<>();
+                }
+                final Product product = new Product(
+                    rs.getString("order_item_name"),
+                    rs.getInt("order_item_price"),
+                    rs.getString("order_item_image_url")
+                );
+                orderItems.add(OrderItem.persisted(rs.getLong("order_item_id"), product,
+                    rs.getInt("order_item_quantity")));
+            }
+
+            if (orderItems != null) {
+                orders.add(Order.persisted(orderId, member, new OrderItems(orderItems), orderTime, orderPrice));
+            }
+            return orders;
         }
     }
 }
@@ -0,0 +1,53 @@
+package cart.dao;
+
+import cart.domain.order.OrderEvent;
+import cart.domain.order.OrderEventType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderEventDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderEventDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(final List<OrderEvent> orderEvents) {
+        final String sql = "INSERT INTO order_events (order_id, member_id, event_type, occurred_at) "
+            + "VALUES (?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, orderEvents.stream()
+            .map(orderEvent -> new Object[]{orderEvent.getOrderId(), orderEvent.getMemberId(),
+                orderEvent.getType().name(), Timestamp.valueOf(orderEvent.getOccurredAt())})
+            .collect(Collectors.toList()));
+    }
+
+    public List<OrderEvent> findAfter(final long afterSeq, final int size, final Duration readDelay) {
+        final String sql = "SELECT * FROM order_events "
+            + "WHERE seq > ? AND recorded_at <= TIMESTAMPADD(MICROSECOND, ?, CURRENT_TIMESTAMP(3)) "
+            + "ORDER BY seq LIMIT ?";
+        return jdbcTemplate.query(sql, new OrderEventRowMapper(), afterSeq, -readDelay.toNanos() / 1000, size);
+    }
+
+    private static class OrderEventRowMapper implements RowMapper<OrderEvent> {
+
+        @Override
+        public OrderEvent mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+            return OrderEvent.persisted(
+                rs.getLong("seq"),
+                rs.getLong("order_id"),
+                rs.getLong("member_id"),
+                OrderEventType.valueOf(rs.getString("event_type")),
+                rs.getTimestamp("occurred_at").toLocalDateTime()
+            );
+        }
+    }
+}
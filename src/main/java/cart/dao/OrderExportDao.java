@@ -0,0 +1,129 @@
+package cart.dao;
+
+import cart.domain.Product;
+import cart.domain.order.OrderItem;
+import cart.dto.ExportedOrder;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderExportDao {
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public OrderExportDao(final JdbcTemplate jdbcTemplate,
+        @Value("${order.export.fetch-size:500}") final int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamByOrderTime(final LocalDateTime from, final LocalDateTime to,
+        final Consumer<ExportedOrder> consumer) {
+        streamArchivedOrders(from, to, consumer);
+        streamOrders(from, to, consumer);
+    }
+
+    public void streamArchivedOrders(final LocalDateTime from, final LocalDateTime to,
+        final Consumer<ExportedOrder> consumer) {
+        final String sql = "SELECT id, member_id, created_at, product_price, discount_price, delivery_fee, "
+            + "total_price, items "
+            + "FROM orders_archive "
+            + "WHERE created_at >= ? AND created_at < ? "
+            + "ORDER BY created_at, id";
+
+        streamingJdbcTemplate.query(sql, rs -> {
+            consumer.accept(new ExportedOrder(
+                rs.getLong("id"),
+                rs.getLong("member_id"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getLong("product_price"),
+                rs.getLong("discount_price"),
+                rs.getLong("delivery_fee"),
+                rs.getLong("total_price"),
+                OrderItemsCodec.decode(rs.getString("items"))
+            ));
+        }, from, to);
+    }
+
+    public void streamOrders(final LocalDateTime from, final LocalDateTime to,
+        final Consumer<ExportedOrder> consumer) {
+        final String sql = "SELECT "
+            + "ORD.id AS order_id, "
+            + "ORD.member_id AS member_id, "
+            + "ORD.created_at AS order_time, "
+            + "ORD.product_price AS order_product_price, "
+            + "ORD.discount_price AS order_discount_price, "
+            + "ORD.delivery_fee AS order_delivery_fee, "
+            + "ORD.total_price AS order_total_price, "
+            + "IT.id AS order_item_id, "
+            + "IT.product_name AS order_item_name, "
+            + "IT.product_price AS order_item_price, "
+            + "IT.product_image_url AS order_item_image_url, "
+            + "IT.product_quantity AS order_item_quantity "
+            + "FROM orders AS ORD "
+            + "INNER JOIN order_items AS IT ON IT.order_id = ORD.id "
+            + "WHERE ORD.created_at >= ? AND ORD.created_at < ? "
+            + "ORDER BY ORD.created_at, ORD.id, IT.id";
+
+        final ExportedOrderAssembler assembler = new ExportedOrderAssembler(consumer);
+        streamingJdbcTemplate.query(sql, assembler, from, to);
+        assembler.flush();
+    }
+
+    private static class ExportedOrderAssembler implements RowCallbackHandler {
+
+        private final Consumer<ExportedOrder> consumer;
+        private long orderId;
+        private long memberId;
+        private LocalDateTime orderTime;
+        private long productPrice;
+        private long discountPrice;
+        private long deliveryFee;
+        private long totalPrice;
+        private List<OrderItem> orderItems;
+
+        private ExportedOrderAssembler(final Consumer<ExportedOrder> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(final ResultSet rs) throws SQLException {
+            final long rowOrderId = rs.getLong("order_id");
+            if (orderItems == null || rowOrderId != orderId) {
+                flush();
+                orderId = rowOrderId;
+                memberId = rs.getLong("member_id");
+                orderTime = rs.getTimestamp("order_time").toLocalDateTime();
+                productPrice = rs.getLong("order_product_price");
+                discountPrice = rs.getLong("order_discount_price");
+                deliveryFee = rs.getLong("order_delivery_fee");
+                totalPrice = rs.getLong("order_total_price");
+                orderItems = new ArrayList<>();
+            }
+            final Product product = new Product(
+                rs.getString("order_item_name"),
+                rs.getInt("order_item_price"),
+                rs.getString("order_item_image_url")
+            );
+            orderItems.add(OrderItem.persisted(rs.getLong("order_item_id"), product,
+                rs.getInt("order_item_quantity")));
+        }
+
+        private void flush() {
+            if (orderItems == null) {
+                return;
+            }
+            consumer.accept(new ExportedOrder(orderId, memberId, orderTime, productPrice, discountPrice,
+                deliveryFee, totalPrice, orderItems));
+            orderItems = null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package cart.dao;
+
+import cart.domain.order.OrderIdempotencyRecord;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderIdempotencyKeyDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderIdempotencyKeyDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(final Long memberId, final String idempotencyKey, final OrderIdempotencyRecord record,
+        final LocalDateTime createdAt) {
+        final String sql = "INSERT INTO order_idempotency_key "
+            + "(member_id, idempotency_key, request_hash, order_id, created_at) VALUES (?, ?, ?, ?, ?)";
+        jdbcTemplate.update(sql, memberId, idempotencyKey, record.getRequestHash(), record.getOrderId(), createdAt);
+    }
+
+    public Optional<OrderIdempotencyRecord> find(final Long memberId, final String idempotencyKey,
+        final LocalDateTime notBefore) {
+        final String sql = "SELECT order_id, request_hash FROM order_idempotency_key "
+            + "WHERE member_id = ? AND idempotency_key = ? AND created_at >= ?";
+        final List<OrderIdempotencyRecord> records = jdbcTemplate.query(sql,
+            (rs, rowNum) -> new OrderIdempotencyRecord(rs.getLong("order_id"), rs.getString("request_hash")),
+            memberId, idempotencyKey, notBefore);
+
+        if (records.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(records.get(0));
+    }
+
+    public void deleteExpired(final Long memberId, final String idempotencyKey, final LocalDateTime notBefore) {
+        final String sql = "DELETE FROM order_idempotency_key "
+            + "WHERE member_id = ? AND idempotency_key = ? AND created_at < ?";
+        jdbcTemplate.update(sql, memberId, idempotencyKey, notBefore);
+    }
+}
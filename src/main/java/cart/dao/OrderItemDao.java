@@ -1,6 +1,10 @@
 package cart.dao;
 
+import cart.domain.Product;
+import cart.domain.order.Order;
 import cart.domain.order.OrderItem;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
@@ -9,9 +13,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class OrderItemDao {
 
+    private final JdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert simpleJdbcInsert;
 
     public OrderItemDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
         this.simpleJdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
             .withTableName("order_items")
             .usingGeneratedKeyColumns("id");
@@ -28,4 +34,20 @@ public class OrderItemDao {
         final long orderItemId = simpleJdbcInsert.executeAndReturnKey(params).longValue();
         return OrderItem.persisted(orderItemId, orderItem.getProduct(), orderItem.getQuantity());
     }
+
+    public void insertAll(final List<Order> orders) {
+        final String sql = "INSERT INTO order_items "
+            + "(order_id, product_name, product_price, product_image_url, product_quantity) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+        final List<Object[]> params = new ArrayList<>();
+        for (Order order : orders) {
+            for (OrderItem orderItem : order.getOrderItems()) {
+                final Product product = orderItem.getProduct();
+                params.add(new Object[]{order.getId(), product.getName(), product.getPrice(), product.getImageUrl(),
+                    orderItem.getQuantity()});
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, params);
+    }
 }
@@ -0,0 +1,66 @@
+package cart.dao;
+
+import cart.domain.Product;
+import cart.domain.order.OrderItem;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+final class OrderItemsCodec {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private OrderItemsCodec() {
+    }
+
+    static String encode(final List<OrderItem> orderItems) {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartArray();
+            for (OrderItem orderItem : orderItems) {
+                final Product product = orderItem.getProduct();
+                generator.writeStartArray();
+                generator.writeNumber(orderItem.getId());
+                generator.writeString(product.getName());
+                generator.writeNumber(product.getPrice());
+                generator.writeString(product.getImageUrl());
+                generator.writeNumber(orderItem.getQuantity());
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    static List<OrderItem> decode(final String encoded) {
+        final List<OrderItem> orderItems = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(encoded)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_ARRAY) {
+                parser.nextToken();
+                final long id = parser.getLongValue();
+                parser.nextToken();
+                final String name = parser.getText();
+                parser.nextToken();
+                final int price = parser.getIntValue();
+                parser.nextToken();
+                final String imageUrl = parser.getText();
+                parser.nextToken();
+                final int quantity = parser.getIntValue();
+                parser.nextToken();
+                orderItems.add(OrderItem.persisted(id, new Product(name, price, imageUrl), quantity));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return orderItems;
+    }
+}
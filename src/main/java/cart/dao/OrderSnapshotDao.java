@@ -0,0 +1,57 @@
+package cart.dao;
+
+import cart.domain.order.OrderSnapshot;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderSnapshotDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderSnapshotDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(final OrderSnapshot orderSnapshot) {
+        final String sql = "INSERT INTO order_snapshot (order_id, member_id, content) VALUES (?, ?, ?)";
+        jdbcTemplate.update(sql, orderSnapshot.getOrderId(), orderSnapshot.getMemberId(),
+            orderSnapshot.getContent());
+    }
+
+    public Optional<OrderSnapshot> findByOrderId(final Long memberId, final Long orderId) {
+        final String sql = "SELECT order_id, member_id, content FROM order_snapshot "
+            + "WHERE order_id = ? AND member_id = ?";
+        final List<OrderSnapshot> snapshots = jdbcTemplate.query(sql, (rs, rowNum) -> new OrderSnapshot(
+            rs.getLong("order_id"),
+            rs.getLong("member_id"),
+            rs.getBytes("content")
+        ), orderId, memberId);
+
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshots.get(0));
+    }
+
+    public Map<Long, Long> findOrdersWithoutSnapshot(final Long afterOrderId, final int limit) {
+        final String sql = "SELECT ORD.id AS order_id, ORD.member_id AS member_id "
+            + "FROM orders AS ORD "
+            + "LEFT JOIN order_snapshot AS SNAP ON SNAP.order_id = ORD.id "
+            + "WHERE ORD.id > ? AND SNAP.order_id IS NULL "
+            + "ORDER BY ORD.id "
+            + "LIMIT ?";
+
+        final Map<Long, Long> memberIdsByOrderId = new LinkedHashMap<>();
+        jdbcTemplate.query(sql,
+            rs -> {
+                memberIdsByOrderId.put(rs.getLong("order_id"), rs.getLong("member_id"));
+            },
+            afterOrderId, limit);
+        return memberIdsByOrderId;
+    }
+}
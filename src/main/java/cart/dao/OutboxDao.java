@@ -0,0 +1,68 @@
+package cart.dao;
+
+import cart.domain.outbox.OutboxMessage;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(final OutboxMessage outboxMessage) {
+        final String sql = "INSERT INTO outbox (aggregate_type, aggregate_id, event_type, payload, created_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+        jdbcTemplate.update(sql, outboxMessage.getAggregateType(), outboxMessage.getAggregateId(),
+            outboxMessage.getEventType(), outboxMessage.getPayload(), Timestamp.valueOf(outboxMessage.getCreatedAt()));
+    }
+
+    public List<OutboxMessage> findAfter(final long afterId, final int limit) {
+        final String sql = "SELECT * FROM outbox WHERE id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, new OutboxMessageRowMapper(), afterId, limit);
+    }
+
+    public int deleteByIds(final List<Long> ids) {
+        final String inSql = IntStream.range(0, ids.size())
+            .mapToObj(i -> "?")
+            .collect(Collectors.joining(", ", "(", ")"));
+        return jdbcTemplate.update("DELETE FROM outbox WHERE id IN " + inSql, ids.toArray());
+    }
+
+    public long count() {
+        final Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Long.class);
+        return count == null ? 0L : count;
+    }
+
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        final Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM outbox", Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    private static class OutboxMessageRowMapper implements RowMapper<OutboxMessage> {
+
+        @Override
+        public OutboxMessage mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+            return OutboxMessage.persisted(
+                rs.getLong("id"),
+                rs.getString("aggregate_type"),
+                rs.getLong("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+            );
+        }
+    }
+}
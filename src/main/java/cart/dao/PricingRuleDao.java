@@ -0,0 +1,27 @@
+package cart.dao;
+
+import cart.domain.pricing.PricingRule;
+import cart.domain.pricing.PricingRuleType;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PricingRuleDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PricingRuleDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<PricingRule> findAll() {
+        final String sql = "SELECT rule_type, min_price, fixed_amount, rate_basis_points FROM pricing_rule";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new PricingRule(
+            PricingRuleType.valueOf(rs.getString("rule_type")),
+            rs.getLong("min_price"),
+            rs.getLong("fixed_amount"),
+            rs.getInt("rate_basis_points")
+        ));
+    }
+}
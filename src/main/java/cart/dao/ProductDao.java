@@ -5,6 +5,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -40,6 +42,18 @@ public class ProductDao {
         return Optional.of(product.get(0));
     }
 
+    public List<Product> getProductsByIds(final List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        final String inSql = IntStream.range(0, productIds.size())
+            .mapToObj(i -> "?")
+            .collect(Collectors.joining(", ", "(", ")"));
+        final String sql = "SELECT * FROM product WHERE id IN " + inSql;
+
+        return jdbcTemplate.query(sql, new ProductRowMapper(), productIds.toArray());
+    }
+
     public Product createProduct(final Product product) {
         final MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("name", product.getName());
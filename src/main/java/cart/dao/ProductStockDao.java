@@ -0,0 +1,54 @@
+package cart.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductStockDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductStockDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void replace(final Long productId, final int[] shardQuantities) {
+        jdbcTemplate.update("DELETE FROM product_stock WHERE product_id = ?", productId);
+
+        final String sql = "INSERT INTO product_stock (product_id, shard_no, quantity) VALUES (?, ?, ?)";
+        final List<Object[]> params = new ArrayList<>(shardQuantities.length);
+        for (int shardNo = 0; shardNo < shardQuantities.length; shardNo++) {
+            params.add(new Object[]{productId, shardNo, shardQuantities[shardNo]});
+        }
+        jdbcTemplate.batchUpdate(sql, params);
+    }
+
+    public int[] findShardQuantities(final Long productId) {
+        final String sql = "SELECT quantity FROM product_stock WHERE product_id = ? ORDER BY shard_no";
+        return jdbcTemplate.queryForList(sql, Integer.class, productId)
+            .stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    public int[] findShardQuantitiesForUpdate(final Long productId) {
+        final String sql = "SELECT quantity FROM product_stock WHERE product_id = ? ORDER BY shard_no FOR UPDATE";
+        return jdbcTemplate.queryForList(sql, Integer.class, productId)
+            .stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    public boolean decrease(final Long productId, final int shardNo, final int quantity) {
+        final String sql = "UPDATE product_stock SET quantity = quantity - ? "
+            + "WHERE product_id = ? AND shard_no = ? AND quantity >= ?";
+        return jdbcTemplate.update(sql, quantity, productId, shardNo, quantity) == 1;
+    }
+
+    public void increase(final Long productId, final int shardNo, final int quantity) {
+        final String sql = "UPDATE product_stock SET quantity = quantity + ? WHERE product_id = ? AND shard_no = ?";
+        jdbcTemplate.update(sql, quantity, productId, shardNo);
+    }
+}
@@ -0,0 +1,102 @@
+package cart.dao;
+
+import cart.domain.order.QueuedOrder;
+import cart.domain.order.QueuedOrderStatus;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueuedOrderDao {
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert simpleJdbcInsert;
+
+    public QueuedOrderDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.simpleJdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
+            .withTableName("order_request_queue")
+            .usingColumns("member_id", "payload", "status", "created_at")
+            .usingGeneratedKeyColumns("id");
+    }
+
+    public QueuedOrder insert(final QueuedOrder queuedOrder) {
+        final MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("member_id", queuedOrder.getMemberId());
+        params.addValue("payload", queuedOrder.getPayload());
+        params.addValue("status", queuedOrder.getStatus().name());
+        params.addValue("created_at", queuedOrder.getCreatedAt());
+
+        final long id = simpleJdbcInsert.executeAndReturnKey(params).longValue();
+        return QueuedOrder.persisted(id, queuedOrder.getMemberId(), queuedOrder.getPayload(),
+            queuedOrder.getStatus(), null, null, queuedOrder.getCreatedAt());
+    }
+
+    public Optional<QueuedOrder> findById(final Long memberId, final Long id) {
+        final String sql = "SELECT * FROM order_request_queue WHERE id = ? AND member_id = ?";
+        final List<QueuedOrder> queuedOrders = jdbcTemplate.query(sql, new QueuedOrderRowMapper(), id, memberId);
+
+        if (queuedOrders.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(queuedOrders.get(0));
+    }
+
+    public List<QueuedOrder> findPending(final Long afterId, final int limit) {
+        final String sql = "SELECT * FROM order_request_queue WHERE status = ? AND id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, new QueuedOrderRowMapper(), QueuedOrderStatus.PENDING.name(), afterId,
+            limit);
+    }
+
+    public boolean markProcessing(final Long id) {
+        final String sql = "UPDATE order_request_queue SET status = ? WHERE id = ? AND status = ?";
+        return jdbcTemplate.update(sql, QueuedOrderStatus.PROCESSING.name(), id,
+            QueuedOrderStatus.PENDING.name()) == 1;
+    }
+
+    public void markCompleted(final Long id, final Long orderId) {
+        final String sql = "UPDATE order_request_queue SET status = ?, order_id = ? WHERE id = ?";
+        jdbcTemplate.update(sql, QueuedOrderStatus.COMPLETED.name(), orderId, id);
+    }
+
+    public void markFailed(final Long id, final String failureMessage) {
+        final String sql = "UPDATE order_request_queue SET status = ?, failure_message = ? WHERE id = ?";
+        jdbcTemplate.update(sql, QueuedOrderStatus.FAILED.name(), truncate(failureMessage), id);
+    }
+
+    public int resetProcessing() {
+        final String sql = "UPDATE order_request_queue SET status = ? WHERE status = ?";
+        return jdbcTemplate.update(sql, QueuedOrderStatus.PENDING.name(), QueuedOrderStatus.PROCESSING.name());
+    }
+
+    private String truncate(final String message) {
+        if (message == null || message.length() <= MAX_FAILURE_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_FAILURE_MESSAGE_LENGTH);
+    }
+
+    private static class QueuedOrderRowMapper implements RowMapper<QueuedOrder> {
+
+        @Override
+        public QueuedOrder mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+            return QueuedOrder.persisted(
+                rs.getLong("id"),
+                rs.getLong("member_id"),
+                rs.getString("payload"),
+                QueuedOrderStatus.valueOf(rs.getString("status")),
+                rs.getObject("order_id", Long.class),
+                rs.getString("failure_message"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+            );
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package cart.dao;
+
+import cart.domain.Product;
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveProductDao {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveProductDao(final DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<Product> getAllProducts() {
+        final String sql = "SELECT id, name, price, image_url FROM product";
+        return databaseClient.sql(sql)
+            .map((row, metadata) -> toProduct(row))
+            .all();
+    }
+
+    public Mono<Product> getProductById(final Long productId) {
+        final String sql = "SELECT id, name, price, image_url FROM product WHERE id = :id";
+        return databaseClient.sql(sql)
+            .bind("id", productId)
+            .map((row, metadata) -> toProduct(row))
+            .one();
+    }
+
+    private static Product toProduct(final Row row) {
+        return new Product(
+            row.get("id", Long.class),
+            row.get("name", String.class),
+            row.get("price", Integer.class),
+            row.get("image_url", String.class));
+    }
+}
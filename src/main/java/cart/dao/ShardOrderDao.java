@@ -0,0 +1,152 @@
+package cart.dao;
+
+import cart.domain.Member;
+import cart.domain.Product;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.domain.order.OrderPrice;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+public class ShardOrderDao {
+
+    private static final String ORDER_COLUMNS =
+        "id, member_id, product_price, discount_price, delivery_fee, total_price, created_at";
+    private static final String ORDER_ITEM_COLUMNS =
+        "order_id, product_name, product_price, product_image_url, product_quantity";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShardOrderDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long allocateIds(final int blockSize) {
+        final Long next = jdbcTemplate.queryForObject(
+            "SELECT next_value FROM order_id_block WHERE id = 1 FOR UPDATE", Long.class);
+        jdbcTemplate.update("UPDATE order_id_block SET next_value = ? WHERE id = 1", next + blockSize);
+        return next;
+    }
+
+    public Order insert(final Order order, final OrderPrice orderPrice, final Long orderId) {
+        jdbcTemplate.update("INSERT INTO orders (" + ORDER_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)",
+            orderId, order.getMemberId(), orderPrice.getProductPrice(), orderPrice.getDiscountPrice(),
+            orderPrice.getDeliveryFee(), orderPrice.getTotalPrice(), Timestamp.valueOf(order.getOrderTime()));
+        return Order.persisted(orderId, order.getMember(), new OrderItems(order.getOrderItems()),
+            order.getOrderTime(), orderPrice);
+    }
+
+    public OrderItem insertItem(final Long orderId, final OrderItem orderItem) {
+        final Product product = orderItem.getProduct();
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO order_items (" + ORDER_ITEM_COLUMNS + ") VALUES (?, ?, ?, ?, ?)", new String[]{"id"});
+            ps.setLong(1, orderId);
+            ps.setString(2, product.getName());
+            ps.setInt(3, product.getPrice());
+            ps.setString(4, product.getImageUrl());
+            ps.setInt(5, orderItem.getQuantity());
+            return ps;
+        }, keyHolder);
+        return OrderItem.persisted(Objects.requireNonNull(keyHolder.getKey()).longValue(), product,
+            orderItem.getQuantity());
+    }
+
+    public void insertItems(final List<Order> orders) {
+        final List<Object[]> params = new ArrayList<>();
+        for (Order order : orders) {
+            for (OrderItem orderItem : order.getOrderItems()) {
+                final Product product = orderItem.getProduct();
+                params.add(new Object[]{order.getId(), product.getName(), product.getPrice(), product.getImageUrl(),
+                    orderItem.getQuantity()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO order_items (" + ORDER_ITEM_COLUMNS + ") VALUES (?, ?, ?, ?, ?)",
+            params);
+    }
+
+    public void deleteByIds(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM orders WHERE id IN " + placeholders(orderIds.size()), orderIds.toArray());
+    }
+
+    public Optional<Order> findByOrderId(final Member member, final Long orderId) {
+        final String sql = OrderDao.ORDER_SELECT_SQL
+            + "WHERE ORD.id = ? AND ORD.member_id = ? "
+            + "ORDER BY IT.id";
+        final List<Order> orders = jdbcTemplate.query(sql, new OrderDao.OrderResultSetExtractor(member), orderId,
+            member.getId());
+        return orders.stream().findFirst();
+    }
+
+    public List<Order> findAllByMemberId(final Member member) {
+        final String sql = OrderDao.ORDER_SELECT_SQL
+            + "WHERE ORD.member_id = ? "
+            + "ORDER BY ORD.id, IT.id";
+        return jdbcTemplate.query(sql, new OrderDao.OrderResultSetExtractor(member), member.getId());
+    }
+
+    public MemberOrderRows findRowsByMemberId(final Long memberId) {
+        final List<Object[]> orderRows = jdbcTemplate.query(
+            "SELECT " + ORDER_COLUMNS + " FROM orders WHERE member_id = ? ORDER BY id",
+            (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getLong("member_id"), rs.getLong("product_price"),
+                rs.getLong("discount_price"), rs.getLong("delivery_fee"), rs.getLong("total_price"),
+                rs.getTimestamp("created_at")},
+            memberId);
+        final List<Object[]> itemRows = jdbcTemplate.query(
+            "SELECT IT.order_id, IT.product_name, IT.product_price, IT.product_image_url, IT.product_quantity "
+                + "FROM order_items AS IT INNER JOIN orders AS ORD ON IT.order_id = ORD.id "
+                + "WHERE ORD.member_id = ? ORDER BY IT.id",
+            (rs, rowNum) -> new Object[]{rs.getLong("order_id"), rs.getString("product_name"),
+                rs.getInt("product_price"), rs.getString("product_image_url"), rs.getInt("product_quantity")},
+            memberId);
+        return new MemberOrderRows(orderRows, itemRows);
+    }
+
+    public void insertRows(final MemberOrderRows rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO orders (" + ORDER_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)",
+            rows.orderRows);
+        jdbcTemplate.batchUpdate("INSERT INTO order_items (" + ORDER_ITEM_COLUMNS + ") VALUES (?, ?, ?, ?, ?)",
+            rows.itemRows);
+    }
+
+    private static String placeholders(final int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> "?")
+            .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    public static class MemberOrderRows {
+
+        private final List<Object[]> orderRows;
+        private final List<Object[]> itemRows;
+
+        private MemberOrderRows(final List<Object[]> orderRows, final List<Object[]> itemRows) {
+            this.orderRows = orderRows;
+            this.itemRows = itemRows;
+        }
+
+        public List<Long> getOrderIds() {
+            return orderRows.stream()
+                .map(orderRow -> (Long) orderRow[0])
+                .collect(Collectors.toList());
+        }
+
+        public int getOrderCount() {
+            return orderRows.size();
+        }
+    }
+}
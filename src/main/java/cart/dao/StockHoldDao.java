@@ -0,0 +1,85 @@
+package cart.dao;
+
+import cart.domain.stock.StockHold;
+import cart.domain.stock.StockReservation;
+import cart.dto.StockHoldRecord;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StockHoldDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StockHoldDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(final List<StockHold> stockHolds) {
+        final List<Object[]> holdParams = new ArrayList<>(stockHolds.size());
+        final List<Object[]> itemParams = new ArrayList<>();
+        for (StockHold stockHold : stockHolds) {
+            holdParams.add(new Object[]{stockHold.getId(), stockHold.getMemberId(),
+                Timestamp.valueOf(stockHold.getExpiresAt())});
+            for (StockReservation reservation : stockHold.getReservations()) {
+                final int[] allocations = reservation.getAllocations();
+                for (int shardNo = 0; shardNo < allocations.length; shardNo++) {
+                    if (allocations[shardNo] > 0) {
+                        itemParams.add(new Object[]{stockHold.getId(), reservation.getProductId(), shardNo,
+                            allocations[shardNo]});
+                    }
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stock_hold (id, member_id, expires_at) VALUES (?, ?, ?)",
+            holdParams);
+        if (itemParams.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO stock_hold_item (hold_id, product_id, shard_no, quantity) VALUES (?, ?, ?, ?)",
+            itemParams);
+    }
+
+    public boolean deleteById(final String id) {
+        return jdbcTemplate.update("DELETE FROM stock_hold WHERE id = ?", id) == 1;
+    }
+
+    public int[] deleteAll(final List<String> ids) {
+        final List<Object[]> params = new ArrayList<>(ids.size());
+        ids.forEach(id -> params.add(new Object[]{id}));
+        return jdbcTemplate.batchUpdate("DELETE FROM stock_hold WHERE id = ?", params);
+    }
+
+    public List<StockHoldRecord> findAll() {
+        final String sql = "SELECT HOLD.id, HOLD.member_id, HOLD.expires_at, "
+            + "ITEM.product_id, ITEM.shard_no, ITEM.quantity "
+            + "FROM stock_hold HOLD "
+            + "LEFT JOIN stock_hold_item ITEM ON ITEM.hold_id = HOLD.id "
+            + "ORDER BY HOLD.id";
+
+        final Map<String, StockHoldRecord> records = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            final String id = rs.getString("id");
+            StockHoldRecord record = records.get(id);
+            if (record == null) {
+                record = new StockHoldRecord(id, rs.getLong("member_id"),
+                    rs.getTimestamp("expires_at").toLocalDateTime(), new TreeMap<>());
+                records.put(id, record);
+            }
+            final long productId = rs.getLong("product_id");
+            if (!rs.wasNull()) {
+                record.getAllocations()
+                    .computeIfAbsent(productId, key -> new TreeMap<>())
+                    .put(rs.getInt("shard_no"), rs.getInt("quantity"));
+            }
+        });
+        return new ArrayList<>(records.values());
+    }
+}
@@ -0,0 +1,39 @@
+package cart.domain;
+
+import java.time.LocalDateTime;
+
+public class MemberOrderStats {
+
+    private final Long memberId;
+    private final long orderCount;
+    private final long totalSpend;
+    private final LocalDateTime lastOrderedAt;
+
+    public MemberOrderStats(final Long memberId, final long orderCount, final long totalSpend,
+        final LocalDateTime lastOrderedAt) {
+        this.memberId = memberId;
+        this.orderCount = orderCount;
+        this.totalSpend = totalSpend;
+        this.lastOrderedAt = lastOrderedAt;
+    }
+
+    public static MemberOrderStats empty(final Long memberId) {
+        return new MemberOrderStats(memberId, 0L, 0L, null);
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getTotalSpend() {
+        return totalSpend;
+    }
+
+    public LocalDateTime getLastOrderedAt() {
+        return lastOrderedAt;
+    }
+}
@@ -0,0 +1,62 @@
+package cart.domain.coupon;
+
+public class Coupon {
+
+    private final Long id;
+    private final String name;
+    private final long discountAmount;
+    private final long minOrderPrice;
+    private final Integer totalLimit;
+    private final int perMemberLimit;
+
+    public Coupon(final Long id, final String name, final long discountAmount, final long minOrderPrice,
+        final Integer totalLimit, final int perMemberLimit) {
+        this.id = id;
+        this.name = name;
+        this.discountAmount = discountAmount;
+        this.minOrderPrice = minOrderPrice;
+        this.totalLimit = totalLimit;
+        this.perMemberLimit = perMemberLimit;
+    }
+
+    public static Coupon beforePersisted(final String name, final long discountAmount, final long minOrderPrice,
+        final Integer totalLimit, final int perMemberLimit) {
+        return new Coupon(null, name, discountAmount, minOrderPrice, totalLimit, perMemberLimit);
+    }
+
+    public boolean isApplicableTo(final long productPrice) {
+        return productPrice >= minOrderPrice;
+    }
+
+    public long discountOf(final long productPrice) {
+        return Math.min(discountAmount, productPrice);
+    }
+
+    public boolean isLimited() {
+        return totalLimit != null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public long getMinOrderPrice() {
+        return minOrderPrice;
+    }
+
+    public Integer getTotalLimit() {
+        return totalLimit;
+    }
+
+    public int getPerMemberLimit() {
+        return perMemberLimit;
+    }
+}
@@ -0,0 +1,63 @@
+package cart.domain.coupon;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CouponCounter {
+
+    private final boolean limited;
+    private final AtomicInteger remaining;
+    private final AtomicInteger unreconciled = new AtomicInteger();
+
+    private CouponCounter(final boolean limited, final int remaining) {
+        this.limited = limited;
+        this.remaining = new AtomicInteger(remaining);
+    }
+
+    public static CouponCounter limited(final int remaining) {
+        return new CouponCounter(true, Math.max(0, remaining));
+    }
+
+    public static CouponCounter unlimited() {
+        return new CouponCounter(false, Integer.MAX_VALUE);
+    }
+
+    public boolean tryAcquire() {
+        if (!limited) {
+            return true;
+        }
+        int current;
+        do {
+            current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    public void cancel() {
+        if (limited) {
+            remaining.incrementAndGet();
+        }
+    }
+
+    public void confirm() {
+        unreconciled.incrementAndGet();
+    }
+
+    public int drainUnreconciled() {
+        return unreconciled.getAndSet(0);
+    }
+
+    public void restoreUnreconciled(final int count) {
+        unreconciled.addAndGet(count);
+    }
+
+    public boolean isLimited() {
+        return limited;
+    }
+
+    public int getRemaining() {
+        return remaining.get();
+    }
+}
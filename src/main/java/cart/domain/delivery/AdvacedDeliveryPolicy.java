@@ -10,7 +10,7 @@ public class AdvacedDeliveryPolicy implements DeliveryPolicy {
     private static final long FREE_FEE = 0L;
 
     @Override
-    public Long getDeliveryFee(final Long productPrice) {
+    public long deliveryFeeOf(final long productPrice) {
         if (productPrice >= FREE_BOUND) {
             return FREE_FEE;
         }
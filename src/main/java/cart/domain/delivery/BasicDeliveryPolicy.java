@@ -5,7 +5,7 @@ public class BasicDeliveryPolicy implements DeliveryPolicy {
     private static final long BASIC_FEE = 3000L;
 
     @Override
-    public Long getDeliveryFee(final Long productPrice) {
+    public long deliveryFeeOf(final long productPrice) {
         return BASIC_FEE;
     }
 }
@@ -2,5 +2,5 @@ package cart.domain.delivery;
 
 public interface DeliveryPolicy {
 
-    Long getDeliveryFee(final Long productPrice);
+    long deliveryFeeOf(final long productPrice);
 }
@@ -0,0 +1,23 @@
+package cart.domain.delivery;
+
+import cart.domain.pricing.PricingRuleBook;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+@Primary
+@Component
+@ConditionalOnProperty(name = "pricing.rules.enabled", havingValue = "true")
+public class RuleBasedDeliveryPolicy implements DeliveryPolicy {
+
+    private final PricingRuleBook pricingRuleBook;
+
+    public RuleBasedDeliveryPolicy(final PricingRuleBook pricingRuleBook) {
+        this.pricingRuleBook = pricingRuleBook;
+    }
+
+    @Override
+    public long deliveryFeeOf(final long productPrice) {
+        return pricingRuleBook.current().deliveryFeeOf(productPrice);
+    }
+}
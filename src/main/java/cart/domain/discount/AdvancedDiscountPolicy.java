@@ -10,7 +10,7 @@ public class AdvancedDiscountPolicy implements DiscountPolicy {
     private static final int DISCOUNT_BOUND = 100_000;
 
     @Override
-    public Long calculate(final Long price) {
+    public long discountOf(final long price) {
         if (price >= DISCOUNT_BOUND) {
             return (long) (price * DISCOUNT_RATE);
         }
@@ -2,5 +2,5 @@ package cart.domain.discount;
 
 public interface DiscountPolicy {
 
-    Long calculate(final Long price);
+    long discountOf(final long price);
 }
@@ -0,0 +1,23 @@
+package cart.domain.discount;
+
+import cart.domain.pricing.PricingRuleBook;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+@Primary
+@Component
+@ConditionalOnProperty(name = "pricing.rules.enabled", havingValue = "true")
+public class RuleBasedDiscountPolicy implements DiscountPolicy {
+
+    private final PricingRuleBook pricingRuleBook;
+
+    public RuleBasedDiscountPolicy(final PricingRuleBook pricingRuleBook) {
+        this.pricingRuleBook = pricingRuleBook;
+    }
+
+    @Override
+    public long discountOf(final long price) {
+        return pricingRuleBook.current().discountOf(price);
+    }
+}
@@ -10,22 +10,30 @@ public class Order {
     private final Member member;
     private final OrderItems orderItems;
     private final LocalDateTime orderTime;
+    private final OrderPrice orderPrice;
 
-    private Order(final Long id, final Member member, final OrderItems orderItems, final LocalDateTime orderTime) {
+    private Order(final Long id, final Member member, final OrderItems orderItems, final LocalDateTime orderTime,
+        final OrderPrice orderPrice) {
         this.id = id;
         this.member = member;
         this.orderItems = orderItems;
         this.orderTime = orderTime;
+        this.orderPrice = orderPrice;
     }
 
     public static Order beforePersisted(final Member member, final OrderItems orderItems,
         final LocalDateTime orderTime) {
-        return new Order(null, member, orderItems, orderTime);
+        return new Order(null, member, orderItems, orderTime, null);
     }
 
     public static Order persisted(final Long id, final Member member, final OrderItems orderItems,
         final LocalDateTime created_at) {
-        return new Order(id, member, orderItems, created_at);
+        return new Order(id, member, orderItems, created_at, null);
+    }
+
+    public static Order persisted(final Long id, final Member member, final OrderItems orderItems,
+        final LocalDateTime created_at, final OrderPrice orderPrice) {
+        return new Order(id, member, orderItems, created_at, orderPrice);
     }
 
     public Long getId() {
@@ -44,11 +52,18 @@ public class Order {
         return orderItems.getItems();
     }
 
-    public Long getProductPrice() {
+    public long getProductPrice() {
         return orderItems.getTotalPrice();
     }
 
     public LocalDateTime getOrderTime() {
         return orderTime;
     }
+
+    public OrderPrice getOrderPrice() {
+        if (orderPrice == null) {
+            throw new IllegalStateException("저장된 주문 금액이 없습니다; orderId=" + id);
+        }
+        return orderPrice;
+    }
 }
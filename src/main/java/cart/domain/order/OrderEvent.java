@@ -0,0 +1,51 @@
+package cart.domain.order;
+
+import java.time.LocalDateTime;
+
+public class OrderEvent {
+
+    private final Long seq;
+    private final Long orderId;
+    private final Long memberId;
+    private final OrderEventType type;
+    private final LocalDateTime occurredAt;
+
+    private OrderEvent(final Long seq, final Long orderId, final Long memberId, final OrderEventType type,
+        final LocalDateTime occurredAt) {
+        this.seq = seq;
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OrderEvent of(final Long orderId, final Long memberId, final OrderEventType type,
+        final LocalDateTime occurredAt) {
+        return new OrderEvent(null, orderId, memberId, type, occurredAt);
+    }
+
+    public static OrderEvent persisted(final Long seq, final Long orderId, final Long memberId,
+        final OrderEventType type, final LocalDateTime occurredAt) {
+        return new OrderEvent(seq, orderId, memberId, type, occurredAt);
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public OrderEventType getType() {
+        return type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
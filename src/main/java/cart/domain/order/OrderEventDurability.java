@@ -0,0 +1,6 @@
+package cart.domain.order;
+
+public enum OrderEventDurability {
+    SYNC,
+    ASYNC
+}
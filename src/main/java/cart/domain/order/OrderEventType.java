@@ -0,0 +1,7 @@
+package cart.domain.order;
+
+public enum OrderEventType {
+    PLACED,
+    CANCELLED,
+    SHIPPED
+}
@@ -0,0 +1,20 @@
+package cart.domain.order;
+
+public class OrderIdempotencyRecord {
+
+    private final Long orderId;
+    private final String requestHash;
+
+    public OrderIdempotencyRecord(final Long orderId, final String requestHash) {
+        this.orderId = orderId;
+        this.requestHash = requestHash;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+}
@@ -14,7 +14,7 @@ public class OrderItems {
         return items;
     }
 
-    public Long getTotalPrice() {
+    public long getTotalPrice() {
         return items.stream()
             .mapToLong(item -> (long) item.getProduct().getPrice() * item.getQuantity())
             .sum();
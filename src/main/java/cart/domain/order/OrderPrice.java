@@ -5,35 +5,57 @@ import cart.domain.discount.DiscountPolicy;
 
 public class OrderPrice {
 
-    private Long productPrice;
-    private final DiscountPolicy discountPolicy;
-    private final DeliveryPolicy deliveryPolicy;
+    private final long productPrice;
+    private final long discountPrice;
+    private final long deliveryFee;
+    private final long totalPrice;
 
-    private OrderPrice(final Long productPrice, final DiscountPolicy discountPolicy,
-        final DeliveryPolicy deliveryPolicy) {
+    private OrderPrice(final long productPrice, final long discountPrice, final long deliveryFee) {
+        this(productPrice, discountPrice, deliveryFee, productPrice - discountPrice + deliveryFee);
+    }
+
+    private OrderPrice(final long productPrice, final long discountPrice, final long deliveryFee,
+        final long totalPrice) {
         this.productPrice = productPrice;
-        this.discountPolicy = discountPolicy;
-        this.deliveryPolicy = deliveryPolicy;
+        this.discountPrice = discountPrice;
+        this.deliveryFee = deliveryFee;
+        this.totalPrice = totalPrice;
     }
 
     public static OrderPrice of(final Order order, final DiscountPolicy discountPolicy,
         final DeliveryPolicy deliveryPolicy) {
-        return new OrderPrice(order.getProductPrice(), discountPolicy, deliveryPolicy);
+        return of(order.getProductPrice(), discountPolicy, deliveryPolicy);
+    }
+
+    public static OrderPrice of(final long productPrice, final DiscountPolicy discountPolicy,
+        final DeliveryPolicy deliveryPolicy) {
+        return new OrderPrice(productPrice, discountPolicy.discountOf(productPrice),
+            deliveryPolicy.deliveryFeeOf(productPrice));
+    }
+
+    public static OrderPrice persisted(final long productPrice, final long discountPrice, final long deliveryFee,
+        final long totalPrice) {
+        return new OrderPrice(productPrice, discountPrice, deliveryFee, totalPrice);
+    }
+
+    public OrderPrice withAdditionalDiscount(final long discount) {
+        final long appliedDiscount = Math.min(discount, productPrice - discountPrice);
+        return new OrderPrice(productPrice, discountPrice + appliedDiscount, deliveryFee);
     }
 
-    public Long getProductPrice() {
+    public long getProductPrice() {
         return productPrice;
     }
 
-    public Long getDiscountPrice() {
-        return discountPolicy.calculate(productPrice);
+    public long getDiscountPrice() {
+        return discountPrice;
     }
 
-    public Long getDeliveryFee() {
-        return deliveryPolicy.getDeliveryFee(productPrice);
+    public long getDeliveryFee() {
+        return deliveryFee;
     }
 
-    public Long getTotalPrice() {
-        return productPrice - getDiscountPrice() + getDeliveryFee();
+    public long getTotalPrice() {
+        return totalPrice;
     }
 }
@@ -0,0 +1,26 @@
+package cart.domain.order;
+
+public class OrderSnapshot {
+
+    private final Long orderId;
+    private final Long memberId;
+    private final byte[] content;
+
+    public OrderSnapshot(final Long orderId, final Long memberId, final byte[] content) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.content = content;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+}
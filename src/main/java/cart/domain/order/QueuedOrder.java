@@ -0,0 +1,63 @@
+package cart.domain.order;
+
+import java.time.LocalDateTime;
+
+public class QueuedOrder {
+
+    private final Long id;
+    private final Long memberId;
+    private final String payload;
+    private final QueuedOrderStatus status;
+    private final Long orderId;
+    private final String failureMessage;
+    private final LocalDateTime createdAt;
+
+    private QueuedOrder(final Long id, final Long memberId, final String payload, final QueuedOrderStatus status,
+        final Long orderId, final String failureMessage, final LocalDateTime createdAt) {
+        this.id = id;
+        this.memberId = memberId;
+        this.payload = payload;
+        this.status = status;
+        this.orderId = orderId;
+        this.failureMessage = failureMessage;
+        this.createdAt = createdAt;
+    }
+
+    public static QueuedOrder pending(final Long memberId, final String payload, final LocalDateTime createdAt) {
+        return new QueuedOrder(null, memberId, payload, QueuedOrderStatus.PENDING, null, null, createdAt);
+    }
+
+    public static QueuedOrder persisted(final Long id, final Long memberId, final String payload,
+        final QueuedOrderStatus status, final Long orderId, final String failureMessage,
+        final LocalDateTime createdAt) {
+        return new QueuedOrder(id, memberId, payload, status, orderId, failureMessage, createdAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public QueuedOrderStatus getStatus() {
+        return status;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
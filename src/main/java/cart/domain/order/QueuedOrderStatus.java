@@ -0,0 +1,8 @@
+package cart.domain.order;
+
+public enum QueuedOrderStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
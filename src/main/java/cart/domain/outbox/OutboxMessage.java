@@ -0,0 +1,57 @@
+package cart.domain.outbox;
+
+import java.time.LocalDateTime;
+
+public class OutboxMessage {
+
+    private final Long id;
+    private final String aggregateType;
+    private final Long aggregateId;
+    private final String eventType;
+    private final String payload;
+    private final LocalDateTime createdAt;
+
+    private OutboxMessage(final Long id, final String aggregateType, final Long aggregateId, final String eventType,
+        final String payload, final LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxMessage of(final String aggregateType, final Long aggregateId, final String eventType,
+        final String payload, final LocalDateTime createdAt) {
+        return new OutboxMessage(null, aggregateType, aggregateId, eventType, payload, createdAt);
+    }
+
+    public static OutboxMessage persisted(final Long id, final String aggregateType, final Long aggregateId,
+        final String eventType, final String payload, final LocalDateTime createdAt) {
+        return new OutboxMessage(id, aggregateType, aggregateId, eventType, payload, createdAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
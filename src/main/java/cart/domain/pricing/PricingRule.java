@@ -0,0 +1,33 @@
+package cart.domain.pricing;
+
+public class PricingRule {
+
+    private final PricingRuleType type;
+    private final long minPrice;
+    private final long fixedAmount;
+    private final int rateBasisPoints;
+
+    public PricingRule(final PricingRuleType type, final long minPrice, final long fixedAmount,
+        final int rateBasisPoints) {
+        this.type = type;
+        this.minPrice = minPrice;
+        this.fixedAmount = fixedAmount;
+        this.rateBasisPoints = rateBasisPoints;
+    }
+
+    public PricingRuleType getType() {
+        return type;
+    }
+
+    public long getMinPrice() {
+        return minPrice;
+    }
+
+    public long getFixedAmount() {
+        return fixedAmount;
+    }
+
+    public int getRateBasisPoints() {
+        return rateBasisPoints;
+    }
+}
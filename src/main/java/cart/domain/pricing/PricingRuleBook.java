@@ -0,0 +1,20 @@
+package cart.domain.pricing;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "pricing.rules.enabled", havingValue = "true")
+public class PricingRuleBook {
+
+    private final AtomicReference<PricingRules> current = new AtomicReference<>(PricingRules.defaults());
+
+    public PricingRules current() {
+        return current.get();
+    }
+
+    public void replace(final PricingRules pricingRules) {
+        current.set(pricingRules);
+    }
+}
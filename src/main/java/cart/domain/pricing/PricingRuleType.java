@@ -0,0 +1,6 @@
+package cart.domain.pricing;
+
+public enum PricingRuleType {
+    DISCOUNT,
+    DELIVERY
+}
@@ -0,0 +1,61 @@
+package cart.domain.pricing;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PricingRules {
+
+    private static final PricingRules DEFAULTS = new PricingRules(
+        TieredRules.compile(List.of(new PricingRule(PricingRuleType.DISCOUNT, 100_000L, 0L, 1_000))),
+        TieredRules.compile(List.of(
+            new PricingRule(PricingRuleType.DELIVERY, 0L, 3_000L, 0),
+            new PricingRule(PricingRuleType.DELIVERY, 50_000L, 0L, 0)
+        ))
+    );
+
+    private final TieredRules discountRules;
+    private final TieredRules deliveryRules;
+
+    private PricingRules(final TieredRules discountRules, final TieredRules deliveryRules) {
+        this.discountRules = discountRules;
+        this.deliveryRules = deliveryRules;
+    }
+
+    public static PricingRules defaults() {
+        return DEFAULTS;
+    }
+
+    public static PricingRules compile(final List<PricingRule> rules) {
+        if (rules.stream().anyMatch(rule -> rule.getType() == null)) {
+            throw new IllegalArgumentException("가격 규칙의 종류가 없습니다.");
+        }
+        final List<PricingRule> discountRules = filter(rules, PricingRuleType.DISCOUNT);
+        final List<PricingRule> deliveryRules = filter(rules, PricingRuleType.DELIVERY);
+        return new PricingRules(
+            discountRules.isEmpty() ? DEFAULTS.discountRules : TieredRules.compile(discountRules),
+            deliveryRules.isEmpty() ? DEFAULTS.deliveryRules : TieredRules.compile(deliveryRules)
+        );
+    }
+
+    private static List<PricingRule> filter(final List<PricingRule> rules, final PricingRuleType type) {
+        return rules.stream()
+            .filter(rule -> rule.getType() == type)
+            .collect(Collectors.toList());
+    }
+
+    public long discountOf(final long price) {
+        return discountRules.evaluate(price);
+    }
+
+    public long deliveryFeeOf(final long price) {
+        return deliveryRules.evaluate(price);
+    }
+
+    public TieredRules getDiscountRules() {
+        return discountRules;
+    }
+
+    public TieredRules getDeliveryRules() {
+        return deliveryRules;
+    }
+}
@@ -0,0 +1,71 @@
+package cart.domain.pricing;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class TieredRules {
+
+    private static final long BASIS_POINTS = 10_000L;
+
+    private final long[] minPrices;
+    private final long[] fixedAmounts;
+    private final int[] rateBasisPoints;
+
+    private TieredRules(final long[] minPrices, final long[] fixedAmounts, final int[] rateBasisPoints) {
+        this.minPrices = minPrices;
+        this.fixedAmounts = fixedAmounts;
+        this.rateBasisPoints = rateBasisPoints;
+    }
+
+    public static TieredRules compile(final List<PricingRule> rules) {
+        final PricingRule[] sorted = rules.toArray(new PricingRule[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(PricingRule::getMinPrice));
+
+        final long[] minPrices = new long[sorted.length];
+        final long[] fixedAmounts = new long[sorted.length];
+        final int[] rateBasisPoints = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0 && sorted[i].getMinPrice() == sorted[i - 1].getMinPrice()) {
+                throw new IllegalArgumentException("같은 구간의 가격 규칙이 중복되었습니다.");
+            }
+            validate(sorted[i]);
+            minPrices[i] = sorted[i].getMinPrice();
+            fixedAmounts[i] = sorted[i].getFixedAmount();
+            rateBasisPoints[i] = sorted[i].getRateBasisPoints();
+        }
+        return new TieredRules(minPrices, fixedAmounts, rateBasisPoints);
+    }
+
+    private static void validate(final PricingRule rule) {
+        if (rule.getMinPrice() < 0 || rule.getFixedAmount() < 0 || rule.getRateBasisPoints() < 0
+            || rule.getRateBasisPoints() > BASIS_POINTS) {
+            throw new IllegalArgumentException("가격 규칙이 올바르지 않습니다.");
+        }
+        if (rule.getType() == PricingRuleType.DISCOUNT
+            && rule.getFixedAmount() + rule.getMinPrice() * rule.getRateBasisPoints() / BASIS_POINTS
+            > rule.getMinPrice()) {
+            throw new IllegalArgumentException("할인 금액이 구간의 최소 금액보다 클 수 없습니다.");
+        }
+    }
+
+    public long evaluate(final long price) {
+        final int index = tierOf(price);
+        if (index < 0) {
+            return 0L;
+        }
+        return fixedAmounts[index] + price * rateBasisPoints[index] / BASIS_POINTS;
+    }
+
+    public int size() {
+        return minPrices.length;
+    }
+
+    private int tierOf(final long price) {
+        final int found = Arrays.binarySearch(minPrices, price);
+        if (found >= 0) {
+            return found;
+        }
+        return -found - 2;
+    }
+}
@@ -0,0 +1,20 @@
+package cart.domain.respository.coupon;
+
+import cart.domain.coupon.Coupon;
+import java.util.Map;
+import java.util.Optional;
+
+public interface CouponRepository {
+
+    Coupon insert(final Coupon coupon);
+
+    Optional<Coupon> findById(final Long id);
+
+    int countUsages(final Long couponId);
+
+    boolean increaseMemberUsage(final Long couponId, final Long memberId, final int perMemberLimit);
+
+    void addUsedCounts(final Map<Long, Integer> usedCounts);
+
+    int syncUsedCounts();
+}
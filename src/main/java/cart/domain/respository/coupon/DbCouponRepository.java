@@ -0,0 +1,47 @@
+package cart.domain.respository.coupon;
+
+import cart.dao.CouponDao;
+import cart.domain.coupon.Coupon;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbCouponRepository implements CouponRepository {
+
+    private final CouponDao couponDao;
+
+    public DbCouponRepository(final CouponDao couponDao) {
+        this.couponDao = couponDao;
+    }
+
+    @Override
+    public Coupon insert(final Coupon coupon) {
+        return couponDao.insert(coupon);
+    }
+
+    @Override
+    public Optional<Coupon> findById(final Long id) {
+        return couponDao.findById(id);
+    }
+
+    @Override
+    public int countUsages(final Long couponId) {
+        return couponDao.countUsages(couponId);
+    }
+
+    @Override
+    public boolean increaseMemberUsage(final Long couponId, final Long memberId, final int perMemberLimit) {
+        return couponDao.increaseMemberUsage(couponId, memberId, perMemberLimit);
+    }
+
+    @Override
+    public void addUsedCounts(final Map<Long, Integer> usedCounts) {
+        couponDao.addUsedCounts(usedCounts);
+    }
+
+    @Override
+    public int syncUsedCounts() {
+        return couponDao.syncUsedCounts();
+    }
+}
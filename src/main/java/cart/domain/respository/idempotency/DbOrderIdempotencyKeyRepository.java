@@ -0,0 +1,34 @@
+package cart.domain.respository.idempotency;
+
+import cart.dao.OrderIdempotencyKeyDao;
+import cart.domain.order.OrderIdempotencyRecord;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbOrderIdempotencyKeyRepository implements OrderIdempotencyKeyRepository {
+
+    private final OrderIdempotencyKeyDao orderIdempotencyKeyDao;
+
+    public DbOrderIdempotencyKeyRepository(final OrderIdempotencyKeyDao orderIdempotencyKeyDao) {
+        this.orderIdempotencyKeyDao = orderIdempotencyKeyDao;
+    }
+
+    @Override
+    public void save(final Long memberId, final String idempotencyKey, final OrderIdempotencyRecord record,
+        final LocalDateTime createdAt) {
+        orderIdempotencyKeyDao.insert(memberId, idempotencyKey, record, createdAt);
+    }
+
+    @Override
+    public Optional<OrderIdempotencyRecord> find(final Long memberId, final String idempotencyKey,
+        final LocalDateTime notBefore) {
+        return orderIdempotencyKeyDao.find(memberId, idempotencyKey, notBefore);
+    }
+
+    @Override
+    public void deleteExpired(final Long memberId, final String idempotencyKey, final LocalDateTime notBefore) {
+        orderIdempotencyKeyDao.deleteExpired(memberId, idempotencyKey, notBefore);
+    }
+}
@@ -0,0 +1,16 @@
+package cart.domain.respository.idempotency;
+
+import cart.domain.order.OrderIdempotencyRecord;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository {
+
+    void save(final Long memberId, final String idempotencyKey, final OrderIdempotencyRecord record,
+        final LocalDateTime createdAt);
+
+    Optional<OrderIdempotencyRecord> find(final Long memberId, final String idempotencyKey,
+        final LocalDateTime notBefore);
+
+    void deleteExpired(final Long memberId, final String idempotencyKey, final LocalDateTime notBefore);
+}
@@ -0,0 +1,38 @@
+package cart.domain.respository.memberorderstats;
+
+import cart.dao.MemberOrderStatsDao;
+import cart.domain.MemberOrderStats;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbMemberOrderStatsRepository implements MemberOrderStatsRepository {
+
+    private final MemberOrderStatsDao memberOrderStatsDao;
+
+    public DbMemberOrderStatsRepository(final MemberOrderStatsDao memberOrderStatsDao) {
+        this.memberOrderStatsDao = memberOrderStatsDao;
+    }
+
+    @Override
+    public void increment(final Long memberId, final long totalPrice, final LocalDateTime orderedAt) {
+        memberOrderStatsDao.increment(memberId, totalPrice, orderedAt);
+    }
+
+    @Override
+    public Optional<MemberOrderStats> findByMemberId(final Long memberId) {
+        return memberOrderStatsDao.findByMemberId(memberId);
+    }
+
+    @Override
+    public List<MemberOrderStats> findAll() {
+        return memberOrderStatsDao.findAll();
+    }
+
+    @Override
+    public int rebuild() {
+        return memberOrderStatsDao.rebuild();
+    }
+}
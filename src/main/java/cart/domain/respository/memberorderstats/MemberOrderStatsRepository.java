@@ -0,0 +1,17 @@
+package cart.domain.respository.memberorderstats;
+
+import cart.domain.MemberOrderStats;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberOrderStatsRepository {
+
+    void increment(final Long memberId, final long totalPrice, final LocalDateTime orderedAt);
+
+    Optional<MemberOrderStats> findByMemberId(final Long memberId);
+
+    List<MemberOrderStats> findAll();
+
+    int rebuild();
+}
@@ -1,27 +1,26 @@
 package cart.domain.respository.order;
 
+import cart.dao.OrderArchiveDao;
 import cart.dao.OrderDao;
 import cart.domain.Member;
 import cart.domain.order.Order;
-import cart.domain.order.OrderItem;
-import cart.domain.order.OrderItems;
 import cart.domain.order.OrderPrice;
-import cart.dto.OrderDto;
 import cart.exception.OrderException.OrderNotExistException;
-import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnProperty(name = "order.sharding.enabled", havingValue = "false", matchIfMissing = true)
 public class DbOrderRepository implements OrderRepository {
 
     private final OrderDao orderDao;
+    private final OrderArchiveDao orderArchiveDao;
 
-    public DbOrderRepository(final OrderDao orderDao) {
+    public DbOrderRepository(final OrderDao orderDao, final OrderArchiveDao orderArchiveDao) {
         this.orderDao = orderDao;
+        this.orderArchiveDao = orderArchiveDao;
     }
 
     @Override
@@ -30,35 +29,16 @@ public class DbOrderRepository implements OrderRepository {
     }
 
     @Override
-    public Order findByOrderId(final Long orderId) {
-        final List<OrderDto> orderDtos = orderDao.findByOrderId(orderId);
-        return makeOrder(orderDtos);
-    }
-
-    private Order makeOrder(final List<OrderDto> orderDtos) {
-        final OrderDto orderDto = orderDtos.stream()
-            .findAny()
+    public Order findByOrderId(final Member member, final Long orderId) {
+        return orderDao.findByOrderId(member, orderId)
+            .or(() -> orderArchiveDao.findByOrderId(member, orderId))
             .orElseThrow(() -> new OrderNotExistException("주문이 존재하지 않습니다."));
-
-        final Long orderId = orderDto.getOrderId();
-        final LocalDateTime orderTime = orderDto.getOrderTime();
-        final Member member = orderDto.getMember();
-        final List<OrderItem> orderItems = orderDtos.stream()
-            .map(OrderDto::getOrderItem)
-            .collect(Collectors.toList());
-
-        return Order.persisted(orderId, member, new OrderItems(orderItems), orderTime);
     }
 
     @Override
-    public List<Order> findAllByMemberId(final Long memberId) {
-        final Map<Long, List<OrderDto>> memberOrderDtos = orderDao.findAllByMemberId(memberId).stream()
-            .collect(Collectors.groupingBy(OrderDto::getOrderId));
-        if (memberOrderDtos.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return memberOrderDtos.values().stream()
-            .map(this::makeOrder)
-            .collect(Collectors.toList());
+    public List<Order> findAllByMemberId(final Member member) {
+        final List<Order> orders = new ArrayList<>(orderArchiveDao.findAllByMemberId(member));
+        orders.addAll(orderDao.findAllByMemberId(member));
+        return orders;
     }
 }
@@ -1,5 +1,6 @@
 package cart.domain.respository.order;
 
+import cart.domain.Member;
 import cart.domain.order.Order;
 import cart.domain.order.OrderPrice;
 import java.util.List;
@@ -8,7 +9,7 @@ public interface OrderRepository {
 
     Order insert(final Order order, final OrderPrice orderPrice);
 
-    Order findByOrderId(final Long orderId);
+    Order findByOrderId(final Member member, final Long orderId);
 
-    List<Order> findAllByMemberId(final Long memberId);
+    List<Order> findAllByMemberId(final Member member);
 }
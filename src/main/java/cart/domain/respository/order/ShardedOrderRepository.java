@@ -0,0 +1,109 @@
+package cart.domain.respository.order;
+
+import cart.application.shard.MemberShardDirectory;
+import cart.config.shard.OrderShard;
+import cart.config.shard.OrderShards;
+import cart.dao.OrderArchiveDao;
+import cart.domain.Member;
+import cart.domain.order.Order;
+import cart.domain.order.OrderPrice;
+import cart.domain.shard.ShardedOrderId;
+import cart.exception.OrderException.OrderNotExistException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 샤드 트랜잭션은 주 트랜잭션의 beforeCommit에서 먼저 커밋된다. 그 뒤 주 트랜잭션이 롤백되면 저장한 주문을 샤드에서 지워
+ * 되돌리고, 이마저 실패하거나 두 커밋 사이에 프로세스가 죽으면 주 DB에 order_snapshot이 없는 샤드 주문이 남는다.
+ * 이런 주문은 로그의 주문 아이디나 order_snapshot과의 대조로 찾아 지운다.
+ * 멤버의 샤드는 노드마다 캐시되므로, 캐시한 샤드에서 주문을 찾지 못하면 member_shard를 다시 읽어 옮겨 간 샤드를 확인한다.
+ */
+public class ShardedOrderRepository implements OrderRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedOrderRepository.class);
+
+    private final OrderShards orderShards;
+    private final MemberShardDirectory memberShardDirectory;
+    private final OrderArchiveDao orderArchiveDao;
+
+    public ShardedOrderRepository(final OrderShards orderShards, final MemberShardDirectory memberShardDirectory,
+        final OrderArchiveDao orderArchiveDao) {
+        this.orderShards = orderShards;
+        this.memberShardDirectory = memberShardDirectory;
+        this.orderArchiveDao = orderArchiveDao;
+    }
+
+    @Override
+    public Order insert(final Order order, final OrderPrice orderPrice) {
+        final OrderShard shard = orderShards.get(memberShardDirectory.assignForWrite(order.getMemberId()));
+        final Long orderId = shard.allocateOrderIds(1).get(0);
+        final Order persistOrder = shard.join().insert(order, orderPrice, orderId);
+        deleteOnRollback(shard, orderId);
+        return persistOrder;
+    }
+
+    @Override
+    public Order findByOrderId(final Member member, final Long orderId) {
+        final int originShardNo = ShardedOrderId.shardOf(orderId);
+        return findOnShard(originShardNo, member, orderId)
+            .or(() -> {
+                final int currentShardNo = memberShardDirectory.refreshShardOf(member.getId());
+                if (currentShardNo == originShardNo) {
+                    return Optional.empty();
+                }
+                return findOnShard(currentShardNo, member, orderId);
+            })
+            .or(() -> orderArchiveDao.findByOrderId(member, orderId))
+            .orElseThrow(() -> new OrderNotExistException("주문이 존재하지 않습니다."));
+    }
+
+    @Override
+    public List<Order> findAllByMemberId(final Member member) {
+        final List<Order> orders = new ArrayList<>(orderArchiveDao.findAllByMemberId(member));
+        final int shardNo = memberShardDirectory.shardOf(member.getId());
+        List<Order> liveOrders = orderShards.get(shardNo).join().findAllByMemberId(member);
+        if (liveOrders.isEmpty()) {
+            final int currentShardNo = memberShardDirectory.refreshShardOf(member.getId());
+            if (currentShardNo != shardNo) {
+                liveOrders = orderShards.get(currentShardNo).join().findAllByMemberId(member);
+            }
+        }
+        orders.addAll(liveOrders);
+        return orders;
+    }
+
+    private void deleteOnRollback(final OrderShard shard, final Long orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    shard.executeInOwnTransaction(dao -> {
+                        dao.deleteByIds(List.of(orderId));
+                        return null;
+                    });
+                } catch (RuntimeException e) {
+                    log.error("failed to delete orphan shard order; shardNo={}, orderId={}",
+                        shard.getShardNo(), orderId, e);
+                }
+            }
+        });
+    }
+
+    private Optional<Order> findOnShard(final int shardNo, final Member member, final Long orderId) {
+        if (!orderShards.contains(shardNo)) {
+            return Optional.empty();
+        }
+        return orderShards.get(shardNo).join().findByOrderId(member, orderId);
+    }
+}
@@ -0,0 +1,26 @@
+package cart.domain.respository.orderarchive;
+
+import cart.dao.OrderArchiveDao;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbOrderArchiveRepository implements OrderArchiveRepository {
+
+    private final OrderArchiveDao orderArchiveDao;
+
+    public DbOrderArchiveRepository(final OrderArchiveDao orderArchiveDao) {
+        this.orderArchiveDao = orderArchiveDao;
+    }
+
+    @Override
+    public List<Long> findArchivableOrderIds(final Long afterOrderId, final LocalDateTime cutoff, final int limit) {
+        return orderArchiveDao.findArchivableOrderIds(afterOrderId, cutoff, limit);
+    }
+
+    @Override
+    public int archive(final List<Long> orderIds) {
+        return orderArchiveDao.archive(orderIds);
+    }
+}
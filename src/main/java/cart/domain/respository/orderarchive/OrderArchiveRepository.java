@@ -0,0 +1,11 @@
+package cart.domain.respository.orderarchive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderArchiveRepository {
+
+    List<Long> findArchivableOrderIds(final Long afterOrderId, final LocalDateTime cutoff, final int limit);
+
+    int archive(final List<Long> orderIds);
+}
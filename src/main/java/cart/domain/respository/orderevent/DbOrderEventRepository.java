@@ -0,0 +1,27 @@
+package cart.domain.respository.orderevent;
+
+import cart.dao.OrderEventDao;
+import cart.domain.order.OrderEvent;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbOrderEventRepository implements OrderEventRepository {
+
+    private final OrderEventDao orderEventDao;
+
+    public DbOrderEventRepository(final OrderEventDao orderEventDao) {
+        this.orderEventDao = orderEventDao;
+    }
+
+    @Override
+    public void insertAll(final List<OrderEvent> orderEvents) {
+        orderEventDao.insertAll(orderEvents);
+    }
+
+    @Override
+    public List<OrderEvent> findAfter(final long afterSeq, final int size, final Duration readDelay) {
+        return orderEventDao.findAfter(afterSeq, size, readDelay);
+    }
+}
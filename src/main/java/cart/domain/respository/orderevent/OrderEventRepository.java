@@ -0,0 +1,12 @@
+package cart.domain.respository.orderevent;
+
+import cart.domain.order.OrderEvent;
+import java.time.Duration;
+import java.util.List;
+
+public interface OrderEventRepository {
+
+    void insertAll(final List<OrderEvent> orderEvents);
+
+    List<OrderEvent> findAfter(final long afterSeq, final int size, final Duration readDelay);
+}
@@ -0,0 +1,25 @@
+package cart.domain.respository.orderexport;
+
+import cart.dao.OrderExportDao;
+import cart.dto.ExportedOrder;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@ConditionalOnProperty(name = "order.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class DbOrderExportRepository implements OrderExportRepository {
+
+    private final OrderExportDao orderExportDao;
+
+    public DbOrderExportRepository(final OrderExportDao orderExportDao) {
+        this.orderExportDao = orderExportDao;
+    }
+
+    @Override
+    public void streamByOrderTime(final LocalDateTime from, final LocalDateTime to,
+        final Consumer<ExportedOrder> consumer) {
+        orderExportDao.streamByOrderTime(from, to, consumer);
+    }
+}
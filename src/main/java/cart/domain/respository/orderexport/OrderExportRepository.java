@@ -0,0 +1,10 @@
+package cart.domain.respository.orderexport;
+
+import cart.dto.ExportedOrder;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface OrderExportRepository {
+
+    void streamByOrderTime(final LocalDateTime from, final LocalDateTime to, final Consumer<ExportedOrder> consumer);
+}
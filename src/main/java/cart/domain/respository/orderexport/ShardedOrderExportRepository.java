@@ -0,0 +1,28 @@
+package cart.domain.respository.orderexport;
+
+import cart.dao.OrderExportDao;
+import cart.dto.ExportedOrder;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ShardedOrderExportRepository implements OrderExportRepository {
+
+    private final OrderExportDao orderExportDao;
+    private final List<OrderExportDao> shardOrderExportDaos;
+
+    public ShardedOrderExportRepository(final OrderExportDao orderExportDao,
+        final List<OrderExportDao> shardOrderExportDaos) {
+        this.orderExportDao = orderExportDao;
+        this.shardOrderExportDaos = shardOrderExportDaos;
+    }
+
+    @Override
+    public void streamByOrderTime(final LocalDateTime from, final LocalDateTime to,
+        final Consumer<ExportedOrder> consumer) {
+        orderExportDao.streamArchivedOrders(from, to, consumer);
+        for (OrderExportDao shardOrderExportDao : shardOrderExportDaos) {
+            shardOrderExportDao.streamOrders(from, to, consumer);
+        }
+    }
+}
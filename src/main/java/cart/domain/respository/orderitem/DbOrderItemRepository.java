@@ -1,10 +1,14 @@
 package cart.domain.respository.orderitem;
 
 import cart.dao.OrderItemDao;
+import cart.domain.order.Order;
 import cart.domain.order.OrderItem;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnProperty(name = "order.sharding.enabled", havingValue = "false", matchIfMissing = true)
 public class DbOrderItemRepository implements OrderItemRepository {
 
     private final OrderItemDao orderItemDao;
@@ -17,4 +21,9 @@ public class DbOrderItemRepository implements OrderItemRepository {
     public OrderItem insert(final Long orderId, final OrderItem orderItem) {
         return orderItemDao.insert(orderId, orderItem);
     }
+
+    @Override
+    public void insertAll(final List<Order> orders) {
+        orderItemDao.insertAll(orders);
+    }
 }
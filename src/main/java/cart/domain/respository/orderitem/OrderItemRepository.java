@@ -1,8 +1,12 @@
 package cart.domain.respository.orderitem;
 
+import cart.domain.order.Order;
 import cart.domain.order.OrderItem;
+import java.util.List;
 
 public interface OrderItemRepository {
 
     OrderItem insert(final Long orderId, final OrderItem orderItem);
+
+    void insertAll(final List<Order> orders);
 }
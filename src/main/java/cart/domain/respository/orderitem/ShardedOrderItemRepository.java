@@ -0,0 +1,31 @@
+package cart.domain.respository.orderitem;
+
+import cart.config.shard.OrderShards;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
+import cart.domain.shard.ShardedOrderId;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public class ShardedOrderItemRepository implements OrderItemRepository {
+
+    private final OrderShards orderShards;
+
+    public ShardedOrderItemRepository(final OrderShards orderShards) {
+        this.orderShards = orderShards;
+    }
+
+    @Override
+    public OrderItem insert(final Long orderId, final OrderItem orderItem) {
+        return orderShards.get(ShardedOrderId.shardOf(orderId)).join().insertItem(orderId, orderItem);
+    }
+
+    @Override
+    public void insertAll(final List<Order> orders) {
+        orders.stream()
+            .collect(Collectors.groupingBy(order -> ShardedOrderId.shardOf(order.getId()), TreeMap::new,
+                Collectors.toList()))
+            .forEach((shardNo, shardOrders) -> orderShards.get(shardNo).join().insertItems(shardOrders));
+    }
+}
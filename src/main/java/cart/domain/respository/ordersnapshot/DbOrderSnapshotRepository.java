@@ -0,0 +1,32 @@
+package cart.domain.respository.ordersnapshot;
+
+import cart.dao.OrderSnapshotDao;
+import cart.domain.order.OrderSnapshot;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbOrderSnapshotRepository implements OrderSnapshotRepository {
+
+    private final OrderSnapshotDao orderSnapshotDao;
+
+    public DbOrderSnapshotRepository(final OrderSnapshotDao orderSnapshotDao) {
+        this.orderSnapshotDao = orderSnapshotDao;
+    }
+
+    @Override
+    public void save(final OrderSnapshot orderSnapshot) {
+        orderSnapshotDao.insert(orderSnapshot);
+    }
+
+    @Override
+    public Optional<OrderSnapshot> findByOrderId(final Long memberId, final Long orderId) {
+        return orderSnapshotDao.findByOrderId(memberId, orderId);
+    }
+
+    @Override
+    public Map<Long, Long> findOrdersWithoutSnapshot(final Long afterOrderId, final int limit) {
+        return orderSnapshotDao.findOrdersWithoutSnapshot(afterOrderId, limit);
+    }
+}
@@ -0,0 +1,14 @@
+package cart.domain.respository.ordersnapshot;
+
+import cart.domain.order.OrderSnapshot;
+import java.util.Map;
+import java.util.Optional;
+
+public interface OrderSnapshotRepository {
+
+    void save(final OrderSnapshot orderSnapshot);
+
+    Optional<OrderSnapshot> findByOrderId(final Long memberId, final Long orderId);
+
+    Map<Long, Long> findOrdersWithoutSnapshot(final Long afterOrderId, final int limit);
+}
@@ -0,0 +1,43 @@
+package cart.domain.respository.outbox;
+
+import cart.dao.OutboxDao;
+import cart.domain.outbox.OutboxMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbOutboxRepository implements OutboxRepository {
+
+    private final OutboxDao outboxDao;
+
+    public DbOutboxRepository(final OutboxDao outboxDao) {
+        this.outboxDao = outboxDao;
+    }
+
+    @Override
+    public void save(final OutboxMessage outboxMessage) {
+        outboxDao.insert(outboxMessage);
+    }
+
+    @Override
+    public List<OutboxMessage> findAfter(final long afterId, final int limit) {
+        return outboxDao.findAfter(afterId, limit);
+    }
+
+    @Override
+    public int deleteByIds(final List<Long> ids) {
+        return outboxDao.deleteByIds(ids);
+    }
+
+    @Override
+    public long count() {
+        return outboxDao.count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        return outboxDao.findOldestCreatedAt();
+    }
+}
@@ -0,0 +1,19 @@
+package cart.domain.respository.outbox;
+
+import cart.domain.outbox.OutboxMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxRepository {
+
+    void save(final OutboxMessage outboxMessage);
+
+    List<OutboxMessage> findAfter(final long afterId, final int limit);
+
+    int deleteByIds(final List<Long> ids);
+
+    long count();
+
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
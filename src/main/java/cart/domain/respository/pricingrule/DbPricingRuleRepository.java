@@ -0,0 +1,21 @@
+package cart.domain.respository.pricingrule;
+
+import cart.dao.PricingRuleDao;
+import cart.domain.pricing.PricingRule;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbPricingRuleRepository implements PricingRuleRepository {
+
+    private final PricingRuleDao pricingRuleDao;
+
+    public DbPricingRuleRepository(final PricingRuleDao pricingRuleDao) {
+        this.pricingRuleDao = pricingRuleDao;
+    }
+
+    @Override
+    public List<PricingRule> findAll() {
+        return pricingRuleDao.findAll();
+    }
+}
@@ -0,0 +1,9 @@
+package cart.domain.respository.pricingrule;
+
+import cart.domain.pricing.PricingRule;
+import java.util.List;
+
+public interface PricingRuleRepository {
+
+    List<PricingRule> findAll();
+}
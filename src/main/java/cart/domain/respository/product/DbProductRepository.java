@@ -25,6 +25,11 @@ public class DbProductRepository implements ProductRepository {
         return productDao.getProductById(productId);
     }
 
+    @Override
+    public List<Product> getProductsByIds(final List<Long> productIds) {
+        return productDao.getProductsByIds(productIds);
+    }
+
     @Override
     public Product createProduct(final Product product) {
         return productDao.createProduct(product);
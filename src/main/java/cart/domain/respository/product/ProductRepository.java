@@ -10,6 +10,8 @@ public interface ProductRepository {
 
     Optional<Product> getProductById(Long productId);
 
+    List<Product> getProductsByIds(List<Long> productIds);
+
     Product createProduct(Product product);
 
     void updateProduct(Long productId, Product product);
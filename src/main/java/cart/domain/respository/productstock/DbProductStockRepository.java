@@ -0,0 +1,39 @@
+package cart.domain.respository.productstock;
+
+import cart.dao.ProductStockDao;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbProductStockRepository implements ProductStockRepository {
+
+    private final ProductStockDao productStockDao;
+
+    public DbProductStockRepository(final ProductStockDao productStockDao) {
+        this.productStockDao = productStockDao;
+    }
+
+    @Override
+    public void replace(final Long productId, final int[] shardQuantities) {
+        productStockDao.replace(productId, shardQuantities);
+    }
+
+    @Override
+    public int[] findShardQuantities(final Long productId) {
+        return productStockDao.findShardQuantities(productId);
+    }
+
+    @Override
+    public int[] findShardQuantitiesForUpdate(final Long productId) {
+        return productStockDao.findShardQuantitiesForUpdate(productId);
+    }
+
+    @Override
+    public boolean decrease(final Long productId, final int shardNo, final int quantity) {
+        return productStockDao.decrease(productId, shardNo, quantity);
+    }
+
+    @Override
+    public void increase(final Long productId, final int shardNo, final int quantity) {
+        productStockDao.increase(productId, shardNo, quantity);
+    }
+}
@@ -0,0 +1,14 @@
+package cart.domain.respository.productstock;
+
+public interface ProductStockRepository {
+
+    void replace(final Long productId, final int[] shardQuantities);
+
+    int[] findShardQuantities(final Long productId);
+
+    int[] findShardQuantitiesForUpdate(final Long productId);
+
+    boolean decrease(final Long productId, final int shardNo, final int quantity);
+
+    void increase(final Long productId, final int shardNo, final int quantity);
+}
@@ -0,0 +1,52 @@
+package cart.domain.respository.queuedorder;
+
+import cart.dao.QueuedOrderDao;
+import cart.domain.order.QueuedOrder;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbQueuedOrderRepository implements QueuedOrderRepository {
+
+    private final QueuedOrderDao queuedOrderDao;
+
+    public DbQueuedOrderRepository(final QueuedOrderDao queuedOrderDao) {
+        this.queuedOrderDao = queuedOrderDao;
+    }
+
+    @Override
+    public QueuedOrder save(final QueuedOrder queuedOrder) {
+        return queuedOrderDao.insert(queuedOrder);
+    }
+
+    @Override
+    public Optional<QueuedOrder> findById(final Long memberId, final Long id) {
+        return queuedOrderDao.findById(memberId, id);
+    }
+
+    @Override
+    public List<QueuedOrder> findPending(final Long afterId, final int limit) {
+        return queuedOrderDao.findPending(afterId, limit);
+    }
+
+    @Override
+    public boolean markProcessing(final Long id) {
+        return queuedOrderDao.markProcessing(id);
+    }
+
+    @Override
+    public void markCompleted(final Long id, final Long orderId) {
+        queuedOrderDao.markCompleted(id, orderId);
+    }
+
+    @Override
+    public void markFailed(final Long id, final String failureMessage) {
+        queuedOrderDao.markFailed(id, failureMessage);
+    }
+
+    @Override
+    public int resetProcessing() {
+        return queuedOrderDao.resetProcessing();
+    }
+}
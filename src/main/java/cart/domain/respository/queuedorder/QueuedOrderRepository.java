@@ -0,0 +1,22 @@
+package cart.domain.respository.queuedorder;
+
+import cart.domain.order.QueuedOrder;
+import java.util.List;
+import java.util.Optional;
+
+public interface QueuedOrderRepository {
+
+    QueuedOrder save(final QueuedOrder queuedOrder);
+
+    Optional<QueuedOrder> findById(final Long memberId, final Long id);
+
+    List<QueuedOrder> findPending(final Long afterId, final int limit);
+
+    boolean markProcessing(final Long id);
+
+    void markCompleted(final Long id, final Long orderId);
+
+    void markFailed(final Long id, final String failureMessage);
+
+    int resetProcessing();
+}
@@ -0,0 +1,37 @@
+package cart.domain.respository.stockhold;
+
+import cart.dao.StockHoldDao;
+import cart.domain.stock.StockHold;
+import cart.dto.StockHoldRecord;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DbStockHoldRepository implements StockHoldRepository {
+
+    private final StockHoldDao stockHoldDao;
+
+    public DbStockHoldRepository(final StockHoldDao stockHoldDao) {
+        this.stockHoldDao = stockHoldDao;
+    }
+
+    @Override
+    public void insertAll(final List<StockHold> stockHolds) {
+        stockHoldDao.insertAll(stockHolds);
+    }
+
+    @Override
+    public boolean deleteById(final String id) {
+        return stockHoldDao.deleteById(id);
+    }
+
+    @Override
+    public int[] deleteAll(final List<String> ids) {
+        return stockHoldDao.deleteAll(ids);
+    }
+
+    @Override
+    public List<StockHoldRecord> findAll() {
+        return stockHoldDao.findAll();
+    }
+}
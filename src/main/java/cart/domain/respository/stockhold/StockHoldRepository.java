@@ -0,0 +1,16 @@
+package cart.domain.respository.stockhold;
+
+import cart.domain.stock.StockHold;
+import cart.dto.StockHoldRecord;
+import java.util.List;
+
+public interface StockHoldRepository {
+
+    void insertAll(final List<StockHold> stockHolds);
+
+    boolean deleteById(final String id);
+
+    int[] deleteAll(final List<String> ids);
+
+    List<StockHoldRecord> findAll();
+}
@@ -0,0 +1,42 @@
+package cart.domain.shard;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public class ConsistentHashRing {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+
+    public ConsistentHashRing(final List<Integer> shardNos, final int virtualNodes) {
+        if (shardNos.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 하나 이상 필요합니다.");
+        }
+        for (Integer shardNo : shardNos) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                ring.putIfAbsent(mix(shardNo * GOLDEN_GAMMA + replica), shardNo);
+            }
+        }
+    }
+
+    public int shardOf(final long key) {
+        final Map.Entry<Long, Integer> entry = ring.ceilingEntry(mix(key));
+        if (entry == null) {
+            return ring.firstEntry().getValue();
+        }
+        return entry.getValue();
+    }
+
+    private static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
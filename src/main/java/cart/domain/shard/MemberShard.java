@@ -0,0 +1,38 @@
+package cart.domain.shard;
+
+import java.time.LocalDateTime;
+
+public class MemberShard {
+
+    private final Long memberId;
+    private final int shardNo;
+    private final LocalDateTime movingSince;
+    private final long version;
+
+    public MemberShard(final Long memberId, final int shardNo, final LocalDateTime movingSince, final long version) {
+        this.memberId = memberId;
+        this.shardNo = shardNo;
+        this.movingSince = movingSince;
+        this.version = version;
+    }
+
+    public boolean isMoving() {
+        return movingSince != null;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public int getShardNo() {
+        return shardNo;
+    }
+
+    public LocalDateTime getMovingSince() {
+        return movingSince;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,20 @@
+package cart.domain.shard;
+
+public final class ShardedOrderId {
+
+    public static final int MAX_SHARDS = 64;
+
+    private ShardedOrderId() {
+    }
+
+    public static long of(final long sequence, final int shardNo) {
+        if (shardNo < 0 || shardNo >= MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 번호가 범위를 벗어났습니다: " + shardNo);
+        }
+        return sequence * MAX_SHARDS + shardNo;
+    }
+
+    public static int shardOf(final long orderId) {
+        return (int) (orderId % MAX_SHARDS);
+    }
+}
@@ -0,0 +1,130 @@
+package cart.domain.stock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HashedTimingWheel<T> {
+
+    private final long startMillis;
+    private final long tickMillis;
+    private final int mask;
+    private final Deque<Timeout<T>>[] buckets;
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long tick;
+
+    public HashedTimingWheel(final long startMillis, final long tickMillis, final int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다.");
+        }
+        this.startMillis = startMillis;
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = newBuckets(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Deque<Timeout<T>>[] newBuckets(final int wheelSize) {
+        return new Deque[wheelSize];
+    }
+
+    public Timeout<T> schedule(final T item, final long deadlineMillis) {
+        final Timeout<T> timeout = new Timeout<>(item, deadlineMillis, size);
+        size.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public List<T> advance(final long nowMillis) {
+        final long targetTick = (nowMillis - startMillis) / tickMillis;
+        final List<T> expired = new ArrayList<>();
+        transferPendingTimeouts();
+        while (tick <= targetTick) {
+            expireBucket(buckets[(int) (tick & mask)], expired);
+            tick++;
+        }
+        return expired;
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout<T> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            final long deadlineTick = Math.max(tick,
+                Math.floorDiv(timeout.deadlineMillis - startMillis + tickMillis - 1, tickMillis));
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(final Deque<Timeout<T>> bucket, final List<T> expired) {
+        final Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            final Timeout<T> timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                if (timeout.expire()) {
+                    expired.add(timeout.item);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    public static class Timeout<T> {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final T item;
+        private final long deadlineMillis;
+        private final AtomicInteger scheduledCount;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long remainingRounds;
+
+        private Timeout(final T item, final long deadlineMillis, final AtomicInteger scheduledCount) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+            this.scheduledCount = scheduledCount;
+        }
+
+        public boolean cancel() {
+            if (state.compareAndSet(INIT, CANCELLED)) {
+                scheduledCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private boolean expire() {
+            if (state.compareAndSet(INIT, EXPIRED)) {
+                scheduledCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package cart.domain.stock;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ShardedStock {
+
+    private static final ShardedStock UNLIMITED = new ShardedStock(new int[0]);
+
+    private volatile AtomicIntegerArray shards;
+
+    private ShardedStock(final int[] shardQuantities) {
+        this.shards = new AtomicIntegerArray(shardQuantities);
+    }
+
+    public static ShardedStock of(final int[] shardQuantities) {
+        if (shardQuantities.length == 0) {
+            return UNLIMITED;
+        }
+        return new ShardedStock(shardQuantities);
+    }
+
+    public static int[] split(final int quantity, final int shardCount) {
+        if (quantity < 0 || shardCount <= 0) {
+            throw new IllegalArgumentException("재고 수량이 올바르지 않습니다.");
+        }
+        final int[] shardQuantities = new int[shardCount];
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            shardQuantities[shardNo] = quantity / shardCount + (shardNo < quantity % shardCount ? 1 : 0);
+        }
+        return shardQuantities;
+    }
+
+    public boolean isUnlimited() {
+        return shards.length() == 0;
+    }
+
+    public int getShardCount() {
+        return shards.length();
+    }
+
+    public int getQuantity() {
+        final AtomicIntegerArray current = shards;
+        int quantity = 0;
+        for (int shardNo = 0; shardNo < current.length(); shardNo++) {
+            quantity += current.get(shardNo);
+        }
+        return quantity;
+    }
+
+    public int[] reserve(final int quantity, final int startShard) {
+        final AtomicIntegerArray current = shards;
+        final int shardCount = current.length();
+        final int[] allocations = new int[shardCount];
+        int remaining = quantity;
+        for (int i = 0; i < shardCount && remaining > 0; i++) {
+            final int shardNo = (startShard + i) % shardCount;
+            final int taken = take(current, shardNo, remaining);
+            allocations[shardNo] = taken;
+            remaining -= taken;
+        }
+        if (remaining > 0) {
+            release(current, allocations);
+            return null;
+        }
+        return allocations;
+    }
+
+    public void release(final int[] allocations) {
+        release(shards, allocations);
+    }
+
+    public void rebase(final int[] previousQuantities, final int[] shardQuantities) {
+        final AtomicIntegerArray current = shards;
+        if (previousQuantities.length != shardQuantities.length || current.length() != shardQuantities.length) {
+            reset(shardQuantities);
+            return;
+        }
+        for (int shardNo = 0; shardNo < shardQuantities.length; shardNo++) {
+            current.addAndGet(shardNo, shardQuantities[shardNo] - previousQuantities[shardNo]);
+        }
+    }
+
+    public void reset(final int[] shardQuantities) {
+        final AtomicIntegerArray current = shards;
+        if (current.length() != shardQuantities.length) {
+            shards = new AtomicIntegerArray(shardQuantities);
+            return;
+        }
+        for (int shardNo = 0; shardNo < shardQuantities.length; shardNo++) {
+            current.set(shardNo, shardQuantities[shardNo]);
+        }
+    }
+
+    private void release(final AtomicIntegerArray current, final int[] allocations) {
+        final int shardCount = Math.min(allocations.length, current.length());
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            if (allocations[shardNo] > 0) {
+                current.addAndGet(shardNo, allocations[shardNo]);
+            }
+        }
+    }
+
+    private int take(final AtomicIntegerArray current, final int shardNo, final int quantity) {
+        while (true) {
+            final int available = current.get(shardNo);
+            final int taken = Math.min(available, quantity);
+            if (taken <= 0) {
+                return 0;
+            }
+            if (current.compareAndSet(shardNo, available, available - taken)) {
+                return taken;
+            }
+        }
+    }
+}
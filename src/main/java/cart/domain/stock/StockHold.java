@@ -0,0 +1,75 @@
+package cart.domain.stock;
+
+import cart.domain.stock.HashedTimingWheel.Timeout;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public class StockHold {
+
+    private final String id;
+    private final Long memberId;
+    private final List<StockReservation> reservations;
+    private final LocalDateTime expiresAt;
+    private final CompletableFuture<Void> persisted = new CompletableFuture<>();
+    private volatile Timeout<StockHold> timeout;
+
+    public StockHold(final String id, final Long memberId, final List<StockReservation> reservations,
+        final LocalDateTime expiresAt) {
+        this.id = id;
+        this.memberId = memberId;
+        this.reservations = reservations;
+        this.expiresAt = expiresAt;
+    }
+
+    public static StockHold create(final Long memberId, final List<StockReservation> reservations,
+        final LocalDateTime expiresAt) {
+        return new StockHold(UUID.randomUUID().toString(), memberId, reservations, expiresAt);
+    }
+
+    public static StockHold persisted(final String id, final Long memberId, final List<StockReservation> reservations,
+        final LocalDateTime expiresAt) {
+        final StockHold stockHold = new StockHold(id, memberId, reservations, expiresAt);
+        stockHold.persisted.complete(null);
+        return stockHold;
+    }
+
+    public boolean isExpired(final LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public void release() {
+        reservations.forEach(StockReservation::release);
+    }
+
+    public void cancelTimeout() {
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public List<StockReservation> getReservations() {
+        return reservations;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public CompletableFuture<Void> getPersisted() {
+        return persisted;
+    }
+
+    public void setTimeout(final Timeout<StockHold> timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,44 @@
+package cart.domain.stock;
+
+public class StockReservation {
+
+    private final Long productId;
+    private final ShardedStock stock;
+    private final int[] allocations;
+
+    public StockReservation(final Long productId, final ShardedStock stock, final int[] allocations) {
+        this.productId = productId;
+        this.stock = stock;
+        this.allocations = allocations;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int[] getAllocations() {
+        return allocations;
+    }
+
+    public int getQuantity() {
+        int quantity = 0;
+        for (int allocation : allocations) {
+            quantity += allocation;
+        }
+        return quantity;
+    }
+
+    public StockReservation excess(final int quantity) {
+        final int[] excess = new int[allocations.length];
+        int remaining = getQuantity() - quantity;
+        for (int shardNo = allocations.length - 1; shardNo >= 0 && remaining > 0; shardNo--) {
+            excess[shardNo] = Math.min(allocations[shardNo], remaining);
+            remaining -= excess[shardNo];
+        }
+        return new StockReservation(productId, stock, excess);
+    }
+
+    public void release() {
+        stock.release(allocations);
+    }
+}
@@ -0,0 +1,62 @@
+package cart.dto;
+
+import cart.domain.order.OrderItem;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ExportedOrder {
+
+    private final Long orderId;
+    private final Long memberId;
+    private final LocalDateTime orderTime;
+    private final long productPrice;
+    private final long discountPrice;
+    private final long deliveryFee;
+    private final long totalPrice;
+    private final List<OrderItem> orderItems;
+
+    public ExportedOrder(final Long orderId, final Long memberId, final LocalDateTime orderTime,
+        final long productPrice, final long discountPrice, final long deliveryFee, final long totalPrice,
+        final List<OrderItem> orderItems) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.orderTime = orderTime;
+        this.productPrice = productPrice;
+        this.discountPrice = discountPrice;
+        this.deliveryFee = deliveryFee;
+        this.totalPrice = totalPrice;
+        this.orderItems = orderItems;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+
+    public long getProductPrice() {
+        return productPrice;
+    }
+
+    public long getDiscountPrice() {
+        return discountPrice;
+    }
+
+    public long getDeliveryFee() {
+        return deliveryFee;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public List<OrderItem> getOrderItems() {
+        return orderItems;
+    }
+}
@@ -0,0 +1,35 @@
+package cart.dto;
+
+import java.time.LocalDateTime;
+
+public class OrderCreatedNotification {
+
+    private final Long orderId;
+    private final Long memberId;
+    private final long totalPrice;
+    private final LocalDateTime orderTime;
+
+    public OrderCreatedNotification(final Long orderId, final Long memberId, final long totalPrice,
+        final LocalDateTime orderTime) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.totalPrice = totalPrice;
+        this.orderTime = orderTime;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+}
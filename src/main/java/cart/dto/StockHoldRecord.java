@@ -0,0 +1,36 @@
+package cart.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class StockHoldRecord {
+
+    private final String id;
+    private final Long memberId;
+    private final LocalDateTime expiresAt;
+    private final Map<Long, Map<Integer, Integer>> allocations;
+
+    public StockHoldRecord(final String id, final Long memberId, final LocalDateTime expiresAt,
+        final Map<Long, Map<Integer, Integer>> allocations) {
+        this.id = id;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+        this.allocations = allocations;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Map<Long, Map<Integer, Integer>> getAllocations() {
+        return allocations;
+    }
+}
@@ -0,0 +1,42 @@
+package cart.dto.request;
+
+import java.beans.ConstructorProperties;
+
+public class CouponRequest {
+
+    private final String name;
+    private final long discountAmount;
+    private final Long minOrderPrice;
+    private final Integer totalLimit;
+    private final Integer perMemberLimit;
+
+    @ConstructorProperties(value = {"name", "discountAmount", "minOrderPrice", "totalLimit", "perMemberLimit"})
+    public CouponRequest(final String name, final long discountAmount, final Long minOrderPrice,
+        final Integer totalLimit, final Integer perMemberLimit) {
+        this.name = name;
+        this.discountAmount = discountAmount;
+        this.minOrderPrice = minOrderPrice;
+        this.totalLimit = totalLimit;
+        this.perMemberLimit = perMemberLimit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public Long getMinOrderPrice() {
+        return minOrderPrice;
+    }
+
+    public Integer getTotalLimit() {
+        return totalLimit;
+    }
+
+    public Integer getPerMemberLimit() {
+        return perMemberLimit;
+    }
+}
@@ -8,12 +8,20 @@ public class OrderRequest {
 
     private final List<OrderItemRequest> orderItems;
     private final LocalDateTime orderTime;
+    private final String holdId;
+    private final Long couponId;
 
-
-    @ConstructorProperties(value = {"orderItems", "orderTime"})
     public OrderRequest(final List<OrderItemRequest> orderItems, final LocalDateTime orderTime) {
+        this(orderItems, orderTime, null, null);
+    }
+
+    @ConstructorProperties(value = {"orderItems", "orderTime", "holdId", "couponId"})
+    public OrderRequest(final List<OrderItemRequest> orderItems, final LocalDateTime orderTime,
+        final String holdId, final Long couponId) {
         this.orderItems = orderItems;
         this.orderTime = orderTime;
+        this.holdId = holdId;
+        this.couponId = couponId;
     }
 
 
@@ -24,4 +32,12 @@ public class OrderRequest {
     public LocalDateTime getOrderTime() {
         return orderTime;
     }
+
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public Long getCouponId() {
+        return couponId;
+    }
 }
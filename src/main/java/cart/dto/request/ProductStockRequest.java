@@ -0,0 +1,23 @@
+package cart.dto.request;
+
+import java.beans.ConstructorProperties;
+
+public class ProductStockRequest {
+
+    private final int quantity;
+    private final Integer shards;
+
+    @ConstructorProperties(value = {"quantity", "shards"})
+    public ProductStockRequest(final int quantity, final Integer shards) {
+        this.quantity = quantity;
+        this.shards = shards;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Integer getShards() {
+        return shards;
+    }
+}
@@ -0,0 +1,18 @@
+package cart.dto.request;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+public class QuoteBasketRequest {
+
+    private final List<OrderItemRequest> items;
+
+    @ConstructorProperties(value = {"items"})
+    public QuoteBasketRequest(final List<OrderItemRequest> items) {
+        this.items = items;
+    }
+
+    public List<OrderItemRequest> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,18 @@
+package cart.dto.request;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+public class QuoteRequest {
+
+    private final List<QuoteBasketRequest> baskets;
+
+    @ConstructorProperties(value = {"baskets"})
+    public QuoteRequest(final List<QuoteBasketRequest> baskets) {
+        this.baskets = baskets;
+    }
+
+    public List<QuoteBasketRequest> getBaskets() {
+        return baskets;
+    }
+}
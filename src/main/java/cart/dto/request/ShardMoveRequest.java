@@ -0,0 +1,17 @@
+package cart.dto.request;
+
+import java.beans.ConstructorProperties;
+
+public class ShardMoveRequest {
+
+    private final int shardNo;
+
+    @ConstructorProperties(value = {"shardNo"})
+    public ShardMoveRequest(final int shardNo) {
+        this.shardNo = shardNo;
+    }
+
+    public int getShardNo() {
+        return shardNo;
+    }
+}
@@ -0,0 +1,18 @@
+package cart.dto.request;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+public class StockHoldRequest {
+
+    private final List<Long> cartItemIds;
+
+    @ConstructorProperties(value = {"cartItemIds"})
+    public StockHoldRequest(final List<Long> cartItemIds) {
+        this.cartItemIds = cartItemIds;
+    }
+
+    public List<Long> getCartItemIds() {
+        return cartItemIds;
+    }
+}
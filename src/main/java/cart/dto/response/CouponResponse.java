@@ -0,0 +1,60 @@
+package cart.dto.response;
+
+import cart.domain.coupon.Coupon;
+import cart.domain.coupon.CouponCounter;
+
+public class CouponResponse {
+
+    private final Long id;
+    private final String name;
+    private final long discountAmount;
+    private final long minOrderPrice;
+    private final Integer totalLimit;
+    private final int perMemberLimit;
+    private final Integer remaining;
+
+    private CouponResponse(final Long id, final String name, final long discountAmount, final long minOrderPrice,
+        final Integer totalLimit, final int perMemberLimit, final Integer remaining) {
+        this.id = id;
+        this.name = name;
+        this.discountAmount = discountAmount;
+        this.minOrderPrice = minOrderPrice;
+        this.totalLimit = totalLimit;
+        this.perMemberLimit = perMemberLimit;
+        this.remaining = remaining;
+    }
+
+    public static CouponResponse of(final Coupon coupon, final CouponCounter couponCounter) {
+        return new CouponResponse(coupon.getId(), coupon.getName(), coupon.getDiscountAmount(),
+            coupon.getMinOrderPrice(), coupon.getTotalLimit(), coupon.getPerMemberLimit(),
+            couponCounter.isLimited() ? couponCounter.getRemaining() : null);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public long getMinOrderPrice() {
+        return minOrderPrice;
+    }
+
+    public Integer getTotalLimit() {
+        return totalLimit;
+    }
+
+    public int getPerMemberLimit() {
+        return perMemberLimit;
+    }
+
+    public Integer getRemaining() {
+        return remaining;
+    }
+}
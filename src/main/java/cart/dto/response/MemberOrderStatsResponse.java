@@ -0,0 +1,38 @@
+package cart.dto.response;
+
+import cart.domain.MemberOrderStats;
+import java.time.LocalDateTime;
+
+public class MemberOrderStatsResponse {
+
+    private final long orderCount;
+    private final long totalSpend;
+    private final LocalDateTime lastOrderedAt;
+
+    private MemberOrderStatsResponse(final long orderCount, final long totalSpend,
+        final LocalDateTime lastOrderedAt) {
+        this.orderCount = orderCount;
+        this.totalSpend = totalSpend;
+        this.lastOrderedAt = lastOrderedAt;
+    }
+
+    public static MemberOrderStatsResponse of(final MemberOrderStats memberOrderStats) {
+        return new MemberOrderStatsResponse(
+            memberOrderStats.getOrderCount(),
+            memberOrderStats.getTotalSpend(),
+            memberOrderStats.getLastOrderedAt()
+        );
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getTotalSpend() {
+        return totalSpend;
+    }
+
+    public LocalDateTime getLastOrderedAt() {
+        return lastOrderedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package cart.dto.response;
+
+import cart.domain.order.OrderEvent;
+import java.time.LocalDateTime;
+
+public class OrderEventResponse {
+
+    private final Long seq;
+    private final Long orderId;
+    private final Long memberId;
+    private final String type;
+    private final LocalDateTime occurredAt;
+
+    private OrderEventResponse(final Long seq, final Long orderId, final Long memberId, final String type,
+        final LocalDateTime occurredAt) {
+        this.seq = seq;
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OrderEventResponse of(final OrderEvent orderEvent) {
+        return new OrderEventResponse(orderEvent.getSeq(), orderEvent.getOrderId(), orderEvent.getMemberId(),
+            orderEvent.getType().name(), orderEvent.getOccurredAt());
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,45 @@
+package cart.dto.response;
+
+public class OrderQueueStatsResponse {
+
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final int activeWorkers;
+    private final long rejectedCount;
+    private final long completedCount;
+    private final long failedCount;
+
+    public OrderQueueStatsResponse(final int queueDepth, final int queueCapacity, final int activeWorkers,
+        final long rejectedCount, final long completedCount, final long failedCount) {
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.activeWorkers = activeWorkers;
+        this.rejectedCount = rejectedCount;
+        this.completedCount = completedCount;
+        this.failedCount = failedCount;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getActiveWorkers() {
+        return activeWorkers;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+}
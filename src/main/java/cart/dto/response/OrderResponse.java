@@ -8,14 +8,14 @@ public class OrderResponse {
 
     private Long orderId;
     private List<OrderItemResponse> items;
-    private Long productPrice;
-    private Long discountPrice;
-    private Long deliveryFee;
-    private Long totalPrice;
+    private long productPrice;
+    private long discountPrice;
+    private long deliveryFee;
+    private long totalPrice;
 
-    private OrderResponse(final Long orderId, final List<OrderItemResponse> items, final Long productPrice,
-        final Long discountPrice,
-        final Long deliveryFee, final Long totalPrice) {
+    private OrderResponse(final Long orderId, final List<OrderItemResponse> items, final long productPrice,
+        final long discountPrice,
+        final long deliveryFee, final long totalPrice) {
         this.orderId = orderId;
         this.items = items;
         this.productPrice = productPrice;
@@ -55,19 +55,19 @@ public class OrderResponse {
         return items;
     }
 
-    public Long getProductPrice() {
+    public long getProductPrice() {
         return productPrice;
     }
 
-    public Long getDiscountPrice() {
+    public long getDiscountPrice() {
         return discountPrice;
     }
 
-    public Long getDeliveryFee() {
+    public long getDeliveryFee() {
         return deliveryFee;
     }
 
-    public Long getTotalPrice() {
+    public long getTotalPrice() {
         return totalPrice;
     }
 }
@@ -0,0 +1,53 @@
+package cart.dto.response;
+
+import java.time.LocalDateTime;
+
+public class OutboxStatsResponse {
+
+    private final boolean relayEnabled;
+    private final long pending;
+    private final long oldestAgeMillis;
+    private final long relayed;
+    private final long failed;
+    private final long pollIntervalMillis;
+    private final LocalDateTime lastRelayedAt;
+
+    public OutboxStatsResponse(final boolean relayEnabled, final long pending, final long oldestAgeMillis,
+        final long relayed, final long failed, final long pollIntervalMillis, final LocalDateTime lastRelayedAt) {
+        this.relayEnabled = relayEnabled;
+        this.pending = pending;
+        this.oldestAgeMillis = oldestAgeMillis;
+        this.relayed = relayed;
+        this.failed = failed;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lastRelayedAt = lastRelayedAt;
+    }
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public long getOldestAgeMillis() {
+        return oldestAgeMillis;
+    }
+
+    public long getRelayed() {
+        return relayed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    public LocalDateTime getLastRelayedAt() {
+        return lastRelayedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package cart.dto.response;
+
+import cart.domain.pricing.PricingRules;
+
+public class PricingRuleReloadResponse {
+
+    private final String source;
+    private final int discountRuleCount;
+    private final int deliveryRuleCount;
+
+    private PricingRuleReloadResponse(final String source, final int discountRuleCount,
+        final int deliveryRuleCount) {
+        this.source = source;
+        this.discountRuleCount = discountRuleCount;
+        this.deliveryRuleCount = deliveryRuleCount;
+    }
+
+    public static PricingRuleReloadResponse of(final String source, final PricingRules pricingRules) {
+        return new PricingRuleReloadResponse(source, pricingRules.getDiscountRules().size(),
+            pricingRules.getDeliveryRules().size());
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getDiscountRuleCount() {
+        return discountRuleCount;
+    }
+
+    public int getDeliveryRuleCount() {
+        return deliveryRuleCount;
+    }
+}
@@ -0,0 +1,39 @@
+package cart.dto.response;
+
+import cart.domain.stock.ShardedStock;
+
+public class ProductStockResponse {
+
+    private final Long productId;
+    private final boolean limited;
+    private final int quantity;
+    private final int shards;
+
+    private ProductStockResponse(final Long productId, final boolean limited, final int quantity,
+        final int shards) {
+        this.productId = productId;
+        this.limited = limited;
+        this.quantity = quantity;
+        this.shards = shards;
+    }
+
+    public static ProductStockResponse of(final Long productId, final ShardedStock stock) {
+        return new ProductStockResponse(productId, !stock.isUnlimited(), stock.getQuantity(), stock.getShardCount());
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public boolean isLimited() {
+        return limited;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+}
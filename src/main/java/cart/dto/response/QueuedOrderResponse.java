@@ -0,0 +1,46 @@
+package cart.dto.response;
+
+import cart.domain.order.QueuedOrder;
+import java.beans.ConstructorProperties;
+
+public class QueuedOrderResponse {
+
+    private final Long requestId;
+    private final String status;
+    private final Long orderId;
+    private final String failureMessage;
+
+    @ConstructorProperties(value = {"requestId", "status", "orderId", "failureMessage"})
+    public QueuedOrderResponse(final Long requestId, final String status, final Long orderId,
+        final String failureMessage) {
+        this.requestId = requestId;
+        this.status = status;
+        this.orderId = orderId;
+        this.failureMessage = failureMessage;
+    }
+
+    public static QueuedOrderResponse of(final QueuedOrder queuedOrder) {
+        return new QueuedOrderResponse(
+            queuedOrder.getId(),
+            queuedOrder.getStatus().name(),
+            queuedOrder.getOrderId(),
+            queuedOrder.getFailureMessage()
+        );
+    }
+
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
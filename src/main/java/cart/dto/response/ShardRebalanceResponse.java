@@ -0,0 +1,14 @@
+package cart.dto.response;
+
+public class ShardRebalanceResponse {
+
+    private final int movedMembers;
+
+    public ShardRebalanceResponse(final int movedMembers) {
+        this.movedMembers = movedMembers;
+    }
+
+    public int getMovedMembers() {
+        return movedMembers;
+    }
+}
@@ -0,0 +1,27 @@
+package cart.dto.response;
+
+import cart.domain.stock.StockHold;
+import java.time.LocalDateTime;
+
+public class StockHoldResponse {
+
+    private final String holdId;
+    private final LocalDateTime expiresAt;
+
+    private StockHoldResponse(final String holdId, final LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.expiresAt = expiresAt;
+    }
+
+    public static StockHoldResponse of(final StockHold stockHold) {
+        return new StockHoldResponse(stockHold.getId(), stockHold.getExpiresAt());
+    }
+
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,36 @@
+package cart.exception;
+
+public class CouponException extends RuntimeException {
+
+    public CouponException(final String message) {
+        super(message);
+    }
+
+    public static class CouponNotExistException extends CouponException {
+
+        public CouponNotExistException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class CouponNotApplicableException extends CouponException {
+
+        public CouponNotApplicableException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class CouponExhaustedException extends CouponException {
+
+        public CouponExhaustedException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class CouponUsageLimitExceededException extends CouponException {
+
+        public CouponUsageLimitExceededException(final String message) {
+            super(message);
+        }
+    }
+}
@@ -12,4 +12,39 @@ public class OrderException extends RuntimeException {
             super(message);
         }
     }
+
+    public static class QueuedOrderNotExistException extends OrderException {
+
+        public QueuedOrderNotExistException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class OrderQueueFullException extends OrderException {
+
+        public OrderQueueFullException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class OrderInProgressException extends OrderException {
+
+        public OrderInProgressException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class InvalidOrderExportException extends OrderException {
+
+        public InvalidOrderExportException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class IdempotencyKeyReusedException extends OrderException {
+
+        public IdempotencyKeyReusedException(final String message) {
+            super(message);
+        }
+    }
 }
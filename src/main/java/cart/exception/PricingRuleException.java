@@ -0,0 +1,8 @@
+package cart.exception;
+
+public class PricingRuleException extends RuntimeException {
+
+    public PricingRuleException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
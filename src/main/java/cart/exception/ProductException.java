@@ -12,4 +12,25 @@ public class ProductException extends RuntimeException {
             super(message);
         }
     }
+
+    public static class OutOfStockException extends ProductException {
+
+        public OutOfStockException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class StockHoldNotExistException extends ProductException {
+
+        public StockHoldNotExistException(final String message) {
+            super(message);
+        }
+    }
+
+    public static class InvalidStockException extends ProductException {
+
+        public InvalidStockException(final String message) {
+            super(message);
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package cart.exception;
+
+public class QuoteException extends RuntimeException {
+
+    public QuoteException(final String message) {
+        super(message);
+    }
+}
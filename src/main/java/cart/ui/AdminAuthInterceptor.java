@@ -0,0 +1,35 @@
+package cart.ui;
+
+import cart.exception.AuthenticationException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class AdminAuthInterceptor implements HandlerInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] adminApiToken;
+
+    public AdminAuthInterceptor(final String adminApiToken) {
+        this.adminApiToken = adminApiToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+        final Object handler) {
+        final String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (adminApiToken.length == 0 || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new AuthenticationException();
+        }
+
+        final byte[] token = authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(adminApiToken, token)) {
+            throw new AuthenticationException();
+        }
+        return true;
+    }
+}
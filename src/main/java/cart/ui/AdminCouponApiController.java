@@ -0,0 +1,36 @@
+package cart.ui;
+
+import cart.application.CouponService;
+import cart.domain.coupon.Coupon;
+import cart.dto.request.CouponRequest;
+import cart.dto.response.CouponResponse;
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/coupons")
+public class AdminCouponApiController {
+
+    private final CouponService couponService;
+
+    public AdminCouponApiController(final CouponService couponService) {
+        this.couponService = couponService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> createCoupon(@RequestBody final CouponRequest couponRequest) {
+        final Coupon coupon = couponService.createCoupon(couponRequest);
+        return ResponseEntity.created(URI.create("/admin/coupons/" + coupon.getId())).build();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CouponResponse> getCoupon(@PathVariable final Long id) {
+        return ResponseEntity.ok(couponService.getCoupon(id));
+    }
+}
@@ -0,0 +1,70 @@
+package cart.ui;
+
+import cart.application.AsyncOrderService;
+import cart.application.OrderExportService;
+import cart.application.export.OrderExportFormat;
+import cart.dto.response.OrderQueueStatsResponse;
+import cart.exception.OrderException.InvalidOrderExportException;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/admin/orders")
+public class AdminOrderApiController {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final OrderExportService orderExportService;
+    private final AsyncOrderService asyncOrderService;
+
+    public AdminOrderApiController(final OrderExportService orderExportService,
+        final AsyncOrderService asyncOrderService) {
+        this.orderExportService = orderExportService;
+        this.asyncOrderService = asyncOrderService;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+        @RequestParam @DateTimeFormat(iso = ISO.DATE) final LocalDate from,
+        @RequestParam @DateTimeFormat(iso = ISO.DATE) final LocalDate to,
+        @RequestParam(defaultValue = "ndjson") final String format,
+        @RequestParam(defaultValue = "false") final boolean gzip
+    ) {
+        if (from.isAfter(to)) {
+            throw new InvalidOrderExportException("조회 기간이 올바르지 않습니다.");
+        }
+        final OrderExportFormat exportFormat = OrderExportFormat.from(format);
+        final String filename = "orders-" + from + "-" + to + "." + exportFormat.getExtension();
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        if (!gzip) {
+            final StreamingResponseBody body = outputStream ->
+                orderExportService.export(from, to, exportFormat, outputStream);
+            return response.body(body);
+        }
+
+        final StreamingResponseBody body = outputStream -> {
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE)) {
+                orderExportService.export(from, to, exportFormat, gzipOutputStream);
+            }
+        };
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body);
+    }
+
+    @GetMapping("/requests/stats")
+    public ResponseEntity<OrderQueueStatsResponse> showOrderQueueStats() {
+        return ResponseEntity.ok(asyncOrderService.getStats());
+    }
+}
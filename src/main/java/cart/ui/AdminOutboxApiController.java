@@ -0,0 +1,24 @@
+package cart.ui;
+
+import cart.application.outbox.OutboxRelay;
+import cart.dto.response.OutboxStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/outbox")
+public class AdminOutboxApiController {
+
+    private final OutboxRelay outboxRelay;
+
+    public AdminOutboxApiController(final OutboxRelay outboxRelay) {
+        this.outboxRelay = outboxRelay;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<OutboxStatsResponse> getStats() {
+        return ResponseEntity.ok(outboxRelay.getStats());
+    }
+}
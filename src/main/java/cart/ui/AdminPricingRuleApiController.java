@@ -0,0 +1,26 @@
+package cart.ui;
+
+import cart.application.PricingRuleService;
+import cart.dto.response.PricingRuleReloadResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/pricing-rules")
+@ConditionalOnProperty(name = "pricing.rules.enabled", havingValue = "true")
+public class AdminPricingRuleApiController {
+
+    private final PricingRuleService pricingRuleService;
+
+    public AdminPricingRuleApiController(final PricingRuleService pricingRuleService) {
+        this.pricingRuleService = pricingRuleService;
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<PricingRuleReloadResponse> reload() {
+        return ResponseEntity.ok(pricingRuleService.reload());
+    }
+}
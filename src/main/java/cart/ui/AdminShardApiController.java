@@ -0,0 +1,37 @@
+package cart.ui;
+
+import cart.application.shard.OrderShardRebalancer;
+import cart.dto.request.ShardMoveRequest;
+import cart.dto.response.ShardRebalanceResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/shards")
+@ConditionalOnProperty(name = "order.sharding.enabled", havingValue = "true")
+public class AdminShardApiController {
+
+    private final OrderShardRebalancer orderShardRebalancer;
+
+    public AdminShardApiController(final OrderShardRebalancer orderShardRebalancer) {
+        this.orderShardRebalancer = orderShardRebalancer;
+    }
+
+    @PutMapping("/members/{memberId}")
+    public ResponseEntity<Void> moveMember(@PathVariable final Long memberId,
+        @RequestBody final ShardMoveRequest shardMoveRequest) {
+        orderShardRebalancer.move(memberId, shardMoveRequest.getShardNo());
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/rebalance")
+    public ResponseEntity<ShardRebalanceResponse> rebalance() {
+        return ResponseEntity.ok(new ShardRebalanceResponse(orderShardRebalancer.rebalance()));
+    }
+}
@@ -1,7 +1,6 @@
 package cart.ui;
 
 import cart.application.CartItemService;
-import cart.domain.CartItem;
 import cart.domain.Member;
 import cart.dto.request.CartItemQuantityUpdateRequest;
 import cart.dto.request.CartItemRequest;
@@ -34,10 +33,10 @@ public class CartItemApiController {
     }
 
     @PostMapping
-    public ResponseEntity<CartItem> addCartItems(Member member, @RequestBody CartItemRequest cartItemRequest) {
-        final CartItem persistedCartItem = cartItemService.add(member, cartItemRequest);
+    public ResponseEntity<CartItemResponse> addCartItems(Member member, @RequestBody CartItemRequest cartItemRequest) {
+        final CartItemResponse cartItemResponse = cartItemService.add(member, cartItemRequest);
 
-        return ResponseEntity.created(URI.create("/cart-items/" + persistedCartItem.getId())).body(persistedCartItem);
+        return ResponseEntity.created(URI.create("/cart-items/" + cartItemResponse.getId())).body(cartItemResponse);
     }
 
     @PatchMapping("/{id}")
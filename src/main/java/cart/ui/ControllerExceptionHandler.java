@@ -2,10 +2,18 @@ package cart.ui;
 
 import cart.exception.AuthenticationException;
 import cart.exception.CartItemException;
+import cart.exception.CouponException;
+import cart.exception.OrderException;
+import cart.exception.PricingRuleException;
+import cart.exception.ProductException;
+import cart.exception.QuoteException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @ControllerAdvice
 public class ControllerExceptionHandler {
@@ -25,4 +33,79 @@ public class ControllerExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
     }
 
+    @ExceptionHandler(OrderException.OrderQueueFullException.class)
+    public ResponseEntity<Void> handleException(OrderException.OrderQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    @ExceptionHandler(CannotGetJdbcConnectionException.class)
+    public ResponseEntity<Void> handleException(CannotGetJdbcConnectionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    @ExceptionHandler(OrderException.OrderInProgressException.class)
+    public ResponseEntity<Void> handleException(OrderException.OrderInProgressException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<Void> handleBadRequestParameter(final Exception e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @ExceptionHandler(OrderException.InvalidOrderExportException.class)
+    public ResponseEntity<Void> handleException(OrderException.InvalidOrderExportException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @ExceptionHandler(OrderException.IdempotencyKeyReusedException.class)
+    public ResponseEntity<Void> handleException(OrderException.IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+    }
+
+    @ExceptionHandler(ProductException.StockHoldNotExistException.class)
+    public ResponseEntity<Void> handleException(ProductException.StockHoldNotExistException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+
+    @ExceptionHandler(ProductException.InvalidStockException.class)
+    public ResponseEntity<Void> handleException(ProductException.InvalidStockException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @ExceptionHandler(ProductException.OutOfStockException.class)
+    public ResponseEntity<Void> handleException(ProductException.OutOfStockException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler(QuoteException.class)
+    public ResponseEntity<Void> handleException(QuoteException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @ExceptionHandler(PricingRuleException.class)
+    public ResponseEntity<Void> handleException(PricingRuleException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @ExceptionHandler(CouponException.CouponNotExistException.class)
+    public ResponseEntity<Void> handleException(CouponException.CouponNotExistException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+
+    @ExceptionHandler(CouponException.CouponNotApplicableException.class)
+    public ResponseEntity<Void> handleException(CouponException.CouponNotApplicableException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @ExceptionHandler(CouponException.CouponExhaustedException.class)
+    public ResponseEntity<Void> handleException(CouponException.CouponExhaustedException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler(CouponException.CouponUsageLimitExceededException.class)
+    public ResponseEntity<Void> handleException(CouponException.CouponUsageLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
 }
@@ -1,40 +1,87 @@
 package cart.ui;
 
+import cart.application.AsyncOrderService;
+import cart.application.IdempotentOrderService;
+import cart.application.MemberOrderStatsService;
 import cart.application.OrderService;
 import cart.domain.Member;
+import cart.domain.order.OrderSnapshot;
 import cart.dto.request.OrderRequest;
-import cart.dto.response.OrderResponse;
+import cart.dto.response.MemberOrderStatsResponse;
 import cart.dto.response.OrdersResponse;
+import cart.dto.response.QueuedOrderResponse;
 import java.net.URI;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class OrderApiController {
 
     private final OrderService orderService;
+    private final AsyncOrderService asyncOrderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final MemberOrderStatsService memberOrderStatsService;
 
-    public OrderApiController(final OrderService orderService) {
+    public OrderApiController(final OrderService orderService, final AsyncOrderService asyncOrderService,
+        final IdempotentOrderService idempotentOrderService, final MemberOrderStatsService memberOrderStatsService) {
         this.orderService = orderService;
+        this.asyncOrderService = asyncOrderService;
+        this.idempotentOrderService = idempotentOrderService;
+        this.memberOrderStatsService = memberOrderStatsService;
     }
 
     @PostMapping("/orders")
-    public ResponseEntity<OrderResponse> createOrder(Member member, @RequestBody OrderRequest orderRequest) {
-        final OrderResponse orderResponse = orderService.createOrder(member.getId(), orderRequest);
-        return ResponseEntity.created(URI.create("/orders/" + orderResponse.getOrderId())).body(orderResponse);
+    public ResponseEntity<byte[]> createOrder(Member member,
+        @RequestHeader(name = "Idempotency-Key", required = false) final String idempotencyKey,
+        @RequestBody OrderRequest orderRequest) {
+        final OrderSnapshot orderSnapshot = placeOrder(member, idempotencyKey, orderRequest);
+        return ResponseEntity.created(URI.create("/orders/" + orderSnapshot.getOrderId()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(orderSnapshot.getContent());
+    }
+
+    @PostMapping(value = "/orders", headers = "Prefer=respond-async")
+    public ResponseEntity<QueuedOrderResponse> enqueueOrder(Member member, @RequestBody OrderRequest orderRequest) {
+        final QueuedOrderResponse queuedOrderResponse = asyncOrderService.enqueue(member, orderRequest);
+        return ResponseEntity.accepted()
+            .location(URI.create("/orders/requests/" + queuedOrderResponse.getRequestId()))
+            .body(queuedOrderResponse);
     }
 
     @GetMapping("/orders")
     public ResponseEntity<OrdersResponse> showOrders(Member member) {
-        return ResponseEntity.ok(orderService.getOrderByMemberId(member.getId()));
+        return ResponseEntity.ok(orderService.getOrderByMember(member));
+    }
+
+    @GetMapping("/orders/stats")
+    public ResponseEntity<MemberOrderStatsResponse> showOrderStats(Member member) {
+        return ResponseEntity.ok(memberOrderStatsService.getStats(member));
     }
 
     @GetMapping("/orders/{id}")
-    public ResponseEntity<OrderResponse> showOrder(Member member, @PathVariable(name = "id") final Long orderId) {
-        return ResponseEntity.ok(orderService.getOrderById(orderId));
+    public ResponseEntity<byte[]> showOrder(Member member, @PathVariable(name = "id") final Long orderId) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(orderService.getOrderById(member, orderId).getContent());
+    }
+
+    @GetMapping("/orders/requests/{id}")
+    public ResponseEntity<QueuedOrderResponse> showQueuedOrder(Member member,
+        @PathVariable(name = "id") final Long requestId) {
+        return ResponseEntity.ok(asyncOrderService.getQueuedOrder(member, requestId));
+    }
+
+    private OrderSnapshot placeOrder(final Member member, final String idempotencyKey,
+        final OrderRequest orderRequest) {
+        if (idempotencyKey == null) {
+            return orderService.createOrder(member.getId(), orderRequest);
+        }
+        return idempotentOrderService.createOrder(member, idempotencyKey, orderRequest);
     }
 }
@@ -0,0 +1,29 @@
+package cart.ui;
+
+import cart.application.OrderEventService;
+import cart.dto.response.OrderEventResponse;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/order-events")
+public class OrderEventApiController {
+
+    private final OrderEventService orderEventService;
+
+    public OrderEventApiController(final OrderEventService orderEventService) {
+        this.orderEventService = orderEventService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<OrderEventResponse>> getOrderEvents(
+        @RequestParam(defaultValue = "0") final long after,
+        @RequestParam(defaultValue = "100") final int size
+    ) {
+        return ResponseEntity.ok(orderEventService.findEvents(after, size));
+    }
+}
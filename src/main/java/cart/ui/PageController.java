@@ -1,5 +1,6 @@
 package cart.ui;
 
+import cart.application.MemberOrderStatsService;
 import cart.application.ProductService;
 import cart.dao.MemberDao;
 import org.springframework.stereotype.Controller;
@@ -10,10 +11,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class PageController {
     private final ProductService productService;
     private final MemberDao memberDao;
+    private final MemberOrderStatsService memberOrderStatsService;
 
-    public PageController(ProductService productService, MemberDao memberDao) {
+    public PageController(ProductService productService, MemberDao memberDao,
+        MemberOrderStatsService memberOrderStatsService) {
         this.productService = productService;
         this.memberDao = memberDao;
+        this.memberOrderStatsService = memberOrderStatsService;
     }
 
     @GetMapping("/admin")
@@ -25,6 +29,7 @@ public class PageController {
     @GetMapping("/settings")
     public String members(Model model) {
         model.addAttribute("members", memberDao.getAllMembers());
+        model.addAttribute("memberOrderStats", memberOrderStatsService.getAllStats());
         return "settings";
     }
 }
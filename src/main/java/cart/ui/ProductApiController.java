@@ -1,9 +1,12 @@
 package cart.ui;
 
 import cart.application.ProductService;
+import cart.application.ProductStockService;
 import cart.domain.Product;
 import cart.dto.request.ProductRequest;
+import cart.dto.request.ProductStockRequest;
 import cart.dto.response.ProductResponse;
+import cart.dto.response.ProductStockResponse;
 import java.net.URI;
 import java.util.List;
 import org.springframework.http.HttpStatus;
@@ -22,9 +25,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductApiController {
 
     private final ProductService productService;
+    private final ProductStockService productStockService;
 
-    public ProductApiController(ProductService productService) {
+    public ProductApiController(ProductService productService, ProductStockService productStockService) {
         this.productService = productService;
+        this.productStockService = productStockService;
     }
 
     @GetMapping
@@ -55,4 +60,15 @@ public class ProductApiController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<ProductStockResponse> getStock(@PathVariable Long id) {
+        return ResponseEntity.ok(productStockService.getStock(id));
+    }
+
+    @PutMapping("/{id}/stock")
+    public ResponseEntity<Void> setStock(@PathVariable Long id, @RequestBody ProductStockRequest productStockRequest) {
+        productStockService.setStock(id, productStockRequest);
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
 }
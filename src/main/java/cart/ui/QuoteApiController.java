@@ -0,0 +1,31 @@
+package cart.ui;
+
+import cart.application.QuoteService;
+import cart.dto.request.QuoteRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/quotes")
+public class QuoteApiController {
+
+    private final QuoteService quoteService;
+
+    public QuoteApiController(final QuoteService quoteService) {
+        this.quoteService = quoteService;
+    }
+
+    @PostMapping
+    public ResponseEntity<StreamingResponseBody> quote(@RequestBody final QuoteRequest quoteRequest) {
+        final long[] productPrices = quoteService.productPricesOf(quoteRequest);
+        final StreamingResponseBody body = outputStream -> quoteService.writeQuotes(productPrices, outputStream);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+}
@@ -0,0 +1,32 @@
+package cart.ui;
+
+import cart.dao.ReactiveProductDao;
+import cart.dto.response.ProductResponse;
+import cart.exception.ProductException.ProductNotExistException;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+public class ReactiveCatalogHandler {
+
+    private final ReactiveProductDao reactiveProductDao;
+
+    public ReactiveCatalogHandler(final ReactiveProductDao reactiveProductDao) {
+        this.reactiveProductDao = reactiveProductDao;
+    }
+
+    public Mono<ServerResponse> getAllProducts(final ServerRequest request) {
+        return ServerResponse.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(reactiveProductDao.getAllProducts().map(ProductResponse::of), ProductResponse.class);
+    }
+
+    public Mono<ServerResponse> getProductById(final ServerRequest request) {
+        return Mono.fromCallable(() -> Long.valueOf(request.pathVariable("id")))
+            .flatMap(reactiveProductDao::getProductById)
+            .switchIfEmpty(Mono.error(() -> new ProductNotExistException("상품이 존재하지 않습니다.")))
+            .map(ProductResponse::of)
+            .flatMap(product -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(product));
+    }
+}
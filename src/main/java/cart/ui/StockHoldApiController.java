@@ -0,0 +1,40 @@
+package cart.ui;
+
+import cart.application.StockHoldService;
+import cart.domain.Member;
+import cart.dto.request.StockHoldRequest;
+import cart.dto.response.StockHoldResponse;
+import java.net.URI;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/stock-holds")
+public class StockHoldApiController {
+
+    private final StockHoldService stockHoldService;
+
+    public StockHoldApiController(final StockHoldService stockHoldService) {
+        this.stockHoldService = stockHoldService;
+    }
+
+    @PostMapping
+    public ResponseEntity<StockHoldResponse> hold(final Member member,
+        @RequestBody final StockHoldRequest stockHoldRequest) {
+        final StockHoldResponse stockHoldResponse = stockHoldService.hold(member, stockHoldRequest);
+        return ResponseEntity.created(URI.create("/stock-holds/" + stockHoldResponse.getHoldId()))
+            .body(stockHoldResponse);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> release(final Member member, @PathVariable final String id) {
+        stockHoldService.release(member, id);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
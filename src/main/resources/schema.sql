@@ -32,7 +32,8 @@ CREATE TABLE IF NOT EXISTS orders
     delivery_fee   BIGINT   NOT NULL,
     total_price    BIGINT   NOT NULL,
     created_at     DATETIME NOT NULL,
-    FOREIGN KEY (member_id) REFERENCES member (id)
+    FOREIGN KEY (member_id) REFERENCES member (id),
+    INDEX idx_orders_created_at (created_at)
 );
 
 CREATE TABLE IF NOT EXISTS order_items
@@ -45,3 +46,142 @@ CREATE TABLE IF NOT EXISTS order_items
     product_quantity  INTEGER      NOT NULL,
     FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
 );
+
+CREATE TABLE IF NOT EXISTS order_snapshot
+(
+    order_id  BIGINT NOT NULL PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    content   BLOB   NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS order_request_queue
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    member_id       BIGINT       NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    order_id        BIGINT,
+    failure_message VARCHAR(255),
+    created_at      DATETIME     NOT NULL,
+    FOREIGN KEY (member_id) REFERENCES member (id),
+    INDEX idx_order_request_queue_status (status, id)
+);
+
+CREATE TABLE IF NOT EXISTS order_idempotency_key
+(
+    member_id       BIGINT      NOT NULL,
+    idempotency_key VARCHAR(64) NOT NULL,
+    request_hash    CHAR(64)    NOT NULL,
+    order_id        BIGINT      NOT NULL,
+    created_at      DATETIME    NOT NULL,
+    PRIMARY KEY (member_id, idempotency_key)
+);
+
+CREATE TABLE IF NOT EXISTS member_order_stats
+(
+    member_id       BIGINT   NOT NULL PRIMARY KEY,
+    order_count     BIGINT   NOT NULL,
+    total_spend     BIGINT   NOT NULL,
+    last_ordered_at DATETIME NOT NULL,
+    FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS orders_archive
+(
+    id             BIGINT   NOT NULL PRIMARY KEY,
+    member_id      BIGINT   NOT NULL,
+    product_price  BIGINT   NOT NULL,
+    discount_price BIGINT   NOT NULL,
+    delivery_fee   BIGINT   NOT NULL,
+    total_price    BIGINT   NOT NULL,
+    created_at     DATETIME NOT NULL,
+    items          TEXT     NOT NULL,
+    INDEX idx_orders_archive_member (member_id, id),
+    INDEX idx_orders_archive_created_at (created_at)
+);
+
+CREATE TABLE IF NOT EXISTS product_stock
+(
+    product_id BIGINT NOT NULL,
+    shard_no   INT    NOT NULL,
+    quantity   INT    NOT NULL,
+    PRIMARY KEY (product_id, shard_no),
+    FOREIGN KEY (product_id) REFERENCES product (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS stock_hold
+(
+    id         VARCHAR(36) NOT NULL PRIMARY KEY,
+    member_id  BIGINT      NOT NULL,
+    expires_at DATETIME    NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS stock_hold_item
+(
+    hold_id    VARCHAR(36) NOT NULL,
+    product_id BIGINT      NOT NULL,
+    shard_no   INT         NOT NULL,
+    quantity   INT         NOT NULL,
+    PRIMARY KEY (hold_id, product_id, shard_no),
+    FOREIGN KEY (hold_id) REFERENCES stock_hold (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS order_events
+(
+    seq         BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    order_id    BIGINT      NOT NULL,
+    member_id   BIGINT      NOT NULL,
+    event_type  VARCHAR(20) NOT NULL,
+    occurred_at DATETIME    NOT NULL,
+    recorded_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+CREATE TABLE IF NOT EXISTS outbox
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(30) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    event_type     VARCHAR(30) NOT NULL,
+    payload        TEXT        NOT NULL,
+    created_at     DATETIME    NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS pricing_rule
+(
+    id                BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    rule_type         VARCHAR(20) NOT NULL,
+    min_price         BIGINT      NOT NULL,
+    fixed_amount      BIGINT      NOT NULL,
+    rate_basis_points INT         NOT NULL,
+    UNIQUE (rule_type, min_price)
+);
+
+CREATE TABLE IF NOT EXISTS coupon
+(
+    id               BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    discount_amount  BIGINT       NOT NULL,
+    min_order_price  BIGINT       NOT NULL DEFAULT 0,
+    total_limit      INT,
+    per_member_limit INT          NOT NULL DEFAULT 1,
+    used_count       INT          NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS coupon_member_usage
+(
+    coupon_id  BIGINT NOT NULL,
+    member_id  BIGINT NOT NULL,
+    used_count INT    NOT NULL,
+    PRIMARY KEY (coupon_id, member_id),
+    FOREIGN KEY (coupon_id) REFERENCES coupon (id) ON DELETE CASCADE,
+    FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS member_shard
+(
+    member_id    BIGINT   NOT NULL PRIMARY KEY,
+    shard_no     INT      NOT NULL,
+    moving_since DATETIME NULL,
+    version      BIGINT   NOT NULL DEFAULT 0,
+    FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+);
@@ -0,0 +1,31 @@
+CREATE TABLE IF NOT EXISTS orders
+(
+    id             BIGINT   NOT NULL PRIMARY KEY,
+    member_id      BIGINT   NOT NULL,
+    product_price  BIGINT   NOT NULL,
+    discount_price BIGINT   NOT NULL,
+    delivery_fee   BIGINT   NOT NULL,
+    total_price    BIGINT   NOT NULL,
+    created_at     DATETIME NOT NULL,
+    INDEX idx_orders_member (member_id, id)
+);
+
+CREATE TABLE IF NOT EXISTS order_items
+(
+    id                BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    order_id          BIGINT       NOT NULL,
+    product_name      VARCHAR(255) NOT NULL,
+    product_price     INT          NOT NULL,
+    product_image_url VARCHAR(255) NOT NULL,
+    product_quantity  INTEGER      NOT NULL,
+    FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS order_id_block
+(
+    id         INT    NOT NULL PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+INSERT INTO order_id_block (id, next_value)
+SELECT 1, 1 FROM DUAL WHERE NOT EXISTS (SELECT id FROM order_id_block WHERE id = 1);
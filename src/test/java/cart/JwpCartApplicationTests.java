@@ -1,13 +1,34 @@
 package cart;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
 
-@SpringBootTest
+@SpringBootTest(properties = "catalog.reactive.enabled=false")
 class JwpCartApplicationTests {
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void contextLoads() {
     }
 
+    @DisplayName("R2DBC 가 클래스패스에 있어도 JDBC 트랜잭션 매니저와 DataSource 를 사용한다.")
+    @Test
+    void usesJdbcTransactionManager() {
+        assertThat(transactionManager).isInstanceOf(DataSourceTransactionManager.class);
+        assertThat(((DataSourceTransactionManager) transactionManager).getDataSource())
+            .isSameAs(jdbcTemplate.getDataSource());
+    }
+
 }
@@ -0,0 +1,64 @@
+package cart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.domain.order.OrderSnapshot;
+import cart.domain.respository.member.MemberRepository;
+import cart.domain.respository.ordersnapshot.OrderSnapshotRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:order-snapshot-backfill-test;MODE=MySQL",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:schema.sql"
+})
+class OrderSnapshotBackfillJobTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderSnapshotRepository orderSnapshotRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DisplayName("읽을 수 없는 주문은 건너뛰고 나머지 주문의 스냅샷을 저장된 금액으로 채운다.")
+    @Test
+    void skipUnreadableOrders() throws IOException {
+        //given
+        jdbcTemplate.update("INSERT INTO orders (id, member_id, product_price, discount_price, delivery_fee, "
+            + "total_price, created_at) VALUES (1001, 1, 10000, 0, 3000, 13000, NOW())");
+        jdbcTemplate.update("INSERT INTO orders (id, member_id, product_price, discount_price, delivery_fee, "
+            + "total_price, created_at) VALUES (1002, 1, 20000, 2000, 3000, 21000, NOW())");
+        jdbcTemplate.update("INSERT INTO order_items (order_id, product_name, product_price, product_image_url, "
+            + "product_quantity) VALUES (1002, '치킨', 10000, 'chicken.jpg', 2)");
+        final OrderSnapshotBackfillJob job = new OrderSnapshotBackfillJob(orderService, orderSnapshotRepository,
+            memberRepository, 1);
+
+        //when
+        job.run(null);
+
+        //then
+        final Optional<OrderSnapshot> backfilled = orderSnapshotRepository.findByOrderId(1L, 1002L);
+        assertThat(backfilled).isPresent();
+        final JsonNode content = objectMapper.readTree(backfilled.get().getContent());
+        assertAll(
+            () -> assertThat(orderSnapshotRepository.findByOrderId(1L, 1001L)).isEmpty(),
+            () -> assertThat(content.get("discountPrice").asLong()).isEqualTo(2000L),
+            () -> assertThat(content.get("totalPrice").asLong()).isEqualTo(21000L)
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package cart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.application.outbox.InMemoryOutboxSink;
+import cart.application.outbox.OutboxRelay;
+import cart.domain.outbox.OutboxMessage;
+import cart.domain.respository.outbox.OutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outbox-relay-test;MODE=MySQL",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:schema.sql",
+    "outbox.sink.type=memory",
+    "outbox.relay.enabled=false",
+    "outbox.relay.batch-size=2"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private InMemoryOutboxSink inMemoryOutboxSink;
+
+    @DisplayName("아웃박스 메시지를 배치 단위로 싱크에 전달하고 삭제한다.")
+    @Test
+    void relayOnce() {
+        //given
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            outboxRepository.save(OutboxMessage.of("ORDER", orderId, "ORDER_CREATED",
+                "{\"orderId\":" + orderId + "}", LocalDateTime.now()));
+        }
+
+        //when
+        final int relayed = outboxRelay.relayOnce();
+
+        //then
+        final List<Long> publishedOrderIds = inMemoryOutboxSink.getPublished()
+            .stream()
+            .map(OutboxMessage::getAggregateId)
+            .collect(Collectors.toList());
+        assertAll(
+            () -> assertThat(relayed).isEqualTo(5),
+            () -> assertThat(publishedOrderIds).containsExactly(1L, 2L, 3L, 4L, 5L),
+            () -> assertThat(outboxRelay.getStats().getPending()).isZero()
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package cart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.dao.ProductDao;
+import cart.domain.Product;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.dto.request.ProductStockRequest;
+import cart.exception.ProductException.OutOfStockException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class ProductStockContentionTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int ATTEMPT_COUNT = 400;
+    private static final int STOCK = 100;
+
+    @Autowired
+    private ProductStockService productStockService;
+    @Autowired
+    private ProductDao productDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("여러 스레드가 한 상품을 동시에 구매해도 재고만큼만 판매된다.")
+    @ParameterizedTest(name = "shards = {0}")
+    @ValueSource(ints = {1, 8})
+    void buyOneProductConcurrently(final int shards) throws InterruptedException {
+        //given
+        final Product product = productDao.createProduct(new Product("한정판", 10_000, "http://example.com/limited.jpg"));
+        productStockService.setStock(product.getId(), new ProductStockRequest(STOCK, shards));
+        final OrderItems orderItems = new OrderItems(List.of(OrderItem.notPersisted(product, 1)));
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger outOfStock = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < ATTEMPT_COUNT; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> productStockService.reserve(orderItems));
+                    succeeded.incrementAndGet();
+                } catch (OutOfStockException e) {
+                    outOfStock.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        final boolean terminated = executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        //then
+        assertAll(
+            () -> assertThat(terminated).isTrue(),
+            () -> assertThat(succeeded.get()).isEqualTo(STOCK),
+            () -> assertThat(outOfStock.get()).isEqualTo(ATTEMPT_COUNT - STOCK),
+            () -> assertThat(productStockService.getStock(product.getId()).getQuantity()).isZero(),
+            () -> assertThat(productStockService.getLedger(product.getId()).getQuantity()).isZero()
+        );
+    }
+}
@@ -0,0 +1,177 @@
+package cart.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String FIND_ROLE = "SELECT role FROM marker";
+
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate primaryJdbcTemplate;
+    private JdbcTemplate replicaJdbcTemplate;
+    private ReplicaDataSources replicaDataSources;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        primaryJdbcTemplate = new JdbcTemplate(primary);
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        primaryJdbcTemplate.execute("CREATE TABLE marker (role VARCHAR(16))");
+        primaryJdbcTemplate.update("INSERT INTO marker (role) VALUES ('primary')");
+        replicaJdbcTemplate.execute("CREATE TABLE marker (role VARCHAR(16))");
+        replicaJdbcTemplate.update("INSERT INTO marker (role) VALUES ('replica')");
+        replicaJdbcTemplate.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        replicaJdbcTemplate.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+
+        replicaDataSources = new ReplicaDataSources(primary, replica,
+            "SELECT seconds FROM replica_lag", "seconds", Duration.ofSeconds(2));
+        final DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaDataSources));
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWriteTransaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        shutdown(primary);
+        shutdown(replica);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 보낸다.")
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 보낸다.")
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(roleIn(readWriteTransaction)).isEqualTo("primary");
+    }
+
+    @DisplayName("트랜잭션 밖의 조회는 읽기 전용 요청일 때만 레플리카로 보낸다.")
+    @Test
+    void nonTransactionalReadUsesReplicaOnlyInReadOnlyRequest() {
+        assertThat(findRole()).isEqualTo("primary");
+
+        ReplicaRoutingDataSource.beginReadOnlyRequest();
+        try {
+            assertThat(findRole()).isEqualTo("replica");
+            assertThat(roleIn(readWriteTransaction)).isEqualTo("primary");
+        } finally {
+            ReplicaRoutingDataSource.endRequest();
+        }
+    }
+
+    @DisplayName("레플리카 지연이 허용치를 넘으면 프라이머리로 읽고, 회복되면 다시 레플리카로 읽는다.")
+    @Test
+    void fallsBackToPrimaryWhileReplicaLags() {
+        replicaJdbcTemplate.update("UPDATE replica_lag SET seconds = 10");
+        replicaDataSources.checkLag();
+
+        assertThat(replicaDataSources.isReplicaUsable()).isFalse();
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("primary");
+
+        replicaJdbcTemplate.update("UPDATE replica_lag SET seconds = 0");
+        replicaDataSources.checkLag();
+
+        assertThat(replicaDataSources.isReplicaUsable()).isTrue();
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @DisplayName("레플리카의 지연을 확인할 수 없으면 프라이머리로 읽는다.")
+    @Test
+    void fallsBackToPrimaryWhenLagIsUnknown() {
+        replicaJdbcTemplate.update("DELETE FROM replica_lag");
+        replicaDataSources.checkLag();
+
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("primary");
+    }
+
+    @DisplayName("쓰기 요청을 보낸 멤버의 조회는 잠시 동안 프라이머리로 보낸다.")
+    @Test
+    void readYourWritesAfterWrite() throws Exception {
+        final ReadOnlyRequestFilter filter = new ReadOnlyRequestFilter(new ReadYourWritesWindow(Duration.ofMinutes(1)));
+        final List<String> roles = new ArrayList<>();
+
+        filter.doFilter(request("POST", "a@a.com"), new MockHttpServletResponse(), (request, response) -> { });
+        filter.doFilter(request("GET", "a@a.com"), new MockHttpServletResponse(),
+            (request, response) -> roles.add(roleIn(readOnlyTransaction)));
+        filter.doFilter(request("GET", "b@b.com"), new MockHttpServletResponse(),
+            (request, response) -> roles.add(roleIn(readOnlyTransaction)));
+
+        assertThat(roles).containsExactly("primary", "replica");
+    }
+
+    @DisplayName("읽기 고정 시간이 지나면 다시 레플리카로 읽는다.")
+    @Test
+    void readFromReplicaAfterWindow() throws Exception {
+        final ReadOnlyRequestFilter filter = new ReadOnlyRequestFilter(new ReadYourWritesWindow(Duration.ZERO));
+        final List<String> roles = new ArrayList<>();
+
+        filter.doFilter(request("POST", "a@a.com"), new MockHttpServletResponse(), (request, response) -> { });
+        filter.doFilter(request("GET", "a@a.com"), new MockHttpServletResponse(),
+            (request, response) -> roles.add(findRole()));
+
+        assertThat(roles).containsExactly("replica");
+    }
+
+    private MockHttpServletRequest request(final String method, final String email) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, "/orders");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+            .encodeToString((email + ":1234").getBytes(StandardCharsets.UTF_8)));
+        return request;
+    }
+
+    private String roleIn(final TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> findRole());
+    }
+
+    private String findRole() {
+        return jdbcTemplate.queryForObject(FIND_ROLE, String.class);
+    }
+
+    private static void shutdown(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    private static DataSource h2(final String name) {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        return dataSource;
+    }
+}
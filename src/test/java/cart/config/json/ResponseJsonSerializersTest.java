@@ -0,0 +1,84 @@
+package cart.config.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cart.domain.CartItem;
+import cart.domain.Member;
+import cart.domain.Product;
+import cart.domain.delivery.BasicDeliveryPolicy;
+import cart.domain.discount.BasicDiscountPolicy;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.domain.order.OrderPrice;
+import cart.dto.response.CartItemResponse;
+import cart.dto.response.OrderResponse;
+import cart.dto.response.OrdersResponse;
+import cart.dto.response.ProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResponseJsonSerializersTest {
+
+    private final ObjectMapper reflectiveMapper = new ObjectMapper();
+    private final ObjectMapper handWrittenMapper = new ObjectMapper().registerModule(ResponseJsonSerializers.module());
+
+    private final Member member = new Member(1L, "a@a.com", "1234");
+    private final Product chicken = new Product(1L, "치킨", 10_000, "http://example.com/chicken.jpg");
+    private final Product pizza = new Product(2L, "피자 \"L\"", 20_000, null);
+
+    @DisplayName("주문 목록을 기본 직렬화와 같은 필드 순서로 쓴다.")
+    @Test
+    void ordersResponse() throws JsonProcessingException {
+        //given
+        final Order order = Order.persisted(1L, member,
+            new OrderItems(List.of(OrderItem.persisted(1L, chicken, 2), OrderItem.persisted(2L, pizza, 1))),
+            LocalDateTime.now());
+        final OrderResponse orderResponse = OrderResponse.of(order,
+            OrderPrice.of(order, new BasicDiscountPolicy(), new BasicDeliveryPolicy()));
+        final OrdersResponse ordersResponse = new OrdersResponse(List.of(orderResponse, orderResponse));
+
+        //when
+        final String json = handWrittenMapper.writeValueAsString(ordersResponse);
+
+        //then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(ordersResponse));
+    }
+
+    @DisplayName("아이디가 없는 주문은 orderId 를 null 로 쓴다.")
+    @Test
+    void orderResponseWithoutId() throws JsonProcessingException {
+        //given
+        final Order order = Order.beforePersisted(member,
+            new OrderItems(List.of(OrderItem.notPersisted(chicken, 1))), LocalDateTime.now());
+        final OrderResponse orderResponse = OrderResponse.of(order,
+            OrderPrice.of(order, new BasicDiscountPolicy(), new BasicDeliveryPolicy()));
+
+        //when
+        final String json = handWrittenMapper.writeValueAsString(orderResponse);
+
+        //then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(orderResponse));
+    }
+
+    @DisplayName("장바구니 아이템과 상품을 기본 직렬화와 같은 필드 순서로 쓴다.")
+    @Test
+    void cartItemResponses() throws JsonProcessingException {
+        //given
+        final List<CartItemResponse> cartItemResponses = List.of(
+            CartItemResponse.of(new CartItem(1L, 3, chicken, member)),
+            CartItemResponse.of(new CartItem(2L, 1, pizza, member))
+        );
+        final ProductResponse productResponse = ProductResponse.of(pizza);
+
+        //when & then
+        assertThat(handWrittenMapper.writeValueAsString(cartItemResponses))
+            .isEqualTo(reflectiveMapper.writeValueAsString(cartItemResponses));
+        assertThat(handWrittenMapper.writeValueAsString(productResponse))
+            .isEqualTo(reflectiveMapper.writeValueAsString(productResponse));
+    }
+}
@@ -0,0 +1,87 @@
+package cart.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.domain.Member;
+import cart.domain.Product;
+import cart.domain.delivery.BasicDeliveryPolicy;
+import cart.domain.discount.BasicDiscountPolicy;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItem;
+import cart.domain.order.OrderItems;
+import cart.domain.order.OrderPrice;
+import cart.exception.MemberNotExistException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JdbcTest(properties = "spring.datasource.url=jdbc:h2:mem:order-archive-dao-test;MODE=MySQL")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class OrderArchiveDaoTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private MemberDao memberDao;
+    private OrderDao orderDao;
+    private OrderItemDao orderItemDao;
+    private OrderArchiveDao orderArchiveDao;
+    private Product product;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        this.memberDao = new MemberDao(jdbcTemplate);
+        this.orderDao = new OrderDao(jdbcTemplate);
+        this.orderItemDao = new OrderItemDao(jdbcTemplate);
+        this.orderArchiveDao = new OrderArchiveDao(jdbcTemplate);
+
+        this.member = memberDao.getMemberById(1L)
+            .orElseThrow(() -> new MemberNotExistException("멤버가 존재하지 않습니다."));
+        this.product = new ProductDao(jdbcTemplate)
+            .createProduct(new Product("치킨", 10_000, "http://example.com/chicken.jpg"));
+    }
+
+    @DisplayName("보관 기간이 지난 주문을 아카이브 테이블로 옮기고 그대로 조회한다.")
+    @Test
+    void archive() {
+        //given
+        final Order oldOrder = createOrder(LocalDateTime.of(2020, 1, 1, 0, 0), 2);
+        final Order recentOrder = createOrder(LocalDateTime.now(), 1);
+        final LocalDateTime cutoff = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+        //when
+        final List<Long> archivableOrderIds = orderArchiveDao.findArchivableOrderIds(0L, cutoff, 100);
+        orderArchiveDao.archive(archivableOrderIds);
+
+        //then
+        final Optional<Order> archivedOrder = orderArchiveDao.findByOrderId(member, oldOrder.getId());
+        assertAll(
+            () -> assertThat(archivableOrderIds).containsExactly(oldOrder.getId()),
+            () -> assertThat(orderDao.findByOrderId(member, oldOrder.getId())).isEmpty(),
+            () -> assertThat(orderDao.findByOrderId(member, recentOrder.getId())).isPresent(),
+            () -> assertThat(archivedOrder).isPresent(),
+            () -> assertThat(archivedOrder.get().getOrderItems()).hasSize(1),
+            () -> assertThat(archivedOrder.get().getOrderItems().get(0).getQuantity()).isEqualTo(2),
+            () -> assertThat(archivedOrder.get().getProductPrice()).isEqualTo(20_000L)
+        );
+    }
+
+    private Order createOrder(final LocalDateTime orderTime, final int quantity) {
+        final Order order = Order.beforePersisted(member,
+            new OrderItems(List.of(OrderItem.notPersisted(product, quantity))), orderTime);
+        final OrderPrice orderPrice = OrderPrice.of(order, new BasicDiscountPolicy(), new BasicDeliveryPolicy());
+
+        final Order persistedOrder = orderDao.insert(order, orderPrice);
+        order.getOrderItems().forEach(orderItem -> orderItemDao.insert(persistedOrder.getId(), orderItem));
+        return persistedOrder;
+    }
+}
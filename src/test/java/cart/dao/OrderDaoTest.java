@@ -12,7 +12,6 @@ import cart.domain.order.Order;
 import cart.domain.order.OrderItem;
 import cart.domain.order.OrderItems;
 import cart.domain.order.OrderPrice;
-import cart.dto.OrderDto;
 import cart.exception.MemberNotExistException;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,10 +20,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
-@JdbcTest
+@JdbcTest(properties = "spring.datasource.url=jdbc:h2:mem:order-dao-test;MODE=MySQL")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
 class OrderDaoTest {
 
     @Autowired
@@ -76,13 +78,30 @@ class OrderDaoTest {
         final Order order2 = createOrder(member, List.of(OrderItem.notPersisted(product1, 1)));
 
         //when
-        final List<OrderDto> orderDtos = orderDao.findAllByMemberId(member.getId());
+        final List<Order> orders = orderDao.findAllByMemberId(member);
 
         //then
         assertAll(
-            () -> assertThat(orderDtos).hasSize(2),
-            () -> assertThat(orderDtos.get(0).getOrderId()).isEqualTo(order1.getId()),
-            () -> assertThat(orderDtos.get(1).getOrderId()).isEqualTo(order2.getId())
+            () -> assertThat(orders).hasSize(2),
+            () -> assertThat(orders.get(0).getId()).isEqualTo(order1.getId()),
+            () -> assertThat(orders.get(0).getOrderItems()).hasSize(1),
+            () -> assertThat(orders.get(1).getId()).isEqualTo(order2.getId()),
+            () -> assertThat(orders.get(1).getOrderItems()).hasSize(1)
+        );
+    }
+
+    @DisplayName("다른 멤버의 주문은 조회되지 않는다.")
+    @Test
+    void findByOrderIdOfOtherMember() {
+        //given
+        createCartItem(new CartItem(member, product1));
+        final Order order = createOrder(member, List.of(OrderItem.notPersisted(product1, 2)));
+        final Member otherMember = findMemberById(2L);
+
+        //when & then
+        assertAll(
+            () -> assertThat(orderDao.findByOrderId(member, order.getId())).isPresent(),
+            () -> assertThat(orderDao.findByOrderId(otherMember, order.getId())).isEmpty()
         );
     }
 
@@ -0,0 +1,54 @@
+package cart.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.domain.order.OrderEvent;
+import cart.domain.order.OrderEventType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JdbcTest(properties = "spring.datasource.url=jdbc:h2:mem:order-event-dao-test;MODE=MySQL")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class OrderEventDaoTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private OrderEventDao orderEventDao;
+
+    @BeforeEach
+    void setUp() {
+        this.orderEventDao = new OrderEventDao(jdbcTemplate);
+    }
+
+    @DisplayName("저장된 지 read-delay가 지나지 않은 이벤트는 조회하지 않는다.")
+    @Test
+    void findAfterHoldsBackRecentEvents() {
+        //given
+        orderEventDao.insertAll(List.of(
+            OrderEvent.of(1L, 1L, OrderEventType.PLACED, LocalDateTime.now()),
+            OrderEvent.of(2L, 1L, OrderEventType.PLACED, LocalDateTime.now())
+        ));
+        jdbcTemplate.update("UPDATE order_events SET recorded_at = ? WHERE order_id = 1",
+            LocalDateTime.now().minusMinutes(1));
+
+        //when
+        final List<OrderEvent> delayed = orderEventDao.findAfter(0, 10, Duration.ofSeconds(30));
+        final List<OrderEvent> all = orderEventDao.findAfter(0, 10, Duration.ZERO);
+
+        //then
+        assertAll(
+            () -> assertThat(delayed).extracting(OrderEvent::getOrderId).containsExactly(1L),
+            () -> assertThat(all).extracting(OrderEvent::getOrderId).containsExactly(1L, 2L)
+        );
+    }
+}
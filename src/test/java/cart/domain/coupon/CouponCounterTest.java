@@ -0,0 +1,68 @@
+package cart.domain.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CouponCounterTest {
+
+    @DisplayName("동시에 쿠폰을 사용해도 전체 한도를 넘어서 발급되지 않는다.")
+    @Test
+    void tryAcquireConcurrently() throws Exception {
+        //given
+        final CouponCounter couponCounter = CouponCounter.limited(100);
+        final ExecutorService executorService = Executors.newFixedThreadPool(16);
+        final List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            attempts.add(couponCounter::tryAcquire);
+        }
+
+        //when
+        int acquired = 0;
+        try {
+            for (Future<Boolean> result : executorService.invokeAll(attempts)) {
+                if (result.get()) {
+                    acquired++;
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        //then
+        final int acquiredCount = acquired;
+        assertAll(
+            () -> assertThat(acquiredCount).isEqualTo(100),
+            () -> assertThat(couponCounter.getRemaining()).isZero(),
+            () -> assertThat(couponCounter.tryAcquire()).isFalse()
+        );
+    }
+
+    @DisplayName("취소된 사용은 한도를 돌려주고, 확정된 사용은 한 번만 반영된다.")
+    @Test
+    void cancelAndConfirm() {
+        //given
+        final CouponCounter couponCounter = CouponCounter.limited(1);
+
+        //when
+        couponCounter.tryAcquire();
+        couponCounter.cancel();
+        couponCounter.tryAcquire();
+        couponCounter.confirm();
+
+        //then
+        assertAll(
+            () -> assertThat(couponCounter.getRemaining()).isZero(),
+            () -> assertThat(couponCounter.drainUnreconciled()).isEqualTo(1),
+            () -> assertThat(couponCounter.drainUnreconciled()).isZero()
+        );
+    }
+}
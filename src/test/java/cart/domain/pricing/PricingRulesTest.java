@@ -0,0 +1,70 @@
+package cart.domain.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cart.domain.delivery.AdvacedDeliveryPolicy;
+import cart.domain.discount.AdvancedDiscountPolicy;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PricingRulesTest {
+
+    @DisplayName("구간별 규칙 중 가격 이하의 가장 큰 구간을 적용한다.")
+    @ParameterizedTest(name = "price = {0}, discount = {1}")
+    @CsvSource({"0, 0", "29999, 0", "30000, 3000", "49999, 3000", "50000, 5000", "1000000, 5000"})
+    void discountOf(final long price, final long discount) {
+        //given
+        final PricingRules pricingRules = PricingRules.compile(List.of(
+            new PricingRule(PricingRuleType.DISCOUNT, 50_000L, 5_000L, 0),
+            new PricingRule(PricingRuleType.DISCOUNT, 30_000L, 3_000L, 0)
+        ));
+
+        //when & then
+        assertThat(pricingRules.discountOf(price)).isEqualTo(discount);
+    }
+
+    @DisplayName("기본 규칙은 기존 할인, 배송 정책과 같은 금액을 계산한다.")
+    @ParameterizedTest(name = "price = {0}")
+    @ValueSource(longs = {0L, 25_000L, 49_999L, 50_000L, 99_999L, 100_000L, 123_456L})
+    void defaults(final long price) {
+        //given
+        final PricingRules pricingRules = PricingRules.defaults();
+
+        //when & then
+        assertThat(pricingRules.discountOf(price)).isEqualTo(new AdvancedDiscountPolicy().discountOf(price));
+        assertThat(pricingRules.deliveryFeeOf(price)).isEqualTo(new AdvacedDeliveryPolicy().deliveryFeeOf(price));
+    }
+
+    @DisplayName("같은 구간의 규칙이 중복되면 예외가 발생한다.")
+    @Test
+    void compileDuplicatedTier() {
+        //given
+        final List<PricingRule> rules = List.of(
+            new PricingRule(PricingRuleType.DELIVERY, 0L, 3_000L, 0),
+            new PricingRule(PricingRuleType.DELIVERY, 0L, 2_500L, 0)
+        );
+
+        //when & then
+        assertThatThrownBy(() -> PricingRules.compile(rules))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("할인율이 100%를 넘거나 할인 금액이 구간의 최소 금액보다 크면 예외가 발생한다.")
+    @ParameterizedTest(name = "minPrice = {0}, fixedAmount = {1}, rateBasisPoints = {2}")
+    @CsvSource({"0, 0, 10001", "10000, 10001, 0", "10000, 5000, 5001"})
+    void compileInvalidDiscount(final long minPrice, final long fixedAmount, final int rateBasisPoints) {
+        //given
+        final List<PricingRule> rules = List.of(
+            new PricingRule(PricingRuleType.DISCOUNT, minPrice, fixedAmount, rateBasisPoints)
+        );
+
+        //when & then
+        assertThatThrownBy(() -> PricingRules.compile(rules))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package cart.domain.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int MEMBERS = 10_000;
+    private static final int VIRTUAL_NODES = 128;
+
+    @DisplayName("멤버는 샤드에 고르게 나뉜다.")
+    @Test
+    void distributesEvenly() {
+        //given
+        final ConsistentHashRing ring = new ConsistentHashRing(List.of(0, 1, 2, 3), VIRTUAL_NODES);
+
+        //when
+        final int[] counts = new int[4];
+        for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+            counts[ring.shardOf(memberId)]++;
+        }
+
+        //then
+        for (int count : counts) {
+            assertThat(count).isBetween(MEMBERS / 4 * 7 / 10, MEMBERS / 4 * 13 / 10);
+        }
+    }
+
+    @DisplayName("샤드를 추가하면 일부 멤버만 새 샤드로 옮겨진다.")
+    @Test
+    void addingShardMovesOnlyItsShare() {
+        //given
+        final ConsistentHashRing before = new ConsistentHashRing(List.of(0, 1, 2, 3), VIRTUAL_NODES);
+        final ConsistentHashRing after = new ConsistentHashRing(List.of(0, 1, 2, 3, 4), VIRTUAL_NODES);
+
+        //when
+        int moved = 0;
+        boolean movedOnlyToNewShard = true;
+        for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+            final int from = before.shardOf(memberId);
+            final int to = after.shardOf(memberId);
+            if (from != to) {
+                moved++;
+                movedOnlyToNewShard &= to == 4;
+            }
+        }
+
+        //then
+        assertThat(movedOnlyToNewShard).isTrue();
+        assertThat(moved).isBetween(MEMBERS / 10, MEMBERS * 3 / 10);
+    }
+
+    @DisplayName("주문 아이디에서 주문이 생성된 샤드를 알 수 있다.")
+    @Test
+    void orderIdEncodesShard() {
+        final long orderId = ShardedOrderId.of(12_345L, 3);
+
+        assertThat(ShardedOrderId.shardOf(orderId)).isEqualTo(3);
+    }
+}
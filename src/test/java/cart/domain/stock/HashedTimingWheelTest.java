@@ -0,0 +1,63 @@
+package cart.domain.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+    private static final long TICK = 1_000L;
+
+    @DisplayName("만료 시각이 지난 항목만 한 번에 꺼낸다.")
+    @Test
+    void advance() {
+        //given
+        final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(START, TICK, 8);
+        wheel.schedule("first", START + 2 * TICK);
+        wheel.schedule("second", START + 2 * TICK);
+        wheel.schedule("later", START + 5 * TICK);
+
+        //when
+        final List<String> beforeDeadline = wheel.advance(START + TICK);
+        final List<String> atDeadline = wheel.advance(START + 2 * TICK);
+
+        //then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(atDeadline).containsExactlyInAnyOrder("first", "second");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @DisplayName("휠 크기보다 먼 만료 시각은 바퀴 수를 세어 만료시킨다.")
+    @Test
+    void advanceMultipleRounds() {
+        //given
+        final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(START, TICK, 4);
+        wheel.schedule("far", START + 10 * TICK);
+
+        //when
+        final List<String> early = wheel.advance(START + 9 * TICK);
+        final List<String> onTime = wheel.advance(START + 10 * TICK);
+
+        //then
+        assertThat(early).isEmpty();
+        assertThat(onTime).containsExactly("far");
+    }
+
+    @DisplayName("취소한 항목은 만료되지 않는다.")
+    @Test
+    void cancel() {
+        //given
+        final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(START, TICK, 8);
+        final HashedTimingWheel.Timeout<String> timeout = wheel.schedule("cancelled", START + TICK);
+
+        //when
+        timeout.cancel();
+
+        //then
+        assertThat(wheel.advance(START + 3 * TICK)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,234 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.config.DecoderConfig.decoderConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.dao.MemberDao;
+import cart.domain.Member;
+import cart.dto.request.CartItemRequest;
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.OrderRequest;
+import cart.dto.request.ProductRequest;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+public class AdminOrderExportIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private MemberDao memberDao;
+    private Member member1;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+
+        member1 = memberDao.getMemberById(1L).get();
+        productId = createProduct(new ProductRequest("치킨, 양념\r반반", 10_000, "http://example.com/chicken.jpg"));
+    }
+
+    @DisplayName("주문을 CSV로 내보내면 구분자나 줄바꿈이 포함된 값은 따옴표로 감싼다.")
+    @Test
+    public void exportCsv() {
+        //given
+        final Long orderId = createOrder(LocalDateTime.of(2023, 4, 4, 4, 4));
+
+        //when
+        final ExtractableResponse<Response> response = requestExport("2023-04-04", "2023-04-04", "csv", false);
+
+        //then
+        final String[] lines = asUtf8String(response).split("\n");
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+            () -> assertThat(response.contentType()).startsWith("text/csv"),
+            () -> assertThat(lines).hasSize(2),
+            () -> assertThat(lines[0]).startsWith("order_id,member_id,order_time"),
+            () -> assertThat(lines[1]).startsWith(orderId + "," + member1.getId() + ",2023-04-04T04:04,"),
+            () -> assertThat(lines[1]).contains(",\"치킨, 양념\r반반\",10000,1,")
+        );
+    }
+
+    @DisplayName("주문을 NDJSON으로 내보내면 주문마다 한 줄씩 쓴다.")
+    @Test
+    public void exportNdjson() {
+        //given
+        final Long orderId = createOrder(LocalDateTime.of(2023, 4, 4, 4, 4));
+        createOrder(LocalDateTime.of(2023, 4, 5, 4, 4));
+
+        //when
+        final ExtractableResponse<Response> response = requestExport("2023-04-04", "2023-04-05", "ndjson", false);
+
+        //then
+        final String[] lines = asUtf8String(response).split("\n");
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+            () -> assertThat(lines).hasSize(2),
+            () -> assertThat(lines[0]).startsWith("{\"orderId\":" + orderId + ",")
+        );
+    }
+
+    @DisplayName("gzip으로 내보낸 응답은 압축을 풀면 원본과 같다.")
+    @Test
+    public void exportGzip() throws IOException {
+        //given
+        createOrder(LocalDateTime.of(2023, 4, 4, 4, 4));
+        final String plain = asUtf8String(requestExport("2023-04-04", "2023-04-04", "ndjson", false));
+
+        //when
+        final ExtractableResponse<Response> response = given()
+            .config(RestAssured.config().decoderConfig(decoderConfig().noContentDecoders()))
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .queryParam("from", "2023-04-04")
+            .queryParam("to", "2023-04-04")
+            .queryParam("gzip", true)
+            .when()
+            .get("/admin/orders/export")
+            .then()
+            .extract();
+
+        //then
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(
+            new ByteArrayInputStream(response.asByteArray()))) {
+            final String decompressed = new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertAll(
+                () -> assertThat(response.header("Content-Encoding")).isEqualTo("gzip"),
+                () -> assertThat(decompressed).isEqualTo(plain)
+            );
+        }
+    }
+
+    @DisplayName("조회 기간은 시작일 0시부터 종료일 자정 전까지의 주문을 포함한다.")
+    @Test
+    public void exportWithinDateRange() {
+        //given
+        createOrder(LocalDateTime.of(2023, 4, 3, 23, 59, 59));
+        final Long startOfDay = createOrder(LocalDateTime.of(2023, 4, 4, 0, 0));
+        final Long endOfDay = createOrder(LocalDateTime.of(2023, 4, 4, 23, 59, 59));
+        createOrder(LocalDateTime.of(2023, 4, 5, 0, 0));
+
+        //when
+        final String body = asUtf8String(requestExport("2023-04-04", "2023-04-04", "ndjson", false));
+
+        //then
+        final String[] lines = body.split("\n");
+        assertAll(
+            () -> assertThat(lines).hasSize(2),
+            () -> assertThat(lines[0]).startsWith("{\"orderId\":" + startOfDay + ","),
+            () -> assertThat(lines[1]).startsWith("{\"orderId\":" + endOfDay + ",")
+        );
+    }
+
+    @DisplayName("지원하지 않는 형식이나 잘못된 조회 기간으로 내보내면 400을 응답한다.")
+    @Test
+    public void rejectInvalidExportRequest() {
+        //when
+        final int unknownFormat = requestExport("2023-04-04", "2023-04-04", "xml", false).statusCode();
+        final int reversedRange = requestExport("2023-04-05", "2023-04-04", "csv", false).statusCode();
+        final int malformedDate = requestExport("2023-04-31", "2023-05-01", "csv", false).statusCode();
+
+        //then
+        assertAll(
+            () -> assertThat(unknownFormat).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+            () -> assertThat(reversedRange).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+            () -> assertThat(malformedDate).isEqualTo(HttpStatus.BAD_REQUEST.value())
+        );
+    }
+
+    @DisplayName("관리자 토큰 없이 내보내면 401을 응답한다.")
+    @Test
+    public void rejectWithoutAdminToken() {
+        //when
+        final int withoutToken = given()
+            .queryParam("from", "2023-04-04")
+            .queryParam("to", "2023-04-04")
+            .when()
+            .get("/admin/orders/export")
+            .then()
+            .extract()
+            .statusCode();
+        final int wrongToken = given()
+            .auth().oauth2("wrong-token")
+            .queryParam("from", "2023-04-04")
+            .queryParam("to", "2023-04-04")
+            .when()
+            .get("/admin/orders/export")
+            .then()
+            .extract()
+            .statusCode();
+
+        //then
+        assertAll(
+            () -> assertThat(withoutToken).isEqualTo(HttpStatus.UNAUTHORIZED.value()),
+            () -> assertThat(wrongToken).isEqualTo(HttpStatus.UNAUTHORIZED.value())
+        );
+    }
+
+    private ExtractableResponse<Response> requestExport(final String from, final String to, final String format,
+        final boolean gzip) {
+        return given().log().all()
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .queryParam("from", from)
+            .queryParam("to", to)
+            .queryParam("format", format)
+            .queryParam("gzip", gzip)
+            .when()
+            .get("/admin/orders/export")
+            .then().log().all()
+            .extract();
+    }
+
+    private String asUtf8String(final ExtractableResponse<Response> response) {
+        return new String(response.asByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private Long createProduct(final ProductRequest productRequest) {
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(productRequest)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract();
+
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private Long createOrder(final LocalDateTime orderTime) {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .body(new CartItemRequest(productId))
+            .when()
+            .post("/cart-items")
+            .then()
+            .statusCode(HttpStatus.CREATED.value());
+
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .body(new OrderRequest(List.of(new OrderItemRequest(productId, 1)), orderTime))
+            .when()
+            .post("/orders")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract();
+
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+}
@@ -0,0 +1,65 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.domain.pricing.PricingRuleBook;
+import cart.domain.pricing.PricingRules;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "pricing.rules.enabled=true")
+public class AdminPricingRuleIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private PricingRuleBook pricingRuleBook;
+
+    @DynamicPropertySource
+    static void pricingRulesFile(final DynamicPropertyRegistry registry) throws IOException {
+        final Path file = Files.createTempFile("pricing-rules", ".csv");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "# type,minPrice,fixedAmount,rateBasisPoints\nDISCOUNT,0,5000,0\n");
+        registry.add("pricing.rules.file", file::toString);
+    }
+
+    @DisplayName("잘못된 가격 규칙이 있어도 서버는 기본 규칙으로 시작한다.")
+    @Test
+    public void startWithDefaultsWhenRulesAreInvalid() {
+        //when
+        final PricingRules current = pricingRuleBook.current();
+
+        //then
+        assertThat(current).isSameAs(PricingRules.defaults());
+    }
+
+    @DisplayName("잘못된 가격 규칙을 다시 불러오면 400을 응답하고 기존 규칙을 유지한다.")
+    @Test
+    public void keepCurrentRulesWhenReloadFails() {
+        //given
+        final PricingRules before = pricingRuleBook.current();
+
+        //when
+        final int statusCode = given()
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .when()
+            .post("/admin/pricing-rules/reload")
+            .then()
+            .extract()
+            .statusCode();
+
+        //then
+        assertAll(
+            () -> assertThat(statusCode).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+            () -> assertThat(pricingRuleBook.current()).isSameAs(before)
+        );
+    }
+}
@@ -53,6 +53,17 @@ public class CartItemIntegrationTest extends IntegrationTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
     }
 
+    @DisplayName("장바구니에 추가한 아이템은 회원 정보 없이 응답한다.")
+    @Test
+    void addCartItemResponse() {
+        CartItemRequest cartItemRequest = new CartItemRequest(productId);
+        ExtractableResponse<Response> response = requestAddCartItem(member, cartItemRequest);
+
+        assertThat(response.jsonPath().getMap(".")).containsOnlyKeys("id", "quantity", "product");
+        assertThat(response.jsonPath().getLong("id")).isEqualTo(getIdFromCreatedResponse(response));
+        assertThat(response.jsonPath().getLong("product.id")).isEqualTo(productId);
+    }
+
     @DisplayName("잘못된 사용자 정보로 장바구니에 아이템을 추가 요청시 실패한다.")
     @Test
     void addCartItemByIllegalMember() {
@@ -7,8 +7,14 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.annotation.DirtiesContext;
 
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "admin.api-token=" + IntegrationTest.ADMIN_API_TOKEN
+)
 public class IntegrationTest {
+
+    protected static final String ADMIN_API_TOKEN = "test-admin-token";
+
     @LocalServerPort
     private int port;
 
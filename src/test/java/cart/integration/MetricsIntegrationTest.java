@@ -0,0 +1,39 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.http.HttpStatus;
+
+@AutoConfigureMetrics
+public class MetricsIntegrationTest extends IntegrationTest {
+
+    @DisplayName("API와 DAO 호출 지연 시간이 Prometheus 형식으로 노출된다.")
+    @Test
+    public void exposePrometheusMetrics() {
+        //given
+        given()
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        //when
+        final String metrics = given()
+            .when()
+            .get("/actuator/prometheus")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .asString();
+
+        //then
+        assertThat(metrics)
+            .contains("http_server_requests_seconds_bucket")
+            .contains("cart_dao_seconds_bucket{dao=\"ProductDao\",method=\"getAllProducts\"")
+            .contains("hikaricp_connections_active");
+    }
+}
@@ -0,0 +1,115 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.dao.MemberDao;
+import cart.domain.Member;
+import cart.dto.request.CartItemRequest;
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.OrderRequest;
+import cart.dto.request.ProductRequest;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"order.events.sync-types=PLACED", "order.events.read-delay=PT0S"})
+public class OrderEventIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private MemberDao memberDao;
+    private Member member1;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+
+        member1 = memberDao.getMemberById(1L).get();
+        productId = createProduct(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+    }
+
+    @DisplayName("SYNC로 설정한 이벤트는 주문 응답 전에 주문 트랜잭션 안에서 기록된다.")
+    @Test
+    public void appendPlacedEventInCheckoutTransaction() {
+        //given
+        final Long orderId = createOrder();
+
+        //when
+        final JsonPath events = given()
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .when()
+            .get("/order-events?after=0&size=10")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .jsonPath();
+
+        //then
+        assertAll(
+            () -> assertThat(events.getList("orderId", Long.class)).containsExactly(orderId),
+            () -> assertThat(events.getList("type", String.class)).containsExactly("PLACED")
+        );
+    }
+
+    @DisplayName("관리자 토큰 없이 주문 이벤트를 조회하면 401을 응답한다.")
+    @Test
+    public void rejectWithoutAdminToken() {
+        //when
+        final int statusCode = given()
+            .when()
+            .get("/order-events?after=0&size=10")
+            .then()
+            .extract()
+            .statusCode();
+
+        //then
+        assertThat(statusCode).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private Long createProduct(final ProductRequest productRequest) {
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(productRequest)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract();
+
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private Long createOrder() {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .body(new CartItemRequest(productId))
+            .when()
+            .post("/cart-items")
+            .then()
+            .statusCode(HttpStatus.CREATED.value());
+
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .body(new OrderRequest(List.of(new OrderItemRequest(productId, 1)), LocalDateTime.of(2023, 4, 4, 4, 4)))
+            .when()
+            .post("/orders")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract();
+
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+}
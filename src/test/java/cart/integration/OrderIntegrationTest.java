@@ -4,14 +4,18 @@ import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import cart.application.MemberOrderStatsService;
 import cart.dao.MemberDao;
 import cart.domain.Member;
 import cart.dto.request.CartItemRequest;
+import cart.dto.request.CouponRequest;
 import cart.dto.request.OrderItemRequest;
 import cart.dto.request.OrderRequest;
 import cart.dto.request.ProductRequest;
 import cart.dto.response.OrderResponse;
 import cart.dto.response.OrdersResponse;
+import cart.dto.response.QueuedOrderResponse;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import java.time.LocalDateTime;
@@ -22,11 +26,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 public class OrderIntegrationTest extends IntegrationTest {
 
     @Autowired
     private MemberDao memberDao;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MemberOrderStatsService memberOrderStatsService;
     private Long productId;
     private Long productId2;
     private Long productId3;
@@ -85,6 +94,123 @@ public class OrderIntegrationTest extends IntegrationTest {
         );
     }
 
+    @DisplayName("비동기 주문 요청은 접수 후 처리 상태를 조회할 수 있다.")
+    @Test
+    public void enqueueOrder() throws InterruptedException {
+        //given
+        createCartItem(member1, new CartItemRequest(productId));
+        createCartItem(member1, new CartItemRequest(productId2));
+
+        //when
+        final ExtractableResponse<Response> response = given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .header("Prefer", "respond-async")
+            .body(orderRequest1)
+            .when()
+            .post("/orders")
+            .then().log().all()
+            .extract();
+
+        final QueuedOrderResponse queuedOrderResponse = awaitQueuedOrder(response.header("Location"));
+
+        //then
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.ACCEPTED.value()),
+            () -> assertThat(queuedOrderResponse.getStatus()).isEqualTo("COMPLETED"),
+            () -> assertThat(queuedOrderResponse.getOrderId()).isNotNull()
+        );
+    }
+
+    @DisplayName("처리되지 않은 비동기 주문 요청은 주문 ID 없이 조회된다.")
+    @Test
+    public void findPendingQueuedOrder() {
+        //given
+        jdbcTemplate.update("INSERT INTO order_request_queue (member_id, payload, status, created_at) "
+            + "VALUES (?, '{}', 'PENDING', ?)", member1.getId(), LocalDateTime.now());
+        final Long requestId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM order_request_queue", Long.class);
+
+        //when
+        final QueuedOrderResponse queuedOrderResponse = requestQueuedOrder("/orders/requests/" + requestId);
+
+        //then
+        assertAll(
+            () -> assertThat(queuedOrderResponse.getStatus()).isEqualTo("PENDING"),
+            () -> assertThat(queuedOrderResponse.getOrderId()).isNull()
+        );
+    }
+
+    @DisplayName("비동기 주문 대기열 통계는 관리자 토큰이 있어야 조회할 수 있다.")
+    @Test
+    public void findOrderQueueStatsAsAdmin() {
+        //when
+        final int withoutToken = given()
+            .when()
+            .get("/admin/orders/requests/stats")
+            .then()
+            .extract()
+            .statusCode();
+        final int withToken = given()
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .when()
+            .get("/admin/orders/requests/stats")
+            .then()
+            .extract()
+            .statusCode();
+
+        //then
+        assertAll(
+            () -> assertThat(withoutToken).isEqualTo(HttpStatus.UNAUTHORIZED.value()),
+            () -> assertThat(withToken).isEqualTo(HttpStatus.OK.value())
+        );
+    }
+
+    @DisplayName("같은 Idempotency-Key로 재시도한 주문은 한 번만 저장된다.")
+    @Test
+    public void saveOrderWithIdempotencyKey() {
+        //given
+        createCartItem(member1, new CartItemRequest(productId));
+        createCartItem(member1, new CartItemRequest(productId2));
+
+        //when
+        final ExtractableResponse<Response> first = requestOrderWithIdempotencyKey("order-key-1");
+        final ExtractableResponse<Response> retry = requestOrderWithIdempotencyKey("order-key-1");
+
+        final OrdersResponse ordersResponse = given()
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .when()
+            .get("/orders")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(OrdersResponse.class);
+
+        //then
+        assertAll(
+            () -> assertThat(first.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+            () -> assertThat(retry.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+            () -> assertThat(retry.header("Location")).isEqualTo(first.header("Location")),
+            () -> assertThat(ordersResponse.getOrders()).hasSize(1)
+        );
+    }
+
+    @DisplayName("같은 Idempotency-Key로 다른 주문 요청을 보내면 422를 응답한다.")
+    @Test
+    public void rejectReusedIdempotencyKey() {
+        //given
+        createCartItem(member1, new CartItemRequest(productId));
+        createCartItem(member1, new CartItemRequest(productId2));
+        createCartItem(member1, new CartItemRequest(productId3));
+        requestOrderWithIdempotencyKey("order-key-2", orderRequest1);
+
+        //when
+        final ExtractableResponse<Response> response = requestOrderWithIdempotencyKey("order-key-2",
+            orderRequest2);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+    }
+
     @DisplayName("주문내역의 ID를 통해 단일 주문내역을 조회한다.")
     @Test
     public void findOrderById() {
@@ -113,6 +239,32 @@ public class OrderIntegrationTest extends IntegrationTest {
         );
     }
 
+    @DisplayName("저장된 주문 스냅샷이 없으면 주문내역을 다시 조합해 조회한다.")
+    @Test
+    public void findOrderByIdWithoutSnapshot() {
+        //given
+        final Long orderId = createOrder(member1, orderRequest1);
+        jdbcTemplate.update("DELETE FROM order_snapshot WHERE order_id = ?", orderId);
+
+        //when
+        final ExtractableResponse<Response> response = given().log().all()
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .when()
+            .get("/orders/{orderId}", orderId)
+            .then().log().all()
+            .statusCode(HttpStatus.OK.value())
+            .extract();
+
+        final OrderResponse orderResponse = response.body().as(OrderResponse.class);
+
+        //then
+        assertAll(
+            () -> assertThat(orderResponse.getOrderId()).isEqualTo(orderId),
+            () -> assertThat(orderResponse.getItems()).hasSize(2),
+            () -> assertThat(orderResponse.getTotalPrice()).isEqualTo(28_000)
+        );
+    }
+
     @DisplayName("멤버의 전체 주문내역을 조회한다.")
     @Test
     public void findOrders() {
@@ -149,6 +301,141 @@ public class OrderIntegrationTest extends IntegrationTest {
         );
     }
 
+    @DisplayName("쿠폰 할인은 주문 금액에 반영되고 멤버별 사용 한도를 넘으면 주문할 수 없다.")
+    @Test
+    public void saveOrderWithCoupon() {
+        //given
+        final Long couponId = createCoupon(new CouponRequest("첫 주문 할인", 2_000L, 20_000L, 1000, 1));
+        final OrderRequest couponOrderRequest = new OrderRequest(orderRequest1.getOrderItems(),
+            orderRequest1.getOrderTime(), null, couponId);
+        createCartItem(member1, new CartItemRequest(productId));
+        createCartItem(member1, new CartItemRequest(productId2));
+
+        //when
+        final ExtractableResponse<Response> first = requestOrder(couponOrderRequest);
+        createCartItem(member1, new CartItemRequest(productId));
+        createCartItem(member1, new CartItemRequest(productId2));
+        final ExtractableResponse<Response> second = requestOrder(couponOrderRequest);
+
+        final OrderResponse orderResponse = first.body().as(OrderResponse.class);
+
+        //then
+        assertAll(
+            () -> assertThat(first.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+            () -> assertThat(orderResponse.getDiscountPrice()).isEqualTo(2_000),
+            () -> assertThat(orderResponse.getTotalPrice()).isEqualTo(26_000),
+            () -> assertThat(second.statusCode()).isEqualTo(HttpStatus.CONFLICT.value())
+        );
+    }
+
+    @DisplayName("쿠폰으로 할인받은 주문은 조회할 때도 저장된 할인 금액으로 응답한다.")
+    @Test
+    public void findOrderWithCoupon() {
+        //given
+        final Long couponId = createCoupon(new CouponRequest("첫 주문 할인", 2_000L, 20_000L, 1000, 1));
+        createCartItem(member1, new CartItemRequest(productId));
+        createCartItem(member1, new CartItemRequest(productId2));
+        final long orderId = getIdFromCreatedResponse(requestOrder(new OrderRequest(orderRequest1.getOrderItems(),
+            orderRequest1.getOrderTime(), null, couponId)));
+        jdbcTemplate.update("DELETE FROM order_snapshot WHERE order_id = ?", orderId);
+
+        //when
+        final OrderResponse orderResponse = given().log().all()
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .when()
+            .get("/orders/{orderId}", orderId)
+            .then().log().all()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(OrderResponse.class);
+        final OrdersResponse ordersResponse = given().log().all()
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .when()
+            .get("/orders")
+            .then().log().all()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(OrdersResponse.class);
+
+        //then
+        assertAll(
+            () -> assertThat(orderResponse.getDiscountPrice()).isEqualTo(2_000),
+            () -> assertThat(orderResponse.getTotalPrice()).isEqualTo(26_000),
+            () -> assertThat(ordersResponse.getOrders()).hasSize(1),
+            () -> assertThat(ordersResponse.getOrders().get(0).getDiscountPrice()).isEqualTo(2_000),
+            () -> assertThat(ordersResponse.getOrders().get(0).getTotalPrice()).isEqualTo(26_000)
+        );
+    }
+
+    @DisplayName("주문이 저장될 때마다 멤버의 주문 통계가 누적된다.")
+    @Test
+    public void incrementStatsOnCheckout() {
+        //given
+        createOrder(member1, orderRequest1);
+        createOrder(member1, orderRequest2);
+
+        //when
+        final JsonPath stats = requestStats(member1);
+
+        //then
+        assertAll(
+            () -> assertThat(stats.getLong("orderCount")).isEqualTo(2L),
+            () -> assertThat(stats.getLong("totalSpend")).isEqualTo(28_000L + 38_000L),
+            () -> assertThat(stats.getString("lastOrderedAt")).isNotNull()
+        );
+    }
+
+    @DisplayName("주문 통계를 재계산하면 주문 테이블의 집계와 일치한다.")
+    @Test
+    public void rebuildStatsFromOrders() {
+        //given
+        createOrder(member1, orderRequest1);
+        createOrder(member1, orderRequest2);
+        jdbcTemplate.update("UPDATE member_order_stats SET order_count = 99, total_spend = 0");
+
+        //when
+        memberOrderStatsService.rebuild();
+
+        //then
+        final JsonPath stats = requestStats(member1);
+        final Long orderCount = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM orders WHERE member_id = ?", Long.class, member1.getId());
+        final Long totalSpend = jdbcTemplate.queryForObject(
+            "SELECT SUM(total_price) FROM orders WHERE member_id = ?", Long.class, member1.getId());
+        assertAll(
+            () -> assertThat(stats.getLong("orderCount")).isEqualTo(orderCount),
+            () -> assertThat(stats.getLong("totalSpend")).isEqualTo(totalSpend)
+        );
+    }
+
+    @DisplayName("주문한 적 없는 멤버의 주문 통계는 비어 있다.")
+    @Test
+    public void emptyStatsWithoutOrders() {
+        //given
+        final Member member2 = memberDao.getMemberById(2L).get();
+
+        //when
+        final JsonPath stats = requestStats(member2);
+
+        //then
+        assertAll(
+            () -> assertThat(stats.getLong("orderCount")).isZero(),
+            () -> assertThat(stats.getLong("totalSpend")).isZero(),
+            () -> assertThat(stats.getString("lastOrderedAt")).isNull()
+        );
+    }
+
+    private JsonPath requestStats(final Member member) {
+        return given().log().all()
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .when()
+            .get("/orders/stats")
+            .then().log().all()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .jsonPath();
+    }
+
     private Long createProduct(ProductRequest productRequest) {
         ExtractableResponse<Response> response = given()
             .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -176,10 +463,78 @@ public class OrderIntegrationTest extends IntegrationTest {
         return getIdFromCreatedResponse(response);
     }
 
+    private Long createCoupon(final CouponRequest couponRequest) {
+        final String location = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .body(couponRequest)
+            .when()
+            .post("/admin/coupons")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract()
+            .header("Location");
+
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+
+    private ExtractableResponse<Response> requestOrder(final OrderRequest orderRequest) {
+        return given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .body(orderRequest)
+            .when()
+            .post("/orders")
+            .then().log().all()
+            .extract();
+    }
+
     private long getIdFromCreatedResponse(ExtractableResponse<Response> response) {
         return Long.parseLong(response.header("Location").split("/")[2]);
     }
 
+    private ExtractableResponse<Response> requestOrderWithIdempotencyKey(final String idempotencyKey) {
+        return requestOrderWithIdempotencyKey(idempotencyKey, orderRequest1);
+    }
+
+    private ExtractableResponse<Response> requestOrderWithIdempotencyKey(final String idempotencyKey,
+        final OrderRequest orderRequest) {
+        return given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .header("Idempotency-Key", idempotencyKey)
+            .body(orderRequest)
+            .when()
+            .post("/orders")
+            .then().log().all()
+            .extract();
+    }
+
+    private QueuedOrderResponse awaitQueuedOrder(final String location) throws InterruptedException {
+        QueuedOrderResponse queuedOrderResponse = requestQueuedOrder(location);
+        for (int attempt = 0; attempt < 50 && isInProgress(queuedOrderResponse); attempt++) {
+            Thread.sleep(100L);
+            queuedOrderResponse = requestQueuedOrder(location);
+        }
+        return queuedOrderResponse;
+    }
+
+    private boolean isInProgress(final QueuedOrderResponse queuedOrderResponse) {
+        return "PENDING".equals(queuedOrderResponse.getStatus())
+            || "PROCESSING".equals(queuedOrderResponse.getStatus());
+    }
+
+    private QueuedOrderResponse requestQueuedOrder(final String location) {
+        return given()
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .when()
+            .get(location)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(QueuedOrderResponse.class);
+    }
+
     public Long createOrder(Member member, OrderRequest orderRequest) {
         orderRequest.getOrderItems()
             .stream()
@@ -4,6 +4,7 @@ import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import cart.dto.request.ProductRequest;
+import cart.dto.request.ProductStockRequest;
 import cart.dto.response.ProductResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -67,4 +68,27 @@ public class ProductIntegrationTest extends IntegrationTest {
         assertThat(responseProduct.getName()).isEqualTo("피자");
         assertThat(responseProduct.getPrice()).isEqualTo(15_000);
     }
+
+    @Test
+    public void rejectNegativeStock() {
+        var product = new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg");
+        var location = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(product)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract().header("Location");
+
+        var response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(new ProductStockRequest(-1, 1))
+            .when()
+            .put(location + "/stock")
+            .then()
+            .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
 }
@@ -0,0 +1,100 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.ProductRequest;
+import cart.dto.request.QuoteBasketRequest;
+import cart.dto.request.QuoteRequest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+public class QuoteIntegrationTest extends IntegrationTest {
+
+    private Long chickenId;
+    private Long saladId;
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+
+        chickenId = createProduct(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+        saladId = createProduct(new ProductRequest("셀러드", 20_000, "http://example.com/salad.jpg"));
+    }
+
+    @DisplayName("여러 장바구니의 예상 결제 금액을 한 번에 계산한다.")
+    @Test
+    public void quoteBaskets() {
+        //given
+        final QuoteRequest quoteRequest = new QuoteRequest(List.of(
+            new QuoteBasketRequest(List.of(new OrderItemRequest(chickenId, 1))),
+            new QuoteBasketRequest(List.of(new OrderItemRequest(chickenId, 1), new OrderItemRequest(saladId, 2))),
+            new QuoteBasketRequest(List.of(new OrderItemRequest(saladId, 5)))
+        ));
+
+        //when
+        final ExtractableResponse<Response> response = given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(quoteRequest)
+            .when()
+            .post("/quotes")
+            .then().log().all()
+            .extract();
+
+        //then
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+            () -> assertThat(response.jsonPath().getList("productPrice", Long.class))
+                .containsExactly(10_000L, 50_000L, 100_000L),
+            () -> assertThat(response.jsonPath().getList("discountPrice", Long.class))
+                .containsExactly(0L, 0L, 10_000L),
+            () -> assertThat(response.jsonPath().getList("deliveryFee", Long.class))
+                .containsExactly(3_000L, 0L, 0L),
+            () -> assertThat(response.jsonPath().getList("totalPrice", Long.class))
+                .containsExactly(13_000L, 50_000L, 90_000L)
+        );
+    }
+
+    @DisplayName("수량이 올바르지 않은 장바구니가 있으면 견적을 내지 않는다.")
+    @Test
+    public void quoteWithInvalidQuantity() {
+        //given
+        final QuoteRequest quoteRequest = new QuoteRequest(List.of(
+            new QuoteBasketRequest(List.of(new OrderItemRequest(chickenId, 0)))
+        ));
+
+        //when
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(quoteRequest)
+            .when()
+            .post("/quotes")
+            .then()
+            .extract();
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private Long createProduct(final ProductRequest productRequest) {
+        final String location = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(productRequest)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract()
+            .header("Location");
+
+        return Long.parseLong(location.split("/")[2]);
+    }
+}
@@ -0,0 +1,134 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cart.config.reactive.ReactiveCatalogServer;
+import cart.dto.request.ProductRequest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactive-catalog;MODE=MySQL",
+    "catalog.reactive.enabled=true",
+    "catalog.reactive.port=0",
+    "catalog.reactive.url=r2dbc:h2:mem:///reactive-catalog;MODE=MySQL"
+})
+public class ReactiveCatalogIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private ReactiveCatalogServer reactiveCatalogServer;
+
+    @DisplayName("리액티브 상품 목록 조회는 MVC 응답과 같은 JSON을 돌려준다.")
+    @Test
+    public void getProductsSameAsMvc() {
+        //given
+        createProduct(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+
+        //when
+        final ExtractableResponse<Response> mvc = given().when().get("/products").then().extract();
+        final ExtractableResponse<Response> reactive = given()
+            .port(reactiveCatalogServer.getPort())
+            .when()
+            .get("/products")
+            .then()
+            .extract();
+
+        //then
+        assertThat(reactive.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(reactive.contentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(reactive.asString()).isEqualTo(mvc.asString());
+    }
+
+    @DisplayName("리액티브 상품 단건 조회는 MVC 응답과 같은 JSON을 돌려준다.")
+    @Test
+    public void getProductSameAsMvc() {
+        //given
+        final String location = createProduct(new ProductRequest("피자", 15_000, "http://example.com/pizza.jpg"));
+
+        //when
+        final ExtractableResponse<Response> mvc = given().when().get(location).then().extract();
+        final ExtractableResponse<Response> reactive = given()
+            .port(reactiveCatalogServer.getPort())
+            .when()
+            .get(location)
+            .then()
+            .extract();
+
+        //then
+        assertThat(reactive.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(reactive.asString()).isEqualTo(mvc.asString());
+    }
+
+    @DisplayName("존재하지 않는 상품은 MVC와 같은 상태 코드로 응답한다.")
+    @Test
+    public void getMissingProduct() {
+        //when
+        final int mvcStatus = given().when().get("/products/" + Long.MAX_VALUE).then().extract().statusCode();
+        final int reactiveStatus = given()
+            .port(reactiveCatalogServer.getPort())
+            .when()
+            .get("/products/" + Long.MAX_VALUE)
+            .then()
+            .extract()
+            .statusCode();
+
+        //then
+        assertThat(reactiveStatus).isEqualTo(mvcStatus);
+    }
+
+    @DisplayName("숫자가 아닌 상품 ID는 MVC와 같이 400으로 응답한다.")
+    @Test
+    public void getProductWithInvalidId() {
+        //when
+        final int mvcStatus = given().when().get("/products/abc").then().extract().statusCode();
+        final int reactiveStatus = given()
+            .port(reactiveCatalogServer.getPort())
+            .when()
+            .get("/products/abc")
+            .then()
+            .extract()
+            .statusCode();
+
+        //then
+        assertThat(mvcStatus).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(reactiveStatus).isEqualTo(mvcStatus);
+    }
+
+    @DisplayName("리액티브 상품 조회도 MVC와 같은 출처에 CORS를 허용한다.")
+    @Test
+    public void allowsStorefrontOrigin() {
+        //when
+        final ExtractableResponse<Response> response = given()
+            .port(reactiveCatalogServer.getPort())
+            .header("Origin", "http://localhost:3000")
+            .header("Access-Control-Request-Method", "GET")
+            .when()
+            .options("/products")
+            .then()
+            .extract();
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header("Access-Control-Allow-Origin")).isEqualTo("http://localhost:3000");
+        assertThat(response.header("Access-Control-Allow-Credentials")).isEqualTo("true");
+    }
+
+    private String createProduct(final ProductRequest productRequest) {
+        return given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(productRequest)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract()
+            .header("Location");
+    }
+}
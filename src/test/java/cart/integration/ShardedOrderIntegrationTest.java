@@ -0,0 +1,341 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.config.shard.OrderShards;
+import cart.dao.MemberDao;
+import cart.dao.ShardOrderDao.MemberOrderRows;
+import cart.domain.Member;
+import cart.domain.delivery.DeliveryPolicy;
+import cart.domain.discount.DiscountPolicy;
+import cart.domain.order.Order;
+import cart.domain.order.OrderItems;
+import cart.domain.order.OrderPrice;
+import cart.domain.respository.order.OrderRepository;
+import cart.domain.shard.ShardedOrderId;
+import cart.dto.request.CartItemRequest;
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.OrderRequest;
+import cart.dto.request.ProductRequest;
+import cart.dto.request.ShardMoveRequest;
+import cart.dto.response.OrderResponse;
+import cart.dto.response.OrdersResponse;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = {
+    "order.sharding.enabled=true",
+    "order.sharding.shards[0].url=jdbc:h2:mem:order-shard-0;MODE=MySQL",
+    "order.sharding.shards[0].username=sa",
+    "order.sharding.shards[1].url=jdbc:h2:mem:order-shard-1;MODE=MySQL",
+    "order.sharding.shards[1].username=sa"
+})
+public class ShardedOrderIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private MemberDao memberDao;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OrderShards orderShards;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DiscountPolicy discountPolicy;
+    @Autowired
+    private DeliveryPolicy deliveryPolicy;
+    private Member member1;
+    private Member member2;
+    private OrderRequest orderRequest;
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+
+        final Long productId = createProduct(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+        final Long productId2 = createProduct(new ProductRequest("피자", 15_000, "http://example.com/pizza.jpg"));
+        member1 = memberDao.getMemberById(1L).get();
+        member2 = memberDao.getMemberById(2L).get();
+        orderRequest = new OrderRequest(
+            List.of(new OrderItemRequest(productId, 1), new OrderItemRequest(productId2, 1)),
+            LocalDateTime.of(2023, 4, 4, 4, 4)
+        );
+    }
+
+    @DisplayName("주문은 멤버에게 배정된 샤드에 저장되고 주문 아이디에 샤드 번호가 담긴다.")
+    @Test
+    public void saveOrderOnMemberShard() {
+        //when
+        final Long orderId1 = createOrder(member1, orderRequest);
+        final Long orderId2 = createOrder(member2, orderRequest);
+
+        //then
+        assertAll(
+            () -> assertThat(ShardedOrderId.shardOf(orderId1)).isEqualTo(assignedShardOf(member1)),
+            () -> assertThat(ShardedOrderId.shardOf(orderId2)).isEqualTo(assignedShardOf(member2)),
+            () -> assertThat(findOrders(member1).getOrders()).extracting(OrderResponse::getOrderId)
+                .containsExactly(orderId1),
+            () -> assertThat(findOrders(member2).getOrders()).extracting(OrderResponse::getOrderId)
+                .containsExactly(orderId2)
+        );
+    }
+
+    @DisplayName("스냅샷이 없으면 주문 아이디의 샤드에서 주문을 조회한다.")
+    @Test
+    public void findOrderByIdOnShard() {
+        //given
+        final Long orderId = createOrder(member1, orderRequest);
+        jdbcTemplate.update("DELETE FROM order_snapshot WHERE order_id = ?", orderId);
+
+        //when
+        final OrderResponse orderResponse = findOrder(member1, orderId);
+
+        //then
+        assertAll(
+            () -> assertThat(orderResponse.getOrderId()).isEqualTo(orderId),
+            () -> assertThat(orderResponse.getItems()).hasSize(2),
+            () -> assertThat(orderResponse.getTotalPrice()).isEqualTo(28_000)
+        );
+    }
+
+    @DisplayName("멤버를 다른 샤드로 옮겨도 주문 아이디와 주문 내역은 그대로 조회된다.")
+    @Test
+    public void moveMemberToOtherShard() {
+        //given
+        final Long orderId = createOrder(member1, orderRequest);
+        jdbcTemplate.update("DELETE FROM order_snapshot WHERE order_id = ?", orderId);
+        final int targetShardNo = 1 - assignedShardOf(member1);
+
+        //when
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .body(new ShardMoveRequest(targetShardNo))
+            .when()
+            .put("/admin/shards/members/{memberId}", member1.getId())
+            .then()
+            .statusCode(HttpStatus.OK.value());
+        final Long nextOrderId = createOrder(member1, orderRequest);
+
+        //then
+        assertAll(
+            () -> assertThat(assignedShardOf(member1)).isEqualTo(targetShardNo),
+            () -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT moving_since FROM member_shard WHERE member_id = ?", LocalDateTime.class, member1.getId()))
+                .isNull(),
+            () -> assertThat(findOrder(member1, orderId).getItems()).hasSize(2),
+            () -> assertThat(ShardedOrderId.shardOf(nextOrderId)).isEqualTo(targetShardNo),
+            () -> assertThat(findOrders(member1).getOrders()).extracting(OrderResponse::getOrderId)
+                .containsExactlyInAnyOrder(orderId, nextOrderId)
+        );
+    }
+
+    @DisplayName("다른 노드가 멤버를 옮겨 샤드 캐시가 낡아도 옮겨 간 샤드에서 주문을 조회한다.")
+    @Test
+    public void findOrdersMovedByOtherNode() {
+        //given
+        final Long orderId = createOrder(member1, orderRequest);
+        jdbcTemplate.update("DELETE FROM order_snapshot WHERE order_id = ?", orderId);
+        final int sourceShardNo = assignedShardOf(member1);
+        final int targetShardNo = 1 - sourceShardNo;
+        final MemberOrderRows rows = orderShards.get(sourceShardNo)
+            .executeInOwnTransaction(dao -> dao.findRowsByMemberId(member1.getId()));
+        orderShards.get(targetShardNo).executeInOwnTransaction(dao -> {
+            dao.insertRows(rows);
+            return null;
+        });
+        jdbcTemplate.update("UPDATE member_shard SET shard_no = ? WHERE member_id = ?", targetShardNo,
+            member1.getId());
+        orderShards.get(sourceShardNo).executeInOwnTransaction(dao -> {
+            dao.deleteByIds(rows.getOrderIds());
+            return null;
+        });
+
+        //when
+        final OrderResponse orderResponse = findOrder(member1, orderId);
+        final OrdersResponse ordersResponse = findOrders(member1);
+
+        //then
+        assertAll(
+            () -> assertThat(orderResponse.getItems()).hasSize(2),
+            () -> assertThat(ordersResponse.getOrders()).extracting(OrderResponse::getOrderId)
+                .containsExactly(orderId)
+        );
+    }
+
+    @DisplayName("샤드가 커밋된 뒤 주 트랜잭션이 롤백되면 샤드에 저장한 주문을 지운다.")
+    @Test
+    public void deleteShardOrderWhenPrimaryRollsBack() {
+        //given
+        final Order order = Order.beforePersisted(member1, new OrderItems(List.of()), LocalDateTime.now());
+        final OrderPrice orderPrice = OrderPrice.of(10_000, discountPolicy, deliveryPolicy);
+        final AtomicLong orderId = new AtomicLong();
+
+        //when
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderId.set(orderRepository.insert(order, orderPrice).getId());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(final boolean readOnly) {
+                    throw new IllegalStateException("주 트랜잭션을 커밋할 수 없습니다.");
+                }
+            });
+        })).isInstanceOf(IllegalStateException.class)
+            .hasMessage("주 트랜잭션을 커밋할 수 없습니다.");
+
+        //then
+        final MemberOrderRows rows = orderShards.get(ShardedOrderId.shardOf(orderId.get()))
+            .executeInOwnTransaction(dao -> dao.findRowsByMemberId(member1.getId()));
+        assertThat(rows.getOrderIds()).doesNotContain(orderId.get());
+    }
+
+    @DisplayName("다른 샤드로 옮기는 중인 멤버의 주문과 이동 요청은 409를 응답한다.")
+    @Test
+    public void rejectWhileMoving() {
+        //given
+        final Long orderId = createOrder(member1, orderRequest);
+        jdbcTemplate.update("UPDATE member_shard SET moving_since = NOW(), version = version + 1 WHERE member_id = ?",
+            member1.getId());
+        orderRequest.getOrderItems()
+            .forEach(orderItem -> given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+                .body(new CartItemRequest(orderItem.getId()))
+                .when()
+                .post("/cart-items"));
+
+        //when
+        final int orderStatusCode = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member1.getEmail(), member1.getPassword())
+            .body(orderRequest)
+            .when()
+            .post("/orders")
+            .then()
+            .extract()
+            .statusCode();
+        final int moveStatusCode = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .body(new ShardMoveRequest(1 - assignedShardOf(member1)))
+            .when()
+            .put("/admin/shards/members/{memberId}", member1.getId())
+            .then()
+            .extract()
+            .statusCode();
+
+        //then
+        assertAll(
+            () -> assertThat(orderStatusCode).isEqualTo(HttpStatus.CONFLICT.value()),
+            () -> assertThat(moveStatusCode).isEqualTo(HttpStatus.CONFLICT.value()),
+            () -> assertThat(findOrders(member1).getOrders()).extracting(OrderResponse::getOrderId)
+                .containsExactly(orderId)
+        );
+    }
+
+    @DisplayName("샤딩을 켜도 주문 내보내기는 모든 샤드의 주문을 내보낸다.")
+    @Test
+    public void exportOrdersFromAllShards() {
+        //given
+        final Long orderId1 = createOrder(member1, orderRequest);
+        final Long orderId2 = createOrder(member2, orderRequest);
+
+        //when
+        final String[] lines = given()
+            .auth().oauth2(ADMIN_API_TOKEN)
+            .when()
+            .get("/admin/orders/export?from=2023-04-04&to=2023-04-04")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .asString()
+            .split("\n");
+
+        //then
+        assertThat(lines).hasSize(2)
+            .anySatisfy(line -> assertThat(line).startsWith("{\"orderId\":" + orderId1 + ","))
+            .anySatisfy(line -> assertThat(line).startsWith("{\"orderId\":" + orderId2 + ","));
+    }
+
+    private int assignedShardOf(final Member member) {
+        return jdbcTemplate.queryForObject("SELECT shard_no FROM member_shard WHERE member_id = ?", Integer.class,
+            member.getId());
+    }
+
+    private OrderResponse findOrder(final Member member, final Long orderId) {
+        return given()
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .when()
+            .get("/orders/{orderId}", orderId)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(OrderResponse.class);
+    }
+
+    private OrdersResponse findOrders(final Member member) {
+        return given()
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .when()
+            .get("/orders")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(OrdersResponse.class);
+    }
+
+    private Long createProduct(final ProductRequest productRequest) {
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(productRequest)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private Long createOrder(final Member member, final OrderRequest orderRequest) {
+        orderRequest.getOrderItems()
+            .forEach(orderItem -> given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .auth().preemptive().basic(member.getEmail(), member.getPassword())
+                .body(new CartItemRequest(orderItem.getId()))
+                .when()
+                .post("/cart-items")
+                .then()
+                .statusCode(HttpStatus.CREATED.value()));
+
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .body(orderRequest)
+            .when()
+            .post("/orders")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract();
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+}
@@ -0,0 +1,96 @@
+package cart.integration;
+
+import static cart.integration.SqlStatementAssertions.assertExecutedOnce;
+import static cart.integration.SqlStatementAssertions.assertStatementCountAtMost;
+import static io.restassured.RestAssured.given;
+
+import cart.application.OrderService;
+import cart.config.profiling.SqlProfile;
+import cart.config.profiling.SqlProfiler;
+import cart.dao.MemberDao;
+import cart.domain.Member;
+import cart.dto.request.CartItemRequest;
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.OrderRequest;
+import cart.dto.request.ProductRequest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "sql.profiler.enabled=true")
+public class SqlProfilingIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private MemberDao memberDao;
+    @Autowired
+    private OrderService orderService;
+
+    @DisplayName("상품 목록 조회는 한 번의 쿼리로 처리되고 Server-Timing 헤더로 DB 시간을 알려준다.")
+    @Test
+    public void getProductsWithServerTiming() {
+        //when
+        final ExtractableResponse<Response> response = given()
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract();
+
+        //then
+        assertStatementCountAtMost(response, 1);
+    }
+
+    @DisplayName("주문 상품 수와 관계없이 상품 조회와 주문 상품 저장은 한 번씩만 실행된다.")
+    @Test
+    public void createOrderWithoutNPlusOne() {
+        //given
+        final Member member = memberDao.getMemberById(1L).orElseThrow();
+        final List<OrderItemRequest> orderItems = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final Long productId = createProduct(new ProductRequest("상품" + i, 1_000, "http://example.com/" + i));
+            createCartItem(member, new CartItemRequest(productId));
+            orderItems.add(new OrderItemRequest(productId, 1));
+        }
+        final OrderRequest orderRequest = new OrderRequest(orderItems, LocalDateTime.now());
+
+        //when
+        final SqlProfile profile = SqlProfiler.profile(() -> orderService.createOrder(member.getId(), orderRequest))
+            .getProfile();
+
+        //then
+        assertExecutedOnce(profile, "SELECT * FROM product WHERE id IN");
+        assertExecutedOnce(profile, "INSERT INTO order_items");
+    }
+
+    private Long createProduct(final ProductRequest productRequest) {
+        final String location = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(productRequest)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract()
+            .header("Location");
+        return Long.parseLong(location.split("/")[2]);
+    }
+
+    private void createCartItem(final Member member, final CartItemRequest cartItemRequest) {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .body(cartItemRequest)
+            .when()
+            .post("/cart-items")
+            .then()
+            .statusCode(HttpStatus.CREATED.value());
+    }
+}
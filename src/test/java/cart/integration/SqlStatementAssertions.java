@@ -0,0 +1,36 @@
+package cart.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cart.config.profiling.SqlProfile;
+import cart.config.profiling.SqlProfile.ShapeStats;
+import cart.config.profiling.SqlProfilingFilter;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class SqlStatementAssertions {
+
+    private static final Pattern STATEMENT_COUNT = Pattern.compile("desc=\"(\\d+) statements\"");
+
+    private SqlStatementAssertions() {
+    }
+
+    public static void assertStatementCountAtMost(final ExtractableResponse<Response> response, final int max) {
+        final String serverTiming = response.header(SqlProfilingFilter.SERVER_TIMING_HEADER);
+        assertThat(serverTiming).as("Server-Timing 헤더").isNotNull();
+
+        final Matcher matcher = STATEMENT_COUNT.matcher(serverTiming);
+        assertThat(matcher.find()).as("Server-Timing 헤더의 쿼리 수: %s", serverTiming).isTrue();
+        assertThat(Integer.parseInt(matcher.group(1))).as("실행된 쿼리 수").isLessThanOrEqualTo(max);
+    }
+
+    public static void assertExecutedOnce(final SqlProfile profile, final String shapePrefix) {
+        assertThat(profile.getShapes())
+            .filteredOn(shape -> shape.getShape().startsWith(shapePrefix))
+            .extracting(ShapeStats::getCount)
+            .as("'%s' 쿼리 실행 횟수", shapePrefix)
+            .containsExactly(1);
+    }
+}
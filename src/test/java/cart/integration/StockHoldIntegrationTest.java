@@ -0,0 +1,285 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import cart.application.ProductStockService;
+import cart.application.StockHoldService;
+import cart.dao.MemberDao;
+import cart.domain.Member;
+import cart.dto.request.CartItemRequest;
+import cart.dto.request.OrderItemRequest;
+import cart.dto.request.OrderRequest;
+import cart.dto.request.ProductRequest;
+import cart.dto.request.ProductStockRequest;
+import cart.dto.request.StockHoldRequest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class StockHoldIntegrationTest extends IntegrationTest {
+
+    private static final int STOCK = 10;
+
+    @Autowired
+    private MemberDao memberDao;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StockHoldService stockHoldService;
+    @Autowired
+    private ProductStockService productStockService;
+    private Member member1;
+    private Member member2;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+
+        member1 = memberDao.getMemberById(1L).get();
+        member2 = memberDao.getMemberById(2L).get();
+        productId = createProduct(new ProductRequest("한정판", 10_000, "http://example.com/limited.jpg"));
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(new ProductStockRequest(STOCK, 1))
+            .when()
+            .put("/products/{id}/stock", productId)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+    @DisplayName("주문할 때 재고 선점을 사용하면 선점한 재고로 주문하고 선점 정보를 삭제한다.")
+    @Test
+    public void consumeHoldAtCheckout() {
+        //given
+        createCartItem(member1);
+        final String holdId = hold(member1);
+
+        //when
+        final ExtractableResponse<Response> response = requestOrder(member1, holdId);
+
+        //then
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+            () -> assertThat(getStock()).isEqualTo(STOCK - 1),
+            () -> assertThat(countStockHolds()).isZero(),
+            () -> assertThat(release(member1, holdId)).isEqualTo(HttpStatus.NOT_FOUND.value())
+        );
+    }
+
+    @DisplayName("만료된 재고 선점은 선점한 재고를 되돌린다.")
+    @Test
+    public void releaseExpiredHold() throws InterruptedException {
+        //given
+        final String holdId = insertStockHold(member1, LocalDateTime.now().plusSeconds(1));
+        stockHoldService.recover();
+
+        //when
+        final int stock = awaitStock(STOCK);
+
+        //then
+        assertAll(
+            () -> assertThat(stock).isEqualTo(STOCK),
+            () -> assertThat(countStockHolds()).isZero(),
+            () -> assertThat(release(member1, holdId)).isEqualTo(HttpStatus.NOT_FOUND.value())
+        );
+    }
+
+    @DisplayName("재고를 다시 설정한 뒤 재고 선점이 만료되어도 메모리 재고가 DB 재고와 같다.")
+    @Test
+    public void keepLedgerAfterSetStock() throws InterruptedException {
+        //given
+        insertStockHold(member1, LocalDateTime.now().plusSeconds(1));
+        stockHoldService.recover();
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(new ProductStockRequest(STOCK, 1))
+            .when()
+            .put("/products/{id}/stock", productId)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+        final int ledgerAfterSetStock = getLedger();
+
+        //when
+        final int stock = awaitStock(STOCK + 1);
+
+        //then
+        assertAll(
+            () -> assertThat(ledgerAfterSetStock).isEqualTo(STOCK),
+            () -> assertThat(stock).isEqualTo(STOCK + 1),
+            () -> assertThat(getLedger()).isEqualTo(stock)
+        );
+    }
+
+    @DisplayName("재고 차감에 실패한 뒤 재고 선점이 만료되어도 메모리 재고가 DB 재고와 같다.")
+    @Test
+    public void keepLedgerAfterFailedDecrease() throws InterruptedException {
+        //given
+        createCartItem(member2);
+        insertStockHold(member1, LocalDateTime.now().plusSeconds(1));
+        stockHoldService.recover();
+        jdbcTemplate.update("UPDATE product_stock SET quantity = 0 WHERE product_id = ?", productId);
+        final ExtractableResponse<Response> order = requestOrder(member2, null);
+        final int ledgerAfterFailure = getLedger();
+
+        //when
+        final int stock = awaitStock(1);
+
+        //then
+        assertAll(
+            () -> assertThat(order.statusCode()).isEqualTo(HttpStatus.CONFLICT.value()),
+            () -> assertThat(ledgerAfterFailure).isZero(),
+            () -> assertThat(stock).isEqualTo(1),
+            () -> assertThat(getLedger()).isEqualTo(stock)
+        );
+    }
+
+    @DisplayName("서버가 시작될 때 저장된 재고 선점을 복구해 주문에 사용할 수 있다.")
+    @Test
+    public void recoverHoldAtStartup() {
+        //given
+        createCartItem(member1);
+        final String holdId = insertStockHold(member1, LocalDateTime.now().plusMinutes(5));
+
+        //when
+        stockHoldService.recover();
+        final ExtractableResponse<Response> response = requestOrder(member1, holdId);
+
+        //then
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+            () -> assertThat(getStock()).isEqualTo(STOCK - 1),
+            () -> assertThat(countStockHolds()).isZero()
+        );
+    }
+
+    @DisplayName("다른 멤버의 재고 선점은 사용하거나 해제할 수 없다.")
+    @Test
+    public void rejectHoldOfAnotherMember() {
+        //given
+        createCartItem(member1);
+        createCartItem(member2);
+        final String holdId = hold(member1);
+
+        //when
+        final ExtractableResponse<Response> order = requestOrder(member2, holdId);
+        final int releasedByOther = release(member2, holdId);
+
+        //then
+        assertAll(
+            () -> assertThat(order.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value()),
+            () -> assertThat(releasedByOther).isEqualTo(HttpStatus.NOT_FOUND.value()),
+            () -> assertThat(release(member1, holdId)).isEqualTo(HttpStatus.NO_CONTENT.value())
+        );
+    }
+
+    private Long createProduct(final ProductRequest productRequest) {
+        final ExtractableResponse<Response> response = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(productRequest)
+            .when()
+            .post("/products")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract();
+
+        return Long.parseLong(response.header("Location").split("/")[2]);
+    }
+
+    private void createCartItem(final Member member) {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .body(new CartItemRequest(productId))
+            .when()
+            .post("/cart-items")
+            .then()
+            .statusCode(HttpStatus.CREATED.value());
+    }
+
+    private String hold(final Member member) {
+        return given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .body(new StockHoldRequest(List.of()))
+            .when()
+            .post("/stock-holds")
+            .then().log().all()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract()
+            .jsonPath()
+            .getString("holdId");
+    }
+
+    private int release(final Member member, final String holdId) {
+        return given()
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .when()
+            .delete("/stock-holds/{id}", holdId)
+            .then()
+            .extract()
+            .statusCode();
+    }
+
+    private ExtractableResponse<Response> requestOrder(final Member member, final String holdId) {
+        final OrderRequest orderRequest = new OrderRequest(List.of(new OrderItemRequest(productId, 1)),
+            LocalDateTime.of(2023, 4, 4, 4, 4), holdId, null);
+        return given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(member.getEmail(), member.getPassword())
+            .body(orderRequest)
+            .when()
+            .post("/orders")
+            .then().log().all()
+            .extract();
+    }
+
+    private String insertStockHold(final Member member, final LocalDateTime expiresAt) {
+        final String holdId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO stock_hold (id, member_id, expires_at) VALUES (?, ?, ?)",
+            holdId, member.getId(), expiresAt);
+        jdbcTemplate.update("INSERT INTO stock_hold_item (hold_id, product_id, shard_no, quantity) "
+            + "VALUES (?, ?, 0, 1)", holdId, productId);
+        jdbcTemplate.update("UPDATE product_stock SET quantity = quantity - 1 WHERE product_id = ?", productId);
+        return holdId;
+    }
+
+    private int getStock() {
+        return given()
+            .when()
+            .get("/products/{id}/stock", productId)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .jsonPath()
+            .getInt("quantity");
+    }
+
+    private int awaitStock(final int expected) throws InterruptedException {
+        int stock = getStock();
+        for (int attempt = 0; attempt < 50 && stock != expected; attempt++) {
+            Thread.sleep(100L);
+            stock = getStock();
+        }
+        return stock;
+    }
+
+    private int getLedger() {
+        return productStockService.getLedger(productId).getQuantity();
+    }
+
+    private int countStockHolds() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_hold", Integer.class);
+    }
+}